@@ -98,6 +98,24 @@ public final class Constants {
     public static final String CONFIGURATION_SURVIVAL_SELECTION_ACTIVE =
             "elephant56.configuration.survival_selection.active";
 
+    /**
+     * The flag that indicates if the steady-state generations are active or not.
+     */
+    public static final String CONFIGURATION_STEADY_STATE_ACTIVE =
+            "elephant56.configuration.steady_state.active";
+
+    /**
+     * The flag that indicates if the fitness evaluations are deferred to the first access to the fitness values.
+     */
+    public static final String CONFIGURATION_LAZY_FITNESS_EVALUATION_ACTIVE =
+            "elephant56.configuration.lazy_fitness_evaluation.active";
+
+    /**
+     * The flag that indicates if the input individuals are evaluated by the mappers while they are read.
+     */
+    public static final String CONFIGURATION_STREAMING_FITNESS_EVALUATION_ACTIVE =
+            "elephant56.configuration.streaming_fitness_evaluation.active";
+
     /**
      * The flag that indicates if the elitism is active or not.
      */
@@ -128,6 +146,18 @@ public final class Constants {
     public static final String CONFIGURATION_FITNESS_VALUE_CLASS =
             "elephant56.configuration.fitness_value.class";
 
+    /**
+     * The individual serialiser class configuration string.
+     */
+    public static final String CONFIGURATION_INDIVIDUAL_SERIALISER_CLASS =
+            "elephant56.configuration.individual.serialiser.class";
+
+    /**
+     * The fitness value serialiser class configuration string.
+     */
+    public static final String CONFIGURATION_FITNESS_VALUE_SERIALISER_CLASS =
+            "elephant56.configuration.fitness_value.serialiser.class";
+
     /**
      * The initialisation class configuration string.
      */
@@ -140,6 +170,54 @@ public final class Constants {
     public static final String CONFIGURATION_FITNESS_EVALUATION_CLASS =
             "elephant56.configuration.fitness_evaluation.class";
 
+    /**
+     * The number of threads used to evaluate the fitness values inside a node.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS =
+            "elephant56.configuration.fitness_evaluation.number_of_threads.int";
+
+    /**
+     * The number of threads reading, writing and decoding the population files, 1 for the sequential I/O.
+     */
+    public static final String CONFIGURATION_POPULATION_IO_NUMBER_OF_THREADS =
+            "elephant56.configuration.population_io.number_of_threads.int";
+
+    /**
+     * The maximum number of fitness values cached inside a node, 0 to disable the cache.
+     */
+    public static final String CONFIGURATION_FITNESS_CACHE_SIZE =
+            "elephant56.configuration.fitness_evaluation.cache_size.int";
+
+    /**
+     * The maximum number of individuals passed to a batch fitness evaluation, 0 to pass all of them.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE =
+            "elephant56.configuration.fitness_evaluation.batch_size.int";
+
+    /**
+     * The maximum number of asynchronous fitness evaluations in flight inside a node, 0 to use the number of threads.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT =
+            "elephant56.configuration.fitness_evaluation.maximum_in_flight.int";
+
+    /**
+     * The milliseconds a single fitness evaluation can take before being cut off, 0 for no limit.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET =
+            "elephant56.configuration.fitness_evaluation.time_budget.long";
+
+    /**
+     * The rank in the population of the fitness value the individuals race against, 0 to disable the racing.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATION_RACING_RANK =
+            "elephant56.configuration.fitness_evaluation.racing_rank.int";
+
+    /**
+     * The path of the file with the fitness value the individuals race against in the fitness evaluators.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATION_THRESHOLD_FILE_PATH =
+            "elephant56.configuration.fitness_evaluation.threshold_file.path";
+
     /**
      * The termination condition check class configuration string.
      */
@@ -197,6 +275,111 @@ public final class Constants {
     public static final String CONFIGURATION_GENERATIONS_BLOCK_NUMBER =
             "elephant56.configuration.generations_block_number.long";
 
+    /**
+     * The number of generations blocks executed by the long-lived island workers.
+     */
+    public static final String CONFIGURATION_NUMBER_OF_GENERATIONS_BLOCKS =
+            "elephant56.configuration.number_of_generations_blocks.long";
+
+    /**
+     * The number of generations between two migrations.
+     */
+    public static final String CONFIGURATION_MIGRATION_PERIOD =
+            "elephant56.configuration.migration.period.long";
+
+    /**
+     * The path of the folder where the long-lived island workers exchange the migrants.
+     */
+    public static final String CONFIGURATION_MIGRANTS_MAILBOX_FOLDER_PATH =
+            "elephant56.configuration.migrants_mailbox_folder.path";
+
+    /**
+     * The flag that indicates if the islands exchange the migrants through side files, in map-only jobs, instead of
+     * shuffling the whole population to the reducers.
+     */
+    public static final String CONFIGURATION_MIGRANTS_SIDE_FILES_ACTIVE =
+            "elephant56.configuration.migration.side_files.active";
+
+    /**
+     * The number of individuals in every input file of the fitness evaluators of the global model, used to compute the
+     * position of the individuals in the population.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATORS_INDIVIDUALS_PER_FILE =
+            "elephant56.configuration.fitness_evaluators.individuals_per_file.int";
+
+    /**
+     * The address of the pool of the master the fitness evaluators of the global model connect to, as "host:port".
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATORS_POOL_ADDRESS =
+            "elephant56.configuration.fitness_evaluators.pool.address";
+
+    /**
+     * The milliseconds the master waits for the fitness evaluators to connect to the pool.
+     */
+    public static final long FITNESS_EVALUATORS_CONNECTION_TIMEOUT =
+            600000L;
+
+    /**
+     * The milliseconds the master waits for the reply of a fitness evaluator before considering it failed, 0 to wait
+     * indefinitely.
+     */
+    public static final String CONFIGURATION_FITNESS_EVALUATORS_READ_TIMEOUT =
+            "elephant56.configuration.fitness_evaluators.read_timeout.long";
+
+    /**
+     * The default milliseconds the master waits for the reply of a fitness evaluator.
+     */
+    public static final long DEFAULT_FITNESS_EVALUATORS_READ_TIMEOUT =
+            600000L;
+
+    /**
+     * The milliseconds between two notifications of progress of a fitness evaluator to the framework.
+     */
+    public static final long FITNESS_EVALUATORS_HEARTBEAT_PERIOD =
+            10000L;
+
+    /**
+     * The number of generations blocks between two population checkpoints, 0 to disable them.
+     */
+    public static final String CONFIGURATION_CHECKPOINT_PERIOD =
+            "elephant56.configuration.checkpoint.period.long";
+
+    /**
+     * The path of the generations blocks folder, where the checkpoints are written.
+     */
+    public static final String CONFIGURATION_GENERATIONS_BLOCKS_FOLDER_PATH =
+            "elephant56.configuration.generations_blocks_folder.path";
+
+    /**
+     * The format of generations block names.
+     */
+    public static final String CONFIGURATION_GENERATIONS_BLOCK_NAME_FORMAT =
+            "elephant56.configuration.generations_block_name_format";
+
+    /**
+     * The milliseconds an island waits for the migrants of every other island before failing.
+     */
+    public static final String CONFIGURATION_MIGRANTS_MAILBOX_TIMEOUT =
+            "elephant56.configuration.migrants_mailbox.timeout.long";
+
+    /**
+     * The default milliseconds an island waits for the migrants of every other island.
+     */
+    public static final long DEFAULT_MIGRANTS_MAILBOX_TIMEOUT =
+            600000L;
+
+    /**
+     * The format of the migrants files, by generations block, source and destination islands.
+     */
+    public static final String MIGRANTS_FILE_NAME_FORMAT =
+            "migrants-b(%d)-f(" + ISLANDS_NAME_FORMAT + ")-t(" + ISLANDS_NAME_FORMAT + ")." + AVRO_FILE_EXTENSION;
+
+    /**
+     * The format of the population checkpoint files, by island.
+     */
+    public static final String CHECKPOINT_FILE_NAME_FORMAT =
+            "population-i(" + ISLANDS_NAME_FORMAT + ")." + AVRO_FILE_EXTENSION;
+
     public static final String GENETIC_OPERATORS_TIME_REPORT_FILE_NAME_FORMAT =
             "times-genetic_operators-i(" + ISLANDS_NAME_FORMAT + ").csv";
 
@@ -215,6 +398,21 @@ public final class Constants {
     public static final String MAPREDUCE_REDUCER_PARTIAL_TIME_REPORT_FILE_NAME_FORMAT =
             "times-mapreduce-i(" + ISLANDS_NAME_FORMAT + ").csv.r.part";
 
+    public static final String FITNESS_VALUES_NAME =
+            "fitness_values";
+
+    /**
+     * The format of the files of the fitness values returned by the fitness evaluators of the global model.
+     */
+    public static final String FITNESS_VALUES_FILE_NAME_FORMAT =
+            FITNESS_VALUES_NAME + "-i(" + ISLANDS_NAME_FORMAT + ")." + AVRO_FILE_EXTENSION;
+
+    /**
+     * The name of the file of the fitness value the individuals race against in the fitness evaluators.
+     */
+    public static final String FITNESS_EVALUATION_THRESHOLD_FILE_NAME =
+            "fitness_evaluation_threshold." + AVRO_FILE_EXTENSION;
+
     public static final String INDIVIDUAL_REPORT_FILE_NAME_FORMAT =
             "individuals-i(" + ISLANDS_NAME_FORMAT + ").csv";
 
@@ -281,6 +479,18 @@ public final class Constants {
     public static final String DEFAULT_ISLANDS_PROPERTIES_FILES_FOLDER_NAME =
             "islands_properties";
 
+    /**
+     * The default migrants mailbox folder name.
+     */
+    public static final String DEFAULT_MIGRANTS_MAILBOX_FOLDER_NAME =
+            "migrants_mailbox";
+
+    /**
+     * The default fitness evaluators job output folder name.
+     */
+    public static final String DEFAULT_FITNESS_EVALUATORS_FOLDER_NAME =
+            "fitness_evaluators";
+
     private Constants() {
         throw new AssertionError();
     }
@@ -1,6 +1,8 @@
 package it.unisa.elephant56.core;
 
 import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
+import it.unisa.elephant56.core.common.PopulationIterable;
 import it.unisa.elephant56.core.input.NodesInputFormat;
 import it.unisa.elephant56.core.output.NodesOutputFormat;
 import it.unisa.elephant56.user.common.FitnessValue;
@@ -148,6 +150,56 @@ public class DistributedDriver extends Driver {
         return outputPopulation;
     }
 
+    /**
+     * Returns the output population projected on the fitness values and the termination condition flags, in the
+     * same order of "getOutputPopulation" but without reading the individuals in memory.
+     *
+     * @return the individual wrappers without the individuals
+     */
+    public List<IndividualWrapper<Individual, FitnessValue>> getOutputFitnessValues() {
+        List<IndividualWrapper<Individual, FitnessValue>> outputFitnessValues;
+        try {
+            outputFitnessValues =
+                    readFitnessValuesFromFolder(this.getOutputFolderPath(), this.configuration,
+                            populationFilesPathFilter);
+        } catch (IOException exception) {
+            return new ArrayList<IndividualWrapper<Individual, FitnessValue>>(0);
+        }
+
+        return outputFitnessValues;
+    }
+
+    /**
+     * Returns the output population as an iterable that reads the population files of the last generations block
+     * one individual at a time, without holding the whole population in memory.
+     */
+    @Override
+    public PopulationIterable getOutputPopulationIterable() {
+        try {
+            return PopulationIterable.fromFolder(this.getOutputFolderPath(), this.configuration,
+                    populationFilesPathFilter);
+        } catch (IOException exception) {
+            return new PopulationIterable(null);
+        }
+    }
+
+    /**
+     * Returns the individuals of the output population that satisfy the termination condition, read from the files.
+     */
+    @Override
+    public PopulationIterable getSolutionsPopulationIterable() {
+        return this.getOutputPopulationIterable().filterByTerminationCondition(true);
+    }
+
+    /**
+     * Returns the individuals of the output population that do not satisfy the termination condition, read from the
+     * files.
+     */
+    @Override
+    public PopulationIterable getNonsolutionsPopulationIterable() {
+        return this.getOutputPopulationIterable().filterByTerminationCondition(false);
+    }
+
     // TODO Implementare getSolutionsPopulation().
     @Override
     public List<IndividualWrapper<Individual, FitnessValue>> getSolutionsPopulation() {
@@ -264,6 +316,9 @@ public class DistributedDriver extends Driver {
         AvroJob.setMapOutputKeySchema(job, individualWrapperSchema);
         job.setMapOutputValueClass(IntWritable.class);
 
+        // Shuffles the individuals with the serialisers, if set, handing a new datum to the reducers for every key.
+        IndividualWrapperSerialization.register(job.getConfiguration());
+
         // Configures the partitioner.
         job.setPartitionerClass(partitionerClass);
 
@@ -290,6 +345,25 @@ public class DistributedDriver extends Driver {
         NodesOutputFormat.setOutputPath(job, this.getGenerationsBlockFolderPath(currentGenerationsBlockNumber,
                 this.generationsBlockNameFormat));
 
+        // Configures the number of fitness evaluation threads for every node.
+        job.getConfiguration().setInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS,
+                this.fitnessEvaluationNumberOfThreads);
+        job.getConfiguration().setInt(Constants.CONFIGURATION_FITNESS_CACHE_SIZE, this.fitnessCacheSize);
+        job.getConfiguration().setInt(Constants.CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE,
+                this.fitnessEvaluationBatchSize);
+        job.getConfiguration().setInt(Constants.CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT,
+                this.maximumNumberOfFitnessEvaluationsInFlight);
+        job.getConfiguration().setLong(Constants.CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET,
+                this.fitnessEvaluationTimeBudget);
+        job.getConfiguration().setInt(Constants.CONFIGURATION_FITNESS_EVALUATION_RACING_RANK,
+                this.fitnessEvaluationRacingRank);
+        job.getConfiguration().setBoolean(Constants.CONFIGURATION_STREAMING_FITNESS_EVALUATION_ACTIVE,
+                this.isStreamingFitnessEvaluationActive);
+
+        // Configures the number of population I/O threads for every node.
+        job.getConfiguration().setInt(Constants.CONFIGURATION_POPULATION_IO_NUMBER_OF_THREADS,
+                this.populationIONumberOfThreads);
+
         // Configures the reporter folder.
         job.getConfiguration().set(Constants.CONFIGURATION_REPORTS_FOLDER_PATH,
                 currentGenerationsBlockReportsFolderPath.toString());
@@ -1,9 +1,13 @@
 package it.unisa.elephant56.core;
 
 import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
+import it.unisa.elephant56.core.common.ParallelPopulationReader;
+import it.unisa.elephant56.core.common.PopulationIterable;
 import it.unisa.elephant56.core.common.Properties;
 import it.unisa.elephant56.user.common.FitnessValue;
 import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.common.Serialiser;
 import it.unisa.elephant56.user.operators.*;
 import it.unisa.elephant56.user.operators.Initialisation;
 import it.unisa.elephant56.user.operators.TerminationConditionCheck;
@@ -13,9 +17,6 @@ import org.apache.avro.file.*;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
 import org.apache.avro.mapred.FsInput;
-import org.apache.avro.reflect.ReflectData;
-import org.apache.avro.reflect.ReflectDatumReader;
-import org.apache.avro.reflect.ReflectDatumWriter;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
@@ -26,6 +27,9 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Initialises and runs a complete Genetic Algorithm execution.
@@ -48,6 +52,14 @@ public abstract class Driver {
     protected boolean isInitialisationActive;
 
     protected Class<? extends FitnessEvaluation> fitnessEvaluationClass;
+    protected int fitnessEvaluationNumberOfThreads;
+    protected int populationIONumberOfThreads;
+    protected int fitnessCacheSize;
+    protected int fitnessEvaluationBatchSize;
+    protected int maximumNumberOfFitnessEvaluationsInFlight;
+    protected long fitnessEvaluationTimeBudget;
+    protected int fitnessEvaluationRacingRank;
+
     protected Class<? extends ParentsSelection> parentsSelectionClass;
 
     protected Class<? extends Elitism> elitismClass;
@@ -59,6 +71,12 @@ public abstract class Driver {
     protected Class<? extends SurvivalSelection> survivalSelectionClass;
     protected boolean isSurvivalSelectionActive;
 
+    protected boolean isSteadyStateActive;
+
+    protected boolean isLazyFitnessEvaluationActive;
+
+    protected boolean isStreamingFitnessEvaluationActive;
+
     protected Class<? extends TerminationConditionCheck> terminationConditionCheckClass;
     protected long maximumNumberOfGenerations;
 
@@ -80,6 +98,14 @@ public abstract class Driver {
         this.configuration = new Configuration();
 
         this.fitnessEvaluationClass = FitnessEvaluation.class;
+        this.fitnessEvaluationNumberOfThreads = 1;
+        this.populationIONumberOfThreads = 1;
+        this.fitnessCacheSize = 0;
+        this.fitnessEvaluationBatchSize = 0;
+        this.maximumNumberOfFitnessEvaluationsInFlight = 0;
+        this.fitnessEvaluationTimeBudget = 0L;
+        this.fitnessEvaluationRacingRank = 0;
+
         this.terminationConditionCheckClass = TerminationConditionCheck.class;
 
         this.elitismClass = Elitism.class;
@@ -92,6 +118,12 @@ public abstract class Driver {
         this.survivalSelectionClass = SurvivalSelection.class;
         this.isSurvivalSelectionActive = false;
 
+        this.isSteadyStateActive = false;
+
+        this.isLazyFitnessEvaluationActive = false;
+
+        this.isStreamingFitnessEvaluationActive = false;
+
         this.userProperties = new Properties();
 
         this.workingFolderPath = null;
@@ -159,6 +191,25 @@ public abstract class Driver {
 
     }
 
+    /**
+     * Sets the serialisers of the individuals and of the fitness values, used in place of the Avro reflection to read
+     * and write the population files and the shuffle. Both of them must be set to be used.
+     *
+     * @param individualSerialiserClass   the individual serialiser class
+     * @param fitnessValueSerialiserClass the fitness value serialiser class
+     */
+    public void setSerialiserClasses(Class<? extends Serialiser> individualSerialiserClass,
+                                     Class<? extends Serialiser> fitnessValueSerialiserClass) {
+        if ((individualSerialiserClass == null) || (fitnessValueSerialiserClass == null))
+            return;
+
+        // Registers the serialisers in the configuration, used by all the readers and writers.
+        this.configuration.setClass(Constants.CONFIGURATION_INDIVIDUAL_SERIALISER_CLASS, individualSerialiserClass,
+                Serialiser.class);
+        this.configuration.setClass(Constants.CONFIGURATION_FITNESS_VALUE_SERIALISER_CLASS,
+                fitnessValueSerialiserClass, Serialiser.class);
+    }
+
     /**
      * Sets the initialisation class.
      *
@@ -200,6 +251,96 @@ public abstract class Driver {
         this.fitnessEvaluationClass = fitnessEvaluationClass;
     }
 
+    /**
+     * Sets the number of threads used to evaluate the fitness values inside every node. With more than one thread
+     * the fitness evaluation class must be thread-safe.
+     *
+     * @param numberOfThreads the number of threads, 1 for the sequential evaluation
+     */
+    public void setFitnessEvaluationNumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads < 1)
+            numberOfThreads = 1;
+        this.fitnessEvaluationNumberOfThreads = numberOfThreads;
+    }
+
+    /**
+     * Sets the number of threads reading and writing the population files concurrently and decoding their Avro data
+     * blocks, both in the client and in the nodes. The individuals are read in the order of the files.
+     *
+     * @param numberOfThreads the number of threads, 1 for the sequential I/O
+     */
+    public void setPopulationIONumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads < 1)
+            numberOfThreads = 1;
+        this.populationIONumberOfThreads = numberOfThreads;
+
+        // Configures the static readers and writers of the population files.
+        this.configuration.setInt(Constants.CONFIGURATION_POPULATION_IO_NUMBER_OF_THREADS, numberOfThreads);
+    }
+
+    /**
+     * Sets the maximum number of fitness values cached inside every node, to skip the evaluation of the individuals
+     * equal to an already evaluated one. The individual class must override "equals" and "hashCode" by genotype.
+     *
+     * @param size the maximum number of cached fitness values, 0 to disable the cache
+     */
+    public void setFitnessCacheSize(int size) {
+        if (size < 0)
+            size = 0;
+        this.fitnessCacheSize = size;
+    }
+
+    /**
+     * Sets the maximum number of individuals passed at once to the fitness evaluation class, if it overrides
+     * "evaluateBatch". The batches are evaluated concurrently on the fitness evaluation threads.
+     *
+     * @param size the maximum number of individuals of a batch, 0 to pass all the individuals to evaluate
+     */
+    public void setFitnessEvaluationBatchSize(int size) {
+        if (size < 0)
+            size = 0;
+        this.fitnessEvaluationBatchSize = size;
+    }
+
+    /**
+     * Sets the maximum number of evaluations in flight inside every node, if the fitness evaluation class overrides
+     * "evaluateAsync". Every evaluation in flight is waited by a thread, virtual if supported by the JVM.
+     *
+     * @param number the maximum number of evaluations, 0 to use the number of fitness evaluation threads
+     */
+    public void setMaximumNumberOfFitnessEvaluationsInFlight(int number) {
+        if (number < 0)
+            number = 0;
+        this.maximumNumberOfFitnessEvaluationsInFlight = number;
+    }
+
+    /**
+     * Sets the time budget of every single fitness evaluation. An evaluation that exceeds it is cancelled and the
+     * individual gets the value of "getTimeBudgetExceededFitnessValue" of the fitness evaluation class, which must be
+     * overridden. The evaluations of a batch are not cut off.
+     *
+     * @param timeBudget the milliseconds, 0 for no limit
+     */
+    public void setFitnessEvaluationTimeBudget(long timeBudget) {
+        if (timeBudget < 0L)
+            timeBudget = 0L;
+        this.fitnessEvaluationTimeBudget = timeBudget;
+    }
+
+    /**
+     * Sets the rank of the fitness value, among the current population, that the individuals race against if the
+     * fitness evaluation class overrides the incremental "evaluate", such as the number of elitists or survivors. An
+     * individual that cannot reach it stops its evaluation early, so the racing is sound only if such an individual
+     * is discarded anyway.
+     *
+     * @param rank the rank, starting from 1 for the best individual, 0 to disable the racing
+     */
+    public void setFitnessEvaluationRacingRank(int rank) {
+        if (rank < 0)
+            rank = 0;
+        this.fitnessEvaluationRacingRank = rank;
+    }
+
     /**
      * Sets the elitism class to execute during the job.
      *
@@ -212,11 +353,14 @@ public abstract class Driver {
     }
 
     /**
-     * Activates the elitism.
+     * Activates the elitism. It cannot be activated together with the steady-state generations.
      *
      * @param active "true" to activate, "false" otherwise
+     * @throws IllegalStateException if the steady-state generations are active
      */
     public void activateElitism(boolean active) {
+        if (active && this.isSteadyStateActive)
+            throw new IllegalStateException("The elitism cannot be used with the steady-state generations.");
         this.isElitismActive = active;
     }
 
@@ -273,6 +417,45 @@ public abstract class Driver {
         this.isSurvivalSelectionActive = active;
     }
 
+    /**
+     * Activates the steady-state generations, in which the offspring are evaluated continuously and inserted by the
+     * survival selection as soon as evaluated, instead of waiting for the whole generation. It is used by the
+     * sequential and the island models, and it cannot be activated together with the elitism.
+     *
+     * @param active "true" to activate, "false" otherwise
+     * @throws IllegalStateException if the elitism is active
+     */
+    public void activateSteadyState(boolean active) {
+        if (active && this.isElitismActive)
+            throw new IllegalStateException("The steady-state generations cannot be used with the elitism.");
+        this.isSteadyStateActive = active;
+    }
+
+    /**
+     * Activates the lazy fitness evaluation, in which an individual is evaluated at the first access to its fitness
+     * value, such as by the parents selection, so that the individuals never inspected are not evaluated. The
+     * individuals left are evaluated together at the end of the generations block. It is ignored with the elitism,
+     * the steady-state generations, the individual reporter or an individuals or island termination condition check.
+     * It is used by the sequential and the island models.
+     *
+     * @param active "true" to activate, "false" otherwise
+     */
+    public void activateLazyFitnessEvaluation(boolean active) {
+        this.isLazyFitnessEvaluationActive = active;
+    }
+
+    /**
+     * Activates the streaming fitness evaluation, in which the mappers submit every input individual without a
+     * fitness value to the fitness evaluation threads as soon as it is read, so that reading and decoding the input
+     * overlap with the evaluation, and start the generations when the last evaluation completes. It is used by the
+     * island and the global distributed models, and ignored with the lazy fitness evaluation.
+     *
+     * @param active "true" to activate, "false" otherwise
+     */
+    public void activateStreamingFitnessEvaluation(boolean active) {
+        this.isStreamingFitnessEvaluationActive = active;
+    }
+
     /**
      * Sets the termination condition check class.
      *
@@ -338,6 +521,51 @@ public abstract class Driver {
 
     public abstract List<IndividualWrapper<Individual, FitnessValue>> getNonsolutionsPopulation();
 
+    /**
+     * Returns the output population as an iterable, that must be closed after use. It iterates over the population
+     * in memory, unless overridden to read the files without holding the whole population.
+     *
+     * @return the iterable
+     */
+    public PopulationIterable getOutputPopulationIterable() {
+        return new PopulationIterable(this.getOutputPopulation());
+    }
+
+    /**
+     * Returns the solutions population as an iterable, that must be closed after use.
+     *
+     * @return the iterable
+     */
+    public PopulationIterable getSolutionsPopulationIterable() {
+        return new PopulationIterable(this.getSolutionsPopulation());
+    }
+
+    /**
+     * Returns the nonsolutions population as an iterable, that must be closed after use.
+     *
+     * @return the iterable
+     */
+    public PopulationIterable getNonsolutionsPopulationIterable() {
+        return new PopulationIterable(this.getNonsolutionsPopulation());
+    }
+
+    /**
+     * Returns the best individuals of the output population, iterating over it once.
+     *
+     * @param numberOfIndividuals the number of individuals
+     * @return the best individuals, from the best one
+     * @throws IOException
+     */
+    public List<IndividualWrapper<Individual, FitnessValue>> getBestOutputIndividuals(int numberOfIndividuals)
+            throws IOException {
+        PopulationIterable outputPopulation = this.getOutputPopulationIterable();
+        try {
+            return outputPopulation.getBestIndividuals(numberOfIndividuals);
+        } finally {
+            outputPopulation.close();
+        }
+    }
+
     public abstract long getLastExecutedGenerationNumber();
 
     public abstract void run() throws Exception;
@@ -352,14 +580,24 @@ public abstract class Driver {
         this.createFolder(this.getReportsFolderPath(), true);
     }
 
+    /**
+     * Reads the individuals of a file on the calling thread, such as the migrants or a checkpoint of an island. The
+     * blocks are decoded concurrently only when reading the files of a folder, whose pools are shared by all the
+     * files, so that a single small file does not pay for the creation of a pool.
+     *
+     * @param filePath      the path of the file
+     * @param configuration the configuration
+     * @return the individuals, in the order of the file
+     * @throws IOException
+     */
     public static List<IndividualWrapper<Individual, FitnessValue>> readIndividualsFromFile(
             Path filePath, Configuration configuration) throws IOException {
         List<IndividualWrapper<Individual, FitnessValue>> result =
                 new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
 
         SeekableInput seekableFileInput = new FsInput(filePath, configuration);
-        ReflectData reflectData = new ReflectData(configuration.getClassLoader());
-        DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader = new ReflectDatumReader<IndividualWrapper<Individual, FitnessValue>>(reflectData);
+        DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader =
+                IndividualWrapperSerialization.createDatumReader(configuration);
         DataFileReader<IndividualWrapper<Individual, FitnessValue>> avroFileReader =
                 new DataFileReader<IndividualWrapper<Individual, FitnessValue>>(seekableFileInput, datumReader);
 
@@ -376,10 +614,112 @@ public abstract class Driver {
         List<IndividualWrapper<Individual, FitnessValue>> result =
                 new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
 
+        FileSystem fileSystem = FileSystem.get(configuration);
+        FileStatus[] files = fileSystem.listStatus(folderPath, pathFilter);
+
+        int numberOfThreads = configuration.getInt(Constants.CONFIGURATION_POPULATION_IO_NUMBER_OF_THREADS, 1);
+
+        if ((numberOfThreads <= 1) || (files.length == 0)) {
+            for (FileStatus file : files) {
+                result.addAll(readIndividualsFromFile(file.getPath(), configuration));
+            }
+
+            return result;
+        }
+
+        // Reads the files concurrently, decoding their blocks on a pool shared by all the files.
+        ExecutorService readingThreadPool = ParallelPopulationReader.createThreadPool(
+                Math.min(numberOfThreads, files.length), "population-reading");
+        final ExecutorService decodingThreadPool =
+                ParallelPopulationReader.createThreadPool(numberOfThreads, "population-decoding");
+        final Configuration readingConfiguration = configuration;
+        final int maximumNumberOfPendingBlocks = numberOfThreads;
+
+        try {
+            List<Future<List<IndividualWrapper<Individual, FitnessValue>>>> fileTasks =
+                    new ArrayList<Future<List<IndividualWrapper<Individual, FitnessValue>>>>(files.length);
+            for (FileStatus file : files) {
+                final Path filePath = file.getPath();
+                fileTasks.add(readingThreadPool.submit(
+                        new Callable<List<IndividualWrapper<Individual, FitnessValue>>>() {
+                            @Override
+                            public List<IndividualWrapper<Individual, FitnessValue>> call() throws IOException {
+                                return readIndividualsFromFile(filePath, readingConfiguration, decodingThreadPool,
+                                        maximumNumberOfPendingBlocks);
+                            }
+                        }));
+            }
+
+            // Collects the individuals in the order of the files.
+            for (Future<List<IndividualWrapper<Individual, FitnessValue>>> fileTask : fileTasks)
+                result.addAll(ParallelPopulationReader.waitFor(fileTask));
+        } finally {
+            readingThreadPool.shutdownNow();
+            decodingThreadPool.shutdownNow();
+        }
+
+        return result;
+    }
+
+    private static List<IndividualWrapper<Individual, FitnessValue>> readIndividualsFromFile(
+            Path filePath, Configuration configuration, ExecutorService decodingThreadPool,
+            int maximumNumberOfPendingBlocks) throws IOException {
+        ParallelPopulationReader populationReader = new ParallelPopulationReader(filePath, configuration,
+                decodingThreadPool, maximumNumberOfPendingBlocks);
+        try {
+            return populationReader.readAll();
+        } finally {
+            populationReader.close();
+        }
+    }
+
+    /**
+     * Reads the individuals of a file projected on the fitness value and the termination condition flag, without
+     * materialising the individuals, such as for the statistics of a population or to find its best individuals.
+     *
+     * @param filePath      the path of the file
+     * @param configuration the configuration
+     * @return the individual wrappers without the individuals, in the order of the file
+     * @throws IOException
+     */
+    public static List<IndividualWrapper<Individual, FitnessValue>> readFitnessValuesFromFile(
+            Path filePath, Configuration configuration) throws IOException {
+        List<IndividualWrapper<Individual, FitnessValue>> result =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+
+        SeekableInput seekableFileInput = new FsInput(filePath, configuration);
+        DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader =
+                IndividualWrapperSerialization.createFitnessValueDatumReader(configuration);
+        DataFileReader<IndividualWrapper<Individual, FitnessValue>> avroFileReader =
+                new DataFileReader<IndividualWrapper<Individual, FitnessValue>>(seekableFileInput, datumReader);
+
+        for (IndividualWrapper<Individual, FitnessValue> individualWrapper : avroFileReader)
+            result.add(individualWrapper);
+
+        avroFileReader.close();
+        return result;
+    }
+
+    /**
+     * Reads the individuals of the files of a folder projected on the fitness value and the termination condition
+     * flag, without materialising the individuals.
+     *
+     * @param folderPath    the path of the folder
+     * @param configuration the configuration
+     * @param pathFilter    the filter of the files
+     * @return the individual wrappers without the individuals, in the order of the files
+     * @throws IOException
+     */
+    public static List<IndividualWrapper<Individual, FitnessValue>>
+    readFitnessValuesFromFolder(Path folderPath, Configuration configuration, PathFilter pathFilter)
+            throws IOException {
+        List<IndividualWrapper<Individual, FitnessValue>> result =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+
         FileSystem fileSystem = FileSystem.get(configuration);
         FileStatus[] files = fileSystem.listStatus(folderPath, pathFilter);
         for (FileStatus file : files) {
-            result.addAll(readIndividualsFromFile(file.getPath(), configuration));
+            result.addAll(readFitnessValuesFromFile(file.getPath(), configuration));
         }
 
         return result;
@@ -394,8 +734,8 @@ public abstract class Driver {
         FileSystem fileSystem = FileSystem.get(configuration);
 
         OutputStream fileOutput = fileSystem.create(filePath, true);
-        ReflectData reflectData = new ReflectData(configuration.getClassLoader());
-        DatumWriter<IndividualWrapper<Individual, FitnessValue>> datumWriter = new ReflectDatumWriter<>(individualWrapperSchema, reflectData);
+        DatumWriter<IndividualWrapper<Individual, FitnessValue>> datumWriter =
+                IndividualWrapperSerialization.createDatumWriter(configuration, individualWrapperSchema);
         DataFileWriter<IndividualWrapper<Individual, FitnessValue>> avroFileWriter =
                 new DataFileWriter<>(datumWriter);
 
@@ -414,6 +754,18 @@ public abstract class Driver {
         avroFileWriter.close();
     }
 
+    /**
+     * Writes the individuals split into a number of files, concurrently if the population I/O uses more than one
+     * thread.
+     *
+     * @param folderPath              the path of the folder
+     * @param configuration           the configuration
+     * @param individuals             the individuals
+     * @param individualWrapperSchema the schema of the individual wrappers
+     * @param fileNameFormat          the format of the file names, given the file number
+     * @param totalNumberOfFiles      the number of files
+     * @throws IOException
+     */
     public static void
     writeIndividualsToFolder(Path folderPath, Configuration configuration,
                              List<IndividualWrapper<Individual, FitnessValue>> individuals,
@@ -423,18 +775,73 @@ public abstract class Driver {
 
         int numberOfIndividualsPerFile = (int) Math.ceil((double) individuals.size() / (double) totalNumberOfFiles);
 
-        int currentStartIndividualIndex = 0;
-        for (int currentFileNumber = 0; currentFileNumber < totalNumberOfFiles; currentFileNumber++) {
-            Path currentFilePath = new Path(folderPath,
-                    String.format(fileNameFormat, currentFileNumber));
-
-            int currentNumberOfIndividualsToWrite = numberOfIndividualsPerFile;
-            if (((currentFileNumber + 1) * numberOfIndividualsPerFile) > individuals.size())
-                currentNumberOfIndividualsToWrite = individuals.size() - (currentFileNumber * numberOfIndividualsPerFile);
+        int numberOfThreads = Math.min(
+                configuration.getInt(Constants.CONFIGURATION_POPULATION_IO_NUMBER_OF_THREADS, 1), totalNumberOfFiles);
+        ExecutorService writingThreadPool = (numberOfThreads > 1)
+                ? ParallelPopulationReader.createThreadPool(numberOfThreads, "population-writing") : null;
+
+        try {
+            List<Future<?>> fileTasks = new ArrayList<Future<?>>(totalNumberOfFiles);
+
+            int currentStartIndividualIndex = 0;
+            for (int currentFileNumber = 0; currentFileNumber < totalNumberOfFiles; currentFileNumber++) {
+                Path currentFilePath = new Path(folderPath,
+                        String.format(fileNameFormat, currentFileNumber));
+
+                int currentNumberOfIndividualsToWrite = numberOfIndividualsPerFile;
+                if (((currentFileNumber + 1) * numberOfIndividualsPerFile) > individuals.size())
+                    currentNumberOfIndividualsToWrite =
+                            individuals.size() - (currentFileNumber * numberOfIndividualsPerFile);
+
+                if (writingThreadPool == null)
+                    writeIndividualsToFile(currentFilePath, configuration, individuals, currentStartIndividualIndex,
+                            currentNumberOfIndividualsToWrite, individualWrapperSchema);
+                else
+                    fileTasks.add(writingThreadPool.submit(new FileWritingTask(currentFilePath, configuration,
+                            individuals, currentStartIndividualIndex, currentNumberOfIndividualsToWrite,
+                            individualWrapperSchema)));
+
+                currentStartIndividualIndex += numberOfIndividualsPerFile;
+            }
+
+            // Waits for all the files to be written.
+            for (Future<?> fileTask : fileTasks)
+                ParallelPopulationReader.waitFor(fileTask);
+        } finally {
+            if (writingThreadPool != null)
+                writingThreadPool.shutdownNow();
+        }
+    }
 
-            writeIndividualsToFile(currentFilePath, configuration, individuals, currentStartIndividualIndex, currentNumberOfIndividualsToWrite, individualWrapperSchema);
+    /**
+     * Writes a part of the individuals to a file on a thread of the population I/O.
+     */
+    private static class FileWritingTask implements Callable<Void> {
+
+        private Path filePath;
+        private Configuration configuration;
+        private List<IndividualWrapper<Individual, FitnessValue>> individuals;
+        private int startIndividualIndex;
+        private int numberOfIndividualsToWrite;
+        private Schema individualWrapperSchema;
+
+        public FileWritingTask(Path filePath, Configuration configuration,
+                               List<IndividualWrapper<Individual, FitnessValue>> individuals,
+                               int startIndividualIndex, int numberOfIndividualsToWrite,
+                               Schema individualWrapperSchema) {
+            this.filePath = filePath;
+            this.configuration = configuration;
+            this.individuals = individuals;
+            this.startIndividualIndex = startIndividualIndex;
+            this.numberOfIndividualsToWrite = numberOfIndividualsToWrite;
+            this.individualWrapperSchema = individualWrapperSchema;
+        }
 
-            currentStartIndividualIndex += numberOfIndividualsPerFile;
+        @Override
+        public Void call() throws IOException {
+            writeIndividualsToFile(this.filePath, this.configuration, this.individuals, this.startIndividualIndex,
+                    this.numberOfIndividualsToWrite, this.individualWrapperSchema);
+            return null;
         }
     }
 
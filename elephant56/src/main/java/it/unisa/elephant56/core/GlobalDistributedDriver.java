@@ -1,6 +1,9 @@
 package it.unisa.elephant56.core;
 
+import it.unisa.elephant56.core.common.IndexedFitnessValue;
 import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
+import it.unisa.elephant56.core.common.PopulationIterable;
 import it.unisa.elephant56.core.generator.*;
 import it.unisa.elephant56.core.input.NodesInputFormat;
 import it.unisa.elephant56.core.output.NodesOutputFormat;
@@ -11,8 +14,10 @@ import it.unisa.elephant56.core.reporter.time.MapReduceTimeReporter;
 import it.unisa.elephant56.user.common.FitnessValue;
 import it.unisa.elephant56.user.common.Individual;
 import it.unisa.elephant56.user.operators.*;
+import it.unisa.elephant56.util.hadoop.FilesPathFilter;
 import org.apache.avro.Schema;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapreduce.Job;
 import org.apache.hadoop.mapreduce.Partitioner;
@@ -20,6 +25,7 @@ import org.apache.hadoop.mapreduce.Reducer;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class GlobalDistributedDriver extends DistributedDriver {
@@ -29,6 +35,24 @@ public class GlobalDistributedDriver extends DistributedDriver {
         OFFSPRING
     }
 
+    public static enum FitnessEvaluatorsMode {
+        /**
+         * Submits a job for every fitness evaluation.
+         */
+        JOB_PER_EVALUATION,
+        /**
+         * Keeps the fitness evaluators alive in the mappers of a single job for the whole run.
+         */
+        PERSISTENT_JOB,
+        /**
+         * Keeps the fitness evaluators alive in local processes for the whole run, a stand-in to test the pool.
+         */
+        LOCAL_PROCESSES
+    }
+
+    private static final FilesPathFilter fitnessValuesFilesPathFilter =
+            new FilesPathFilter(Constants.FITNESS_VALUES_NAME, Constants.AVRO_FILE_EXTENSION);
+
     // Driver objects.
     private int numberOfNodes;
 
@@ -41,6 +65,13 @@ public class GlobalDistributedDriver extends DistributedDriver {
 
     GlobalGenerationsBlockExecutor generationsBlockExecutor;
 
+    private FitnessEvaluatorsMode fitnessEvaluatorsMode;
+    private FitnessEvaluatorPool fitnessEvaluatorPool;
+    private Job fitnessEvaluatorsJob;
+
+    private boolean isEvaluationRoundsMergingActive;
+    private int localEvaluationThreshold;
+
     /**
      * Constructs a new driver.
      *
@@ -77,6 +108,70 @@ public class GlobalDistributedDriver extends DistributedDriver {
         this.numberOfNodes = numberOfNodes;
 
         this.inputPopulation = new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+
+        this.fitnessEvaluatorsMode = FitnessEvaluatorsMode.JOB_PER_EVALUATION;
+
+        this.isEvaluationRoundsMergingActive = false;
+        this.localEvaluationThreshold = 0;
+    }
+
+    /**
+     * Activates the merging of the pending evaluations of equal individuals, so that every individual is sent once for
+     * evaluation round. The individual class must override {@link Object#equals(Object)} and
+     * {@link Object#hashCode()} by genotype, otherwise only the same instances are merged.
+     *
+     * @param active "true" to activate, "false" otherwise
+     */
+    public void activateEvaluationRoundsMerging(boolean active) {
+        this.isEvaluationRoundsMergingActive = active;
+    }
+
+    /**
+     * Checks if the pending evaluations of equal individuals are merged.
+     *
+     * @return "true" if active, "false" otherwise
+     */
+    public boolean isEvaluationRoundsMergingActive() {
+        return this.isEvaluationRoundsMergingActive;
+    }
+
+    /**
+     * Sets the number of pending individuals under which an evaluation round is executed by the master, without
+     * distributing it to the fitness evaluators.
+     *
+     * @param threshold the number of individuals, 0 to always distribute
+     */
+    public void setLocalEvaluationThreshold(int threshold) {
+        this.localEvaluationThreshold = threshold;
+    }
+
+    /**
+     * Returns the number of pending individuals under which an evaluation round is executed by the master.
+     *
+     * @return the number of individuals
+     */
+    public int getLocalEvaluationThreshold() {
+        return this.localEvaluationThreshold;
+    }
+
+    /**
+     * Sets how the fitness evaluators are executed. With a pool, the fitness evaluators stay alive for the whole run
+     * and the individuals are streamed to them through sockets, instead of writing them to the file system and
+     * submitting a job for every fitness evaluation.
+     *
+     * @param mode the mode of the fitness evaluators
+     */
+    public void setFitnessEvaluatorsMode(FitnessEvaluatorsMode mode) {
+        this.fitnessEvaluatorsMode = mode;
+    }
+
+    /**
+     * Checks if the fitness evaluators are kept alive in a pool.
+     *
+     * @return "true" if active, "false" otherwise
+     */
+    public boolean isFitnessEvaluatorPoolActive() {
+        return this.fitnessEvaluatorPool != null;
     }
 
     public void setInputPopulation(List<IndividualWrapper<Individual, FitnessValue>> inputPopulation) {
@@ -90,7 +185,8 @@ public class GlobalDistributedDriver extends DistributedDriver {
         this.createFolder(this.getGenerationsBlocksFolderPath(), true);
 
         // Retrieves the schema.
-        this.individualWrapperSchema = IndividualWrapper.getSchema(this.individualClass, this.fitnessValueClass);
+        this.individualWrapperSchema = IndividualWrapperSerialization.getSchema(this.configuration, this.individualClass,
+                this.fitnessValueClass);
 
         // Creates and configures the only generation block executor.
         this.generationsBlockExecutor = new GlobalGenerationsBlockExecutor(this);
@@ -109,6 +205,13 @@ public class GlobalDistributedDriver extends DistributedDriver {
 
         generationsBlockExecutor.setInitiliasationClass(this.initialisationClass);
         generationsBlockExecutor.setFitnessEvaluationClass(this.fitnessEvaluationClass);
+        generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(this.fitnessEvaluationNumberOfThreads);
+        generationsBlockExecutor.setFitnessCacheSize(this.fitnessCacheSize);
+        generationsBlockExecutor.setFitnessEvaluationBatchSize(this.fitnessEvaluationBatchSize);
+        generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.maximumNumberOfFitnessEvaluationsInFlight);
+        generationsBlockExecutor.setFitnessEvaluationTimeBudget(this.fitnessEvaluationTimeBudget);
+        generationsBlockExecutor.setFitnessEvaluationRacingRank(this.fitnessEvaluationRacingRank);
         generationsBlockExecutor.setTerminationConditionCheckClass(this.terminationConditionCheckClass);
 
         generationsBlockExecutor.setElitismClass(this.elitismClass);
@@ -169,8 +272,17 @@ public class GlobalDistributedDriver extends DistributedDriver {
             generationsBlockExecutor.activateIndividualReporter(true);
         }
 
+        // Starts the fitness evaluators, if kept alive for the whole run.
+        if (this.fitnessEvaluatorsMode != FitnessEvaluatorsMode.JOB_PER_EVALUATION)
+            this.startFitnessEvaluatorPool();
+
         // Runs the generations block executor.
-        generationsBlockExecutor.run();
+        try {
+            generationsBlockExecutor.run();
+        } finally {
+            if (this.fitnessEvaluatorPool != null)
+                this.stopFitnessEvaluatorPool();
+        }
 
         this.lastExecutedGenerationNumber = getLastExecutedGenerationNumber();
 
@@ -224,6 +336,99 @@ public class GlobalDistributedDriver extends DistributedDriver {
         return job;
     }
 
+    /**
+     * Starts the pool and the fitness evaluators, waiting for all of them to connect.
+     *
+     * @throws Exception
+     */
+    private void startFitnessEvaluatorPool() throws Exception {
+        // Copies the user properties into configuration.
+        Configuration configurationWithUserProperties = new Configuration(this.configuration);
+        this.userProperties.copyIntoConfiguration(configurationWithUserProperties);
+
+        // Configures the fitness evaluation.
+        configurationWithUserProperties.setClass(Constants.CONFIGURATION_FITNESS_VALUE_CLASS, this.fitnessValueClass,
+                FitnessValue.class);
+        configurationWithUserProperties.setClass(Constants.CONFIGURATION_FITNESS_EVALUATION_CLASS,
+                this.fitnessEvaluationClass, FitnessEvaluation.class);
+        configurationWithUserProperties.setInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS,
+                this.fitnessEvaluationNumberOfThreads);
+        configurationWithUserProperties.setInt(Constants.CONFIGURATION_FITNESS_CACHE_SIZE, this.fitnessCacheSize);
+        configurationWithUserProperties.setInt(Constants.CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE,
+                this.fitnessEvaluationBatchSize);
+        configurationWithUserProperties.setInt(Constants.CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT,
+                this.maximumNumberOfFitnessEvaluationsInFlight);
+        configurationWithUserProperties.setLong(Constants.CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET,
+                this.fitnessEvaluationTimeBudget);
+
+        this.fitnessEvaluatorPool = new FitnessEvaluatorPool(configurationWithUserProperties,
+                this.individualWrapperSchema);
+
+        if (this.fitnessEvaluatorsMode == FitnessEvaluatorsMode.LOCAL_PROCESSES) {
+            // Launches the local processes.
+            this.fitnessEvaluatorPool.launchLocalFitnessEvaluators(this.numberOfNodes, this.applicationMainClass,
+                    this.fitnessEvaluationClass, this.individualClass, this.fitnessValueClass);
+        } else {
+            // Creates a job whose mappers connect to the pool, on empty splits.
+            long lastGenerationNumber = this.maximumNumberOfGenerations - 1L;
+            this.generationsBlockNameFormat = getGenerationsBlockNameFormat(lastGenerationNumber);
+
+            Path fitnessEvaluatorsReportsFolderPath = new Path(this.getReportsFolderPath(),
+                    Constants.DEFAULT_FITNESS_EVALUATORS_FOLDER_NAME);
+            this.createFolder(fitnessEvaluatorsReportsFolderPath, true);
+
+            this.fitnessEvaluatorsJob = super.createJob(configurationWithUserProperties, this.numberOfNodes, 0L, 0L,
+                    -1L, 0L, getGenerationNameFormat(lastGenerationNumber), fitnessEvaluatorsReportsFolderPath,
+                    this.individualWrapperSchema, GlobalEvaluatorMapper.class, Partitioner.class, Reducer.class);
+
+            NodesInputFormat.activateInitialisation(this.fitnessEvaluatorsJob, true);
+            NodesInputFormat.setInitialisationPopulationSizePerSplit(this.fitnessEvaluatorsJob, 0);
+
+            NodesOutputFormat.setOutputPath(this.fitnessEvaluatorsJob, new Path(this.getGenerationsBlocksFolderPath(),
+                    Constants.DEFAULT_FITNESS_EVALUATORS_FOLDER_NAME));
+
+            this.fitnessEvaluatorsJob.getConfiguration().set(Constants.CONFIGURATION_FITNESS_EVALUATORS_POOL_ADDRESS,
+                    this.fitnessEvaluatorPool.getAddress());
+
+            // Disables the reducer.
+            this.fitnessEvaluatorsJob.setNumReduceTasks(0);
+
+            // Launches the job without waiting for it.
+            this.fitnessEvaluatorsJob.submit();
+        }
+
+        // Waits for the fitness evaluators.
+        this.fitnessEvaluatorPool.waitForFitnessEvaluators(this.numberOfNodes,
+                Constants.FITNESS_EVALUATORS_CONNECTION_TIMEOUT);
+    }
+
+    /**
+     * Stops the fitness evaluators and closes the pool.
+     *
+     * @throws Exception
+     */
+    private void stopFitnessEvaluatorPool() throws Exception {
+        this.fitnessEvaluatorPool.close();
+        this.fitnessEvaluatorPool = null;
+
+        // Waits for the job, whose mappers end when the fitness evaluators stop.
+        if (this.fitnessEvaluatorsJob != null) {
+            this.fitnessEvaluatorsJob.waitForCompletion(false);
+            this.fitnessEvaluatorsJob = null;
+        }
+    }
+
+    /**
+     * Evaluates the fitness values of a population with the pool of fitness evaluators, setting them in place.
+     *
+     * @param population the population to evaluate
+     * @throws IOException
+     */
+    public void runPooledFitnessEvaluation(List<IndividualWrapper<Individual, FitnessValue>> population)
+            throws IOException {
+        this.fitnessEvaluatorPool.evaluate(population, this.generationsBlockExecutor.getFitnessEvaluationThreshold());
+    }
+
     public void runDistributedFitnessEvaluation(
             List<IndividualWrapper<Individual, FitnessValue>> population,
             FitnessEvaluationType fitnessEvaluationType
@@ -233,7 +438,8 @@ public class GlobalDistributedDriver extends DistributedDriver {
         this.userProperties.copyIntoConfiguration(configurationWithUserProperties);
 
         // Retrieves the schema.
-        Schema individualWrapperSchema = IndividualWrapper.getSchema(this.individualClass, this.fitnessValueClass);
+        Schema individualWrapperSchema = IndividualWrapperSerialization.getSchema(this.configuration, this.individualClass,
+                this.fitnessValueClass);
 
         // Launches the jobs.
         long lastGenerationNumber = maximumNumberOfGenerations - 1L;
@@ -296,6 +502,23 @@ public class GlobalDistributedDriver extends DistributedDriver {
         }
         NodesOutputFormat.setOutputPath(currentGenerationsExecutorJob, newOutputFolderPath);
 
+        // Configures the number of individuals in every input file, as written above.
+        currentGenerationsExecutorJob.getConfiguration().setInt(
+                Constants.CONFIGURATION_FITNESS_EVALUATORS_INDIVIDUALS_PER_FILE,
+                (int) Math.ceil((double) population.size() / (double) numberOfNodes));
+
+        // Writes the fitness value the individuals race against, if any.
+        FitnessValue fitnessEvaluationThreshold = this.generationsBlockExecutor.getFitnessEvaluationThreshold();
+        if (fitnessEvaluationThreshold != null) {
+            Path thresholdFilePath = new Path(this.getWorkingFolderPath(),
+                    Constants.FITNESS_EVALUATION_THRESHOLD_FILE_NAME);
+            IndexedFitnessValue.writeToFile(thresholdFilePath, this.configuration,
+                    Collections.singletonList(new IndexedFitnessValue(0, fitnessEvaluationThreshold)),
+                    this.individualWrapperSchema);
+            currentGenerationsExecutorJob.getConfiguration().set(
+                    Constants.CONFIGURATION_FITNESS_EVALUATION_THRESHOLD_FILE_PATH, thresholdFilePath.toString());
+        }
+
         // Launches the job.
         currentGenerationsExecutorJob.waitForCompletion(true);
 
@@ -340,30 +563,41 @@ public class GlobalDistributedDriver extends DistributedDriver {
         return new Path(this.workingFolderPath, Constants.DEFAULT_INPUT_FOLDER_NAME);
     }
 
-    public List<IndividualWrapper<Individual, FitnessValue>> getResultPopulation(
-            FitnessEvaluationType fitnessEvaluationType
-    ) {
-        List<IndividualWrapper<Individual, FitnessValue>> outputPopulation;
-        try {
-            Path outputFolderPath;
-            if (fitnessEvaluationType == FitnessEvaluationType.PARENTS) {
-                outputFolderPath = new Path(this.getOutputFolderPath(), Constants.DEFAULT_PARENTS_OUTPUT_FOLDER_NAME);
-            } else {
-                outputFolderPath = new Path(this.getOutputFolderPath(), Constants.DEFAULT_OFFSPRING_OUTPUT_FOLDER_NAME);
-            }
-
-            outputPopulation =
-                    readIndividualsFromFolder(outputFolderPath, this.configuration,
-                            populationFilesPathFilter);
-        } catch (IOException exception) {
-            return new ArrayList<IndividualWrapper<Individual, FitnessValue>>(0);
+    /**
+     * Sets the fitness values returned by the fitness evaluators into the population sent to them, by position.
+     *
+     * @param fitnessEvaluationType the type of the fitness evaluation
+     * @param population            the population sent to the fitness evaluators
+     * @throws IOException
+     */
+    public void mergeResultFitnessValues(
+            FitnessEvaluationType fitnessEvaluationType,
+            List<IndividualWrapper<Individual, FitnessValue>> population
+    ) throws IOException {
+        Path outputFolderPath;
+        if (fitnessEvaluationType == FitnessEvaluationType.PARENTS) {
+            outputFolderPath = new Path(this.getOutputFolderPath(), Constants.DEFAULT_PARENTS_OUTPUT_FOLDER_NAME);
+        } else {
+            outputFolderPath = new Path(this.getOutputFolderPath(), Constants.DEFAULT_OFFSPRING_OUTPUT_FOLDER_NAME);
         }
 
-        return outputPopulation;
+        FileStatus[] files = this.fileSystem.listStatus(outputFolderPath, fitnessValuesFilesPathFilter);
+        for (FileStatus file : files)
+            for (IndexedFitnessValue fitnessValue : IndexedFitnessValue.readFromFile(file.getPath(),
+                    this.configuration))
+                population.get(fitnessValue.getIndex()).setFitnessValue(fitnessValue.getFitnessValue());
     }
 
     @Override
     public List<IndividualWrapper<Individual, FitnessValue>> getOutputPopulation() {
         return this.outputPopulation;
     }
+
+    /**
+     * Returns the output population as an iterable over the population in memory of the master.
+     */
+    @Override
+    public PopulationIterable getOutputPopulationIterable() {
+        return new PopulationIterable(this.outputPopulation);
+    }
 }
@@ -1,6 +1,7 @@
 package it.unisa.elephant56.core;
 
 import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
 import it.unisa.elephant56.core.generator.*;
 import it.unisa.elephant56.core.input.NodesInputFormat;
 import it.unisa.elephant56.core.reporter.time.GenerationsBlockTimeReporter;
@@ -84,7 +85,8 @@ public class GridDistributedDriver extends DistributedDriver {
         this.userProperties.copyIntoConfiguration(configurationWithUserProperties);
 
         // Retrieves the schema.
-        Schema individualWrapperSchema = IndividualWrapper.getSchema(this.individualClass, this.fitnessValueClass);
+        Schema individualWrapperSchema = IndividualWrapperSerialization.getSchema(this.configuration, this.individualClass,
+                this.fitnessValueClass);
 
         // Launches the jobs.
         long lastGenerationNumber = maximumNumberOfGenerations - 1L;
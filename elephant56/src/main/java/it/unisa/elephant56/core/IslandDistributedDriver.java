@@ -2,6 +2,7 @@ package it.unisa.elephant56.core;
 
 import it.unisa.elephant56.core.generator.*;
 import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
 import it.unisa.elephant56.core.input.NodesInputFormat;
 import it.unisa.elephant56.core.reporter.time.MapReduceTimeReporter;
 import it.unisa.elephant56.user.common.FitnessValue;
@@ -24,6 +25,10 @@ public class IslandDistributedDriver extends DistributedDriver {
     private Class<? extends Migration> migrationClass;
     private long migrationPeriod;
 
+    private boolean isIslandWorkersModeActive;
+    private boolean isMigrantsSideFilesActive;
+    private long checkpointPeriod;
+
     /**
      * Constructs a new driver.
      *
@@ -61,6 +66,10 @@ public class IslandDistributedDriver extends DistributedDriver {
 
         this.migrationClass = Migration.class;
         this.migrationPeriod = 0L;
+
+        this.isIslandWorkersModeActive = false;
+        this.isMigrantsSideFilesActive = false;
+        this.checkpointPeriod = 0L;
     }
 
     /**
@@ -83,6 +92,38 @@ public class IslandDistributedDriver extends DistributedDriver {
         this.migrationPeriod = active;
     }
 
+    /**
+     * Activates the island workers mode: a single job is launched and every island computes all the generations
+     * blocks inside its map task, exchanging only the migrants through a shared folder. The cluster must be able to
+     * run all the islands at the same time.
+     *
+     * @param active "true" to activate, "false" otherwise
+     */
+    public void activateIslandWorkers(boolean active) {
+        this.isIslandWorkersModeActive = active;
+    }
+
+    /**
+     * Activates the exchange of the migrants through side files: every generations block is a map-only job, in which
+     * the islands write their own population directly and the migrants to a shared folder, so that neither the sort
+     * nor the transfer of the non-migrants are done by the shuffle.
+     *
+     * @param active "true" to activate, "false" otherwise
+     */
+    public void activateMigrantsSideFiles(boolean active) {
+        this.isMigrantsSideFilesActive = active;
+    }
+
+    /**
+     * Sets how often the island workers write their population to the generations blocks folder. A retried island
+     * attempt resumes from the latest checkpoint of its island instead of the first generations block.
+     *
+     * @param period the number of generations blocks between two checkpoints, 0 to disable them
+     */
+    public void setCheckpointPeriod(long period) {
+        this.checkpointPeriod = period;
+    }
+
     /**
      * Returns the termination flags folder path.
      *
@@ -101,6 +142,15 @@ public class IslandDistributedDriver extends DistributedDriver {
         return new Path(this.workingFolderPath, Constants.DEFAULT_ISLANDS_PROPERTIES_FILES_FOLDER_NAME);
     }
 
+    /**
+     * Returns the migrants mailbox folder path.
+     *
+     * @return the path
+     */
+    public Path getMigrantsMailboxFolderPath() {
+        return new Path(this.workingFolderPath, Constants.DEFAULT_MIGRANTS_MAILBOX_FOLDER_NAME);
+    }
+
     @Override
     public void run() throws Exception {
         // Creates the folders.
@@ -115,7 +165,8 @@ public class IslandDistributedDriver extends DistributedDriver {
         this.userProperties.copyIntoConfiguration(configurationWithUserProperties);
 
         // Retrieves the schema.
-        Schema individualWrapperSchema = IndividualWrapper.getSchema(this.individualClass, this.fitnessValueClass);
+        Schema individualWrapperSchema = IndividualWrapperSerialization.getSchema(this.configuration, this.individualClass,
+                this.fitnessValueClass);
 
         // Computes the maximum number of jobs.
         long maximumNumberOfGenerationsBlocks;
@@ -131,6 +182,19 @@ public class IslandDistributedDriver extends DistributedDriver {
         long lastGenerationsBlockNumber = maximumNumberOfGenerationsBlocks - 1L;
         String generationNameFormat = getGenerationNameFormat(lastGenerationNumber);
         this.generationsBlockNameFormat = getGenerationsBlockNameFormat(lastGenerationsBlockNumber);
+
+        // Checks if the islands are long-lived workers.
+        if (this.isIslandWorkersModeActive) {
+            this.runIslandWorkers(configurationWithUserProperties, initialisationPopulationSizePerSplit,
+                    lastGenerationNumber, maximumNumberOfGenerationsBlocks, generationNameFormat,
+                    individualWrapperSchema);
+            return;
+        }
+
+        // Creates the mailbox folder, if the migrants do not pass through the shuffle.
+        if (this.isMigrantsSideFilesActive)
+            this.createFolder(this.getMigrantsMailboxFolderPath(), true);
+
         long currentStartGenerationNumber = 0L;
 
         // TODO errore con migration period 0
@@ -187,6 +251,11 @@ public class IslandDistributedDriver extends DistributedDriver {
                 // Launches the job.
                 currentGenerationsExecutorJob.waitForCompletion(true);
 
+                // Deletes the migrants read by the job, kept until now for its retried attempts.
+                if (this.isMigrantsSideFilesActive && (previousGenerationsBlockNumber >= 0L))
+                    MigrantsMailbox.deleteMigrantsFiles(this.getMigrantsMailboxFolderPath(), this.getFileSystem(),
+                            previousGenerationsBlockNumber, this.numberOfIslands);
+
                 // Does some time reporter operations.
                 if (this.isTimeReporterActive) {
                     // Registers the reducer finalisation finish partial time.
@@ -205,13 +274,16 @@ public class IslandDistributedDriver extends DistributedDriver {
                         mapreduceTimeReporter.addPartialTimesFromFile(mapreduceMapperPartialTimeReportFilePath,
                                 this.getFileSystem());
 
-                        Path mapreduceReducerPartialTimeReportFilePath = new Path(
-                                currentGenerationsBlockReportsFolderPath,
-                                String.format(Constants.MAPREDUCE_REDUCER_PARTIAL_TIME_REPORT_FILE_NAME_FORMAT,
-                                        islandNumber)
-                        );
-                        mapreduceTimeReporter.addPartialTimesFromFile(mapreduceReducerPartialTimeReportFilePath,
-                                this.getFileSystem());
+                        // The map-only jobs have no reducer partial times.
+                        if (!this.isMigrantsSideFilesActive) {
+                            Path mapreduceReducerPartialTimeReportFilePath = new Path(
+                                    currentGenerationsBlockReportsFolderPath,
+                                    String.format(Constants.MAPREDUCE_REDUCER_PARTIAL_TIME_REPORT_FILE_NAME_FORMAT,
+                                            islandNumber)
+                            );
+                            mapreduceTimeReporter.addPartialTimesFromFile(mapreduceReducerPartialTimeReportFilePath,
+                                    this.getFileSystem());
+                        }
 
                         // Joins the partial times.
                         mapreduceTimeReporter.joinPartialTimes(islandNumber, currentGenerationsBlockNumber);
@@ -240,6 +312,10 @@ public class IslandDistributedDriver extends DistributedDriver {
             currentGenerationsBlockNumber++;
         }
 
+        // Deletes the mailbox folder.
+        if (this.isMigrantsSideFilesActive)
+            this.getFileSystem().delete(this.getMigrantsMailboxFolderPath(), true);
+
         this.lastExecutedGenerationsBlockNumber = currentGenerationsBlockNumber;
     }
 
@@ -262,6 +338,148 @@ public class IslandDistributedDriver extends DistributedDriver {
                 currentGenerationsBlockReportsFolderPath, individualWrapperSchema,
                 IslandMapper.class, SpecificNodePartitioner.class, IslandReducer.class);
 
+        // Configures the input.
+        this.configureInput(job, initialisationPopulationSizePerSplit, previousGenerationsBlockNumber,
+                currentGenerationsBlockNumber);
+
+        // Configures the genetic operators.
+        this.configureGeneticOperators(job, activeMigration);
+
+        // Configures the island properties.
+        job.getConfiguration().set(Constants.CONFIGURATION_ISLAND_PROPERTIES_FILES_FOLDER_PATH,
+                this.getIslandsPropertiesFolderPath().toString());
+
+        // Removes the shuffle, letting the islands exchange the migrants through side files.
+        if (this.isMigrantsSideFilesActive) {
+            job.setNumReduceTasks(0);
+
+            // Runs a single attempt of every island at a time, as the islands wait for each other's migrants.
+            job.setMapSpeculativeExecution(false);
+
+            job.getConfiguration().setBoolean(Constants.CONFIGURATION_MIGRANTS_SIDE_FILES_ACTIVE, true);
+            job.getConfiguration().set(Constants.CONFIGURATION_MIGRANTS_MAILBOX_FOLDER_PATH,
+                    this.getMigrantsMailboxFolderPath().toString());
+        }
+
+        // Returns the job.
+        return job;
+    }
+
+    /**
+     * Launches a single job in which every island computes all the generations blocks.
+     *
+     * @param configuration                        the configuration with the user properties
+     * @param initialisationPopulationSizePerSplit the initialisation population size of every island
+     * @param lastGenerationNumber                 the last generation number
+     * @param numberOfGenerationsBlocks            the number of generations blocks
+     * @param generationNameFormat                 the generation name format
+     * @param individualWrapperSchema              the schema of the individuals
+     * @throws Exception
+     */
+    private void runIslandWorkers(
+            Configuration configuration,
+            int initialisationPopulationSizePerSplit,
+            long lastGenerationNumber,
+            long numberOfGenerationsBlocks,
+            String generationNameFormat,
+            Schema individualWrapperSchema
+    ) throws Exception {
+        long lastGenerationsBlockNumber = numberOfGenerationsBlocks - 1L;
+
+        // Creates the mailbox folder.
+        this.createFolder(this.getMigrantsMailboxFolderPath(), true);
+
+        // Creates the folder for the reports.
+        Path reportsFolderPath = new Path(this.getReportsFolderPath(),
+                String.format(this.generationsBlockNameFormat, lastGenerationsBlockNumber));
+        this.createFolder(reportsFolderPath, true);
+
+        // Creates the job, writing the output into the last generations block folder.
+        Job job = super.createJob(configuration, this.numberOfIslands, 0L, lastGenerationNumber, -1L,
+                lastGenerationsBlockNumber, generationNameFormat, reportsFolderPath, individualWrapperSchema,
+                IslandWorkerMapper.class, SpecificNodePartitioner.class, IslandReducer.class);
+        job.setNumReduceTasks(0);
+
+        // Runs a single attempt of every island at a time, as the islands wait for each other's migrants.
+        job.setMapSpeculativeExecution(false);
+
+        // Configures the input and the genetic operators.
+        this.configureInput(job, initialisationPopulationSizePerSplit, -1L, 0L);
+        this.configureGeneticOperators(job, numberOfGenerationsBlocks > 1L);
+
+        // Configures the island workers.
+        job.getConfiguration().setLong(Constants.CONFIGURATION_NUMBER_OF_GENERATIONS_BLOCKS, numberOfGenerationsBlocks);
+        job.getConfiguration().setLong(Constants.CONFIGURATION_MIGRATION_PERIOD, this.migrationPeriod);
+        job.getConfiguration().setLong(Constants.CONFIGURATION_CHECKPOINT_PERIOD, this.checkpointPeriod);
+        job.getConfiguration().set(Constants.CONFIGURATION_MIGRANTS_MAILBOX_FOLDER_PATH,
+                this.getMigrantsMailboxFolderPath().toString());
+        job.getConfiguration().set(Constants.CONFIGURATION_GENERATIONS_BLOCKS_FOLDER_PATH,
+                this.getGenerationsBlocksFolderPath().toString());
+        job.getConfiguration().set(Constants.CONFIGURATION_GENERATIONS_BLOCK_NAME_FORMAT,
+                this.generationsBlockNameFormat);
+
+        // Configures the island properties.
+        job.getConfiguration().set(Constants.CONFIGURATION_ISLAND_PROPERTIES_FILES_FOLDER_PATH,
+                this.getIslandsPropertiesFolderPath().toString());
+
+        // Creates the MapReduce time reporter.
+        MapReduceTimeReporter mapreduceTimeReporter = null;
+        if (this.isTimeReporterActive) {
+            // Creates and initialises the reporter.
+            Path mapreduceTimeReportFilePath = new Path(reportsFolderPath,
+                    Constants.MAPREDUCE_TIME_REPORT_FILE_NAME_FORMAT);
+            mapreduceTimeReporter = new MapReduceTimeReporter(mapreduceTimeReportFilePath, this.fileSystem);
+            mapreduceTimeReporter.initialiseFile();
+
+            // Registers the mapper initialisation start partial time.
+            long startTime = System.currentTimeMillis();
+            for (int islandNumber = 0; islandNumber < this.numberOfIslands; islandNumber++)
+                mapreduceTimeReporter.addPartialTime(islandNumber, lastGenerationsBlockNumber,
+                        MapReduceTimeReporter.PhaseType.MAPPER_INITIALISATION,
+                        MapReduceTimeReporter.PartialTimeKey.Type.START, startTime);
+        }
+
+        // Launches the job.
+        job.waitForCompletion(true);
+
+        // Does some time reporter operations.
+        if (this.isTimeReporterActive) {
+            for (int islandNumber = 0; islandNumber < this.numberOfIslands; islandNumber++) {
+                // Reads the partial times from mapper files.
+                Path mapreduceMapperPartialTimeReportFilePath = new Path(reportsFolderPath,
+                        String.format(Constants.MAPREDUCE_MAPPER_PARTIAL_TIME_REPORT_FILE_NAME_FORMAT, islandNumber));
+                mapreduceTimeReporter.addPartialTimesFromFile(mapreduceMapperPartialTimeReportFilePath,
+                        this.getFileSystem());
+
+                // Joins the partial times.
+                mapreduceTimeReporter.joinPartialTimes(islandNumber, lastGenerationsBlockNumber);
+            }
+
+            // Writes the reporter file.
+            mapreduceTimeReporter.finaliseFile();
+        }
+
+        // Deletes the mailbox folder.
+        this.getFileSystem().delete(this.getMigrantsMailboxFolderPath(), true);
+
+        this.lastExecutedGenerationsBlockNumber = lastGenerationsBlockNumber;
+    }
+
+    /**
+     * Configures the input population of a job.
+     *
+     * @param job                                  the job
+     * @param initialisationPopulationSizePerSplit the initialisation population size of every island
+     * @param previousGenerationsBlockNumber       the previous generations block number
+     * @param currentGenerationsBlockNumber        the current generations block number
+     * @throws IOException
+     */
+    private void configureInput(
+            Job job,
+            int initialisationPopulationSizePerSplit,
+            long previousGenerationsBlockNumber,
+            long currentGenerationsBlockNumber
+    ) throws IOException {
         // Checks if is the first generations block.
         if (currentGenerationsBlockNumber == 0L) {
             if (this.isInitialisationActive) {
@@ -280,7 +498,15 @@ public class IslandDistributedDriver extends DistributedDriver {
                     previousGenerationsBlockNumber, this.generationsBlockNameFormat));
             NodesInputFormat.activateInitialisation(job, false);
         }
+    }
 
+    /**
+     * Configures the genetic operators of a job.
+     *
+     * @param job             the job
+     * @param activeMigration "true" to activate the migration, "false" otherwise
+     */
+    private void configureGeneticOperators(Job job, boolean activeMigration) {
         // Configures the fitness value class.
         job.getConfiguration().setClass(Constants.CONFIGURATION_FITNESS_VALUE_CLASS, this.fitnessValueClass,
                 FitnessValue.class);
@@ -320,19 +546,20 @@ public class IslandDistributedDriver extends DistributedDriver {
             job.getConfiguration().setBoolean(Constants.CONFIGURATION_SURVIVAL_SELECTION_ACTIVE, true);
         }
 
+        // Configures the steady-state generations.
+        if (this.isSteadyStateActive)
+            job.getConfiguration().setBoolean(Constants.CONFIGURATION_STEADY_STATE_ACTIVE, true);
+
+        // Configures the lazy fitness evaluation.
+        if (this.isLazyFitnessEvaluationActive)
+            job.getConfiguration().setBoolean(Constants.CONFIGURATION_LAZY_FITNESS_EVALUATION_ACTIVE, true);
+
         // Configures the Migration phase.
         if (activeMigration) {
             job.getConfiguration().setClass(Constants.CONFIGURATION_MIGRATION_CLASS, this.migrationClass,
                     Migration.class);
             job.getConfiguration().setBoolean(Constants.CONFIGURATION_MIGRATION_ACTIVE, true);
         }
-
-        // Configures the island properties.
-        job.getConfiguration().set(Constants.CONFIGURATION_ISLAND_PROPERTIES_FILES_FOLDER_PATH,
-                this.getIslandsPropertiesFolderPath().toString());
-
-        // Returns the job.
-        return job;
     }
 
     public FileSystem getFileSystem() throws IOException {
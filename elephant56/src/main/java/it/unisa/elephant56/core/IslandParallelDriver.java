@@ -0,0 +1,397 @@
+package it.unisa.elephant56.core;
+
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.generator.GenerationsBlockExecutor;
+import it.unisa.elephant56.core.reporter.individual.IndividualReporter;
+import it.unisa.elephant56.core.reporter.time.GenerationsBlockTimeReporter;
+import it.unisa.elephant56.core.reporter.time.GeneticOperatorsTimeReporter;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.operators.Migration;
+import it.unisa.elephant56.util.common.IdentityIndexedList;
+import it.unisa.elephant56.util.common.Pair;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Runs the island model inside a single JVM, executing every island on its own thread. The migrants are exchanged
+ * through in-memory queues at the end of every generations block, without MapReduce jobs and HDFS files.
+ */
+public class IslandParallelDriver extends Driver {
+
+    // Driver objects.
+    private int numberOfIslands;
+
+    private Class<? extends Migration> migrationClass;
+    private long migrationPeriod;
+
+    private List<IndividualWrapper<Individual, FitnessValue>> inputPopulation;
+    private List<IndividualWrapper<Individual, FitnessValue>> outputPopulation;
+    private List<IndividualWrapper<Individual, FitnessValue>> solutionsPopulation;
+    private List<IndividualWrapper<Individual, FitnessValue>> nonsolutionsPopulation;
+
+    private long lastExecutedGenerationNumber;
+
+    // Island objects.
+    private List<GenerationsBlockExecutor> islandsExecutors;
+    private List<BlockingQueue<IndividualWrapper<Individual, FitnessValue>>> islandsMigrantsQueues;
+
+    /**
+     * Constructs a new driver.
+     *
+     * @param numberOfIslands the number of islands
+     */
+    public IslandParallelDriver(int numberOfIslands) {
+        super();
+        init(numberOfIslands);
+    }
+
+    /**
+     * Constructs a new driver specifying the configuration.
+     *
+     * @param numberOfIslands the number of islands
+     * @param configuration   the configuration
+     */
+    public IslandParallelDriver(int numberOfIslands, Configuration configuration) {
+        super(configuration);
+        init(numberOfIslands);
+    }
+
+    /**
+     * Initialises the driver.
+     *
+     * @param numberOfIslands the number of islands
+     */
+    private void init(int numberOfIslands) {
+        this.numberOfIslands = numberOfIslands;
+
+        this.migrationClass = Migration.class;
+        this.migrationPeriod = 0L;
+
+        this.inputPopulation = new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+    }
+
+    /**
+     * Sets the migration class.
+     *
+     * @param migrationClass the migration class
+     */
+    public void setMigrationClass(Class<? extends Migration> migrationClass) {
+        if (migrationClass == null)
+            migrationClass = Migration.class;
+        this.migrationClass = migrationClass;
+    }
+
+    /**
+     * Sets the migration period.
+     *
+     * @param period how often migrating among the generations
+     */
+    public void setMigrationPeriod(long period) {
+        this.migrationPeriod = period;
+    }
+
+    /**
+     * Sets the input population, split among the islands. It is used instead of the input population folder.
+     *
+     * @param inputPopulation the input population
+     */
+    public void setInputPopulation(List<IndividualWrapper<Individual, FitnessValue>> inputPopulation) {
+        if (inputPopulation != null)
+            this.inputPopulation = inputPopulation;
+    }
+
+    @Override
+    public void run() throws Exception {
+        // Copies the user properties into configuration.
+        Configuration finalConfiguration = new Configuration(this.configuration);
+        this.userProperties.copyIntoConfiguration(finalConfiguration);
+
+        // Computes the number of generations blocks.
+        final long maximumNumberOfGenerationsBlocks;
+        if ((this.maximumNumberOfGenerations == 0L) || (this.migrationPeriod < 1)) {
+            maximumNumberOfGenerationsBlocks = 1L;
+        } else {
+            maximumNumberOfGenerationsBlocks =
+                    (long) Math.ceil((double) this.maximumNumberOfGenerations / (double) this.migrationPeriod);
+        }
+        final long generationsBlockSize = (this.migrationPeriod < 1) ? this.maximumNumberOfGenerations :
+                this.migrationPeriod;
+
+        // Reads the input population if not initialising it.
+        if (!this.isInitialisationActive && this.inputPopulation.isEmpty())
+            this.inputPopulation.addAll(readIndividualsFromFolder(this.inputPopulationFolderPath,
+                    this.configuration, avroFilesPathFilter));
+
+        int initialisationPopulationSizePerIsland =
+                (int) Math.ceil((double) this.initialisationPopulationSize / (double) this.numberOfIslands);
+        int inputPopulationSizePerIsland =
+                (int) Math.ceil((double) this.inputPopulation.size() / (double) this.numberOfIslands);
+
+        // Creates the islands executors and the migrants queues.
+        this.islandsExecutors = new ArrayList<GenerationsBlockExecutor>(this.numberOfIslands);
+        this.islandsMigrantsQueues =
+                new ArrayList<BlockingQueue<IndividualWrapper<Individual, FitnessValue>>>(this.numberOfIslands);
+
+        List<GeneticOperatorsTimeReporter> geneticOperatorsTimeReporters = new ArrayList<>();
+        List<GenerationsBlockTimeReporter> generationsBlockTimeReporters = new ArrayList<>();
+        List<IndividualReporter> individualReporters = new ArrayList<>();
+
+        for (int islandNumber = 0; islandNumber < this.numberOfIslands; islandNumber++) {
+            GenerationsBlockExecutor generationsBlockExecutor = new GenerationsBlockExecutor();
+
+            generationsBlockExecutor.setConfiguration(this.configuration);
+            generationsBlockExecutor.setUserProperties(this.userProperties);
+
+            generationsBlockExecutor.setNodeNumber(islandNumber);
+            generationsBlockExecutor.setTotalNumberOfNodes(this.numberOfIslands);
+
+            generationsBlockExecutor.setInitiliasationClass(this.initialisationClass);
+            generationsBlockExecutor.setFitnessEvaluationClass(this.fitnessEvaluationClass);
+            generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(this.fitnessEvaluationNumberOfThreads);
+            generationsBlockExecutor.setFitnessCacheSize(this.fitnessCacheSize);
+            generationsBlockExecutor.setFitnessEvaluationBatchSize(this.fitnessEvaluationBatchSize);
+            generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                    this.maximumNumberOfFitnessEvaluationsInFlight);
+            generationsBlockExecutor.setFitnessEvaluationTimeBudget(this.fitnessEvaluationTimeBudget);
+            generationsBlockExecutor.setFitnessEvaluationRacingRank(this.fitnessEvaluationRacingRank);
+            generationsBlockExecutor.setTerminationConditionCheckClass(this.terminationConditionCheckClass);
+
+            generationsBlockExecutor.setElitismClass(this.elitismClass);
+            generationsBlockExecutor.activateElitism(this.isElitismActive);
+
+            generationsBlockExecutor.setParentsSelectionClass(this.parentsSelectionClass);
+            generationsBlockExecutor.setCrossoverClass(this.crossoverClass);
+            generationsBlockExecutor.setMutationClass(this.mutationClass);
+
+            generationsBlockExecutor.setSurvivalSelectionClass(this.survivalSelectionClass);
+            generationsBlockExecutor.activateSurvivalSelection(this.isSurvivalSelectionActive);
+
+            generationsBlockExecutor.activateSteadyState(this.isSteadyStateActive);
+            generationsBlockExecutor.activateLazyFitnessEvaluation(this.isLazyFitnessEvaluationActive);
+
+            generationsBlockExecutor.setMigrationClass(this.migrationClass);
+
+            // Checks if splitting the input population or initialising it.
+            if (!this.isInitialisationActive) {
+                int fromIndex = Math.min(islandNumber * inputPopulationSizePerIsland, this.inputPopulation.size());
+                int toIndex = Math.min(fromIndex + inputPopulationSizePerIsland, this.inputPopulation.size());
+                generationsBlockExecutor.setInputPopulation(new ArrayList<IndividualWrapper<Individual, FitnessValue>>(
+                        this.inputPopulation.subList(fromIndex, toIndex)));
+            } else {
+                generationsBlockExecutor.setInitialisationPopulationSize(initialisationPopulationSizePerIsland);
+            }
+
+            // Configures the reporters.
+            if (this.isTimeReporterActive) {
+                Path geneticOperatorsTimeReportFilePath = new Path(this.getReportsFolderPath(),
+                        String.format(Constants.GENETIC_OPERATORS_TIME_REPORT_FILE_NAME_FORMAT, islandNumber));
+                GeneticOperatorsTimeReporter geneticOperatorsTimeReporter =
+                        new GeneticOperatorsTimeReporter(geneticOperatorsTimeReportFilePath, this.fileSystem);
+                geneticOperatorsTimeReporter.initialiseFile();
+                geneticOperatorsTimeReporters.add(geneticOperatorsTimeReporter);
+
+                Path generationsBlockTimeReportFilePath = new Path(this.getReportsFolderPath(),
+                        String.format(Constants.GENERATIONS_BLOCK_TIME_REPORT_FILE_NAME_FORMAT, islandNumber));
+                GenerationsBlockTimeReporter generationsBlockTimeReporter =
+                        new GenerationsBlockTimeReporter(generationsBlockTimeReportFilePath, this.fileSystem);
+                generationsBlockTimeReporter.initialiseFile();
+                generationsBlockTimeReporters.add(generationsBlockTimeReporter);
+
+                generationsBlockExecutor.setGeneticOperatorsTimeReporter(geneticOperatorsTimeReporter);
+                generationsBlockExecutor.setGenerationsBlockTimeReporter(generationsBlockTimeReporter);
+                generationsBlockExecutor.activateTimeReporter(true);
+            }
+
+            if (this.isIndividualReporterActive) {
+                Path individualReportFilePath = new Path(this.getReportsFolderPath(),
+                        String.format(Constants.INDIVIDUAL_REPORT_FILE_NAME_FORMAT, islandNumber));
+                IndividualReporter individualReporter = new IndividualReporter(individualReportFilePath,
+                        this.fileSystem);
+                individualReporter.initialiseFile();
+                individualReporters.add(individualReporter);
+
+                generationsBlockExecutor.setIndividualReporter(individualReporter);
+                generationsBlockExecutor.activateIndividualReporter(true);
+            }
+
+            this.islandsExecutors.add(generationsBlockExecutor);
+            this.islandsMigrantsQueues.add(new LinkedBlockingQueue<IndividualWrapper<Individual, FitnessValue>>());
+        }
+
+        // Launches the islands, waiting for all of them at the end of every generations block.
+        final CyclicBarrier generationsBlockBarrier = new CyclicBarrier(this.numberOfIslands);
+        ExecutorService islandsThreadPool = Executors.newFixedThreadPool(this.numberOfIslands);
+        List<Future<Void>> islandsTasks = new ArrayList<Future<Void>>(this.numberOfIslands);
+
+        for (int islandNumber = 0; islandNumber < this.numberOfIslands; islandNumber++) {
+            final int currentIslandNumber = islandNumber;
+            islandsTasks.add(islandsThreadPool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    try {
+                        runIsland(currentIslandNumber, maximumNumberOfGenerationsBlocks, generationsBlockSize,
+                                generationsBlockBarrier);
+                    } catch (Exception exception) {
+                        // Releases the other islands waiting on the barrier.
+                        generationsBlockBarrier.reset();
+                        throw exception;
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        try {
+            for (Future<Void> islandTask : islandsTasks)
+                islandTask.get();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Exception)
+                throw (Exception) exception.getCause();
+            throw exception;
+        } finally {
+            islandsThreadPool.shutdownNow();
+        }
+
+        // Finalises the reports.
+        for (GeneticOperatorsTimeReporter geneticOperatorsTimeReporter : geneticOperatorsTimeReporters)
+            geneticOperatorsTimeReporter.finaliseFile();
+        for (GenerationsBlockTimeReporter generationsBlockTimeReporter : generationsBlockTimeReporters)
+            generationsBlockTimeReporter.finaliseFile();
+        for (IndividualReporter individualReporter : individualReporters)
+            individualReporter.finaliseFile();
+
+        // Joins the islands populations.
+        this.outputPopulation = new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+        this.solutionsPopulation = new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+        this.nonsolutionsPopulation = new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+        this.lastExecutedGenerationNumber = -1L;
+
+        for (GenerationsBlockExecutor generationsBlockExecutor : this.islandsExecutors) {
+            generationsBlockExecutor.filterSolutions();
+
+            this.outputPopulation.addAll(generationsBlockExecutor.getOutputPopulation());
+            this.solutionsPopulation.addAll(generationsBlockExecutor.getSolutionsPopulation());
+            this.nonsolutionsPopulation.addAll(generationsBlockExecutor.getNonsolutionsPopulation());
+
+            this.lastExecutedGenerationNumber = Math.max(this.lastExecutedGenerationNumber,
+                    generationsBlockExecutor.getLastExecutedGenerationNumber());
+        }
+    }
+
+    /**
+     * Executes all the generations blocks of an island, sending the migrants to the queues of the destination islands
+     * and receiving the ones from its queue.
+     *
+     * @param islandNumber                     the island number
+     * @param maximumNumberOfGenerationsBlocks the number of generations blocks
+     * @param generationsBlockSize             the number of generations of a block
+     * @param generationsBlockBarrier          the barrier shared by the islands
+     * @throws Exception
+     */
+    private void runIsland(
+            int islandNumber, long maximumNumberOfGenerationsBlocks, long generationsBlockSize,
+            CyclicBarrier generationsBlockBarrier
+    ) throws Exception {
+        GenerationsBlockExecutor generationsBlockExecutor = this.islandsExecutors.get(islandNumber);
+        BlockingQueue<IndividualWrapper<Individual, FitnessValue>> migrantsQueue =
+                this.islandsMigrantsQueues.get(islandNumber);
+
+        long lastGenerationNumber = this.maximumNumberOfGenerations - 1L;
+        long currentStartGenerationNumber = 0L;
+
+        for (long currentGenerationsBlockNumber = 0L; currentGenerationsBlockNumber < maximumNumberOfGenerationsBlocks;
+             currentGenerationsBlockNumber++) {
+            // Checks if doing the migration.
+            boolean isMigrationActive = currentGenerationsBlockNumber < (maximumNumberOfGenerationsBlocks - 1L);
+
+            long currentFinishGenerationNumber =
+                    Math.min(currentStartGenerationNumber + generationsBlockSize - 1L, lastGenerationNumber);
+
+            // Configures the generations block.
+            generationsBlockExecutor.setGenerationsBlockNumber(currentGenerationsBlockNumber);
+            generationsBlockExecutor.setStartGenerationNumber(currentStartGenerationNumber);
+            generationsBlockExecutor.setFinishGenerationNumber(currentFinishGenerationNumber);
+            generationsBlockExecutor.activateInitialisation(this.isInitialisationActive &&
+                    (currentGenerationsBlockNumber == 0L));
+            generationsBlockExecutor.activateMigration(isMigrationActive);
+
+            // Executes the generations block.
+            generationsBlockExecutor.run();
+
+            if (isMigrationActive) {
+                // Retrieves the output, indexed to remove the migrants.
+                IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>> population =
+                        new IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>>(
+                                generationsBlockExecutor.getOutputPopulation());
+
+                List<Pair<IndividualWrapper<Individual, FitnessValue>, Integer>> migrationAssignments =
+                        generationsBlockExecutor.getMigrationAssignments();
+
+                // Sends the migrants to the destination islands.
+                for (Pair<IndividualWrapper<Individual, FitnessValue>, Integer> assignment : migrationAssignments) {
+                    IndividualWrapper<Individual, FitnessValue> currentIndividual = assignment.getFirstElement();
+                    int currentDestination = assignment.getSecondElement();
+
+                    // Removes the individual from the list.
+                    population.removeSameOrEqual(currentIndividual);
+
+                    this.islandsMigrantsQueues.get(currentDestination).add(currentIndividual);
+                }
+
+                // Waits for all the islands to send their migrants.
+                generationsBlockBarrier.await();
+
+                // Receives the migrants.
+                migrantsQueue.drainTo(population);
+
+                // Waits for all the islands to receive their migrants before starting the next block.
+                generationsBlockBarrier.await();
+
+                generationsBlockExecutor.setInputPopulation(population);
+            }
+
+            // Computes the start generation number of the next block.
+            currentStartGenerationNumber = currentFinishGenerationNumber + 1L;
+        }
+    }
+
+    @Override
+    public List<IndividualWrapper<Individual, FitnessValue>> getOutputPopulation() {
+        return this.outputPopulation;
+    }
+
+    @Override
+    public List<IndividualWrapper<Individual, FitnessValue>> getSolutionsPopulation() {
+        return this.solutionsPopulation;
+    }
+
+    @Override
+    public List<IndividualWrapper<Individual, FitnessValue>> getNonsolutionsPopulation() {
+        return this.nonsolutionsPopulation;
+    }
+
+    @Override
+    public long getLastExecutedGenerationNumber() {
+        return this.lastExecutedGenerationNumber;
+    }
+
+    public FileSystem getFileSystem() throws IOException {
+        if (this.fileSystem == null)
+            this.fileSystem = FileSystem.getLocal(this.configuration);
+        return this.fileSystem;
+    }
+}
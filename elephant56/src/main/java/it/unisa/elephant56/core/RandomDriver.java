@@ -60,6 +60,13 @@ public class RandomDriver extends Driver {
 
         generationsBlockExecutor.setInitiliasationClass(this.initialisationClass);
         generationsBlockExecutor.setFitnessEvaluationClass(this.fitnessEvaluationClass);
+        generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(this.fitnessEvaluationNumberOfThreads);
+        generationsBlockExecutor.setFitnessCacheSize(this.fitnessCacheSize);
+        generationsBlockExecutor.setFitnessEvaluationBatchSize(this.fitnessEvaluationBatchSize);
+        generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.maximumNumberOfFitnessEvaluationsInFlight);
+        generationsBlockExecutor.setFitnessEvaluationTimeBudget(this.fitnessEvaluationTimeBudget);
+        generationsBlockExecutor.setFitnessEvaluationRacingRank(this.fitnessEvaluationRacingRank);
         generationsBlockExecutor.setTerminationConditionCheckClass(this.terminationConditionCheckClass);
 
         // Checks if reading individual or initialising them.
@@ -62,6 +62,13 @@ public class SequentialDriver extends Driver {
 
         generationsBlockExecutor.setInitiliasationClass(this.initialisationClass);
         generationsBlockExecutor.setFitnessEvaluationClass(this.fitnessEvaluationClass);
+        generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(this.fitnessEvaluationNumberOfThreads);
+        generationsBlockExecutor.setFitnessCacheSize(this.fitnessCacheSize);
+        generationsBlockExecutor.setFitnessEvaluationBatchSize(this.fitnessEvaluationBatchSize);
+        generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.maximumNumberOfFitnessEvaluationsInFlight);
+        generationsBlockExecutor.setFitnessEvaluationTimeBudget(this.fitnessEvaluationTimeBudget);
+        generationsBlockExecutor.setFitnessEvaluationRacingRank(this.fitnessEvaluationRacingRank);
         generationsBlockExecutor.setTerminationConditionCheckClass(this.terminationConditionCheckClass);
 
         generationsBlockExecutor.setElitismClass(this.elitismClass);
@@ -74,6 +81,9 @@ public class SequentialDriver extends Driver {
         generationsBlockExecutor.setSurvivalSelectionClass(this.survivalSelectionClass);
         generationsBlockExecutor.activateSurvivalSelection(this.isSurvivalSelectionActive);
 
+        generationsBlockExecutor.activateSteadyState(this.isSteadyStateActive);
+        generationsBlockExecutor.activateLazyFitnessEvaluation(this.isLazyFitnessEvaluationActive);
+
         // Checks if reading individual or initialising them.
         if (!this.isInitialisationActive) {
             generationsBlockExecutor.activateInitialisation(false);
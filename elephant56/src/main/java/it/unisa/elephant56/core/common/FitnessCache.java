@@ -0,0 +1,104 @@
+package it.unisa.elephant56.core.common;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Defines a bounded cache of fitness values, keyed by individual, that evicts the least recently used entries.
+ * <p>
+ * The individuals are compared with {@link Individual#hashCode()} and {@link Individual#equals(Object)}, so the
+ * individual class must override both of them by genotype, otherwise only the same instances are found.
+ * <p>
+ * The individuals and the fitness values are cloned when stored and returned, so that a later mutation does not
+ * alter the cache. The methods are synchronised to be used by the fitness evaluation threads.
+ */
+public class FitnessCache {
+
+    private final int maximumSize;
+    private final LinkedHashMap<Individual, FitnessValue> entries;
+
+    /**
+     * Constructs the cache.
+     *
+     * @param maximumSize the maximum number of fitness values to keep
+     */
+    public FitnessCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<Individual, FitnessValue>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Individual, FitnessValue> eldest) {
+                return this.size() > FitnessCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum number of fitness values to keep.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns a copy of the fitness value of an individual with the same genotype.
+     *
+     * @param individual the individual
+     * @return the fitness value, or null if not present
+     */
+    public synchronized FitnessValue get(Individual individual) {
+        if (individual == null)
+            return null;
+
+        FitnessValue fitnessValue = this.entries.get(individual);
+        if (fitnessValue == null)
+            return null;
+
+        return copy(fitnessValue);
+    }
+
+    /**
+     * Stores the fitness value of an individual. It does nothing if the individual or the fitness value cannot be
+     * cloned.
+     *
+     * @param individual   the individual
+     * @param fitnessValue the fitness value
+     */
+    public synchronized void put(Individual individual, FitnessValue fitnessValue) {
+        if ((individual == null) || (fitnessValue == null))
+            return;
+
+        try {
+            this.entries.put((Individual) individual.clone(), (FitnessValue) fitnessValue.clone());
+        } catch (CloneNotSupportedException exception) {
+            // Does not cache the individual.
+        }
+    }
+
+    /**
+     * Returns the number of stored fitness values.
+     *
+     * @return the number of fitness values
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Copies a fitness value, or returns the same object if it cannot be cloned.
+     *
+     * @param fitnessValue the fitness value
+     * @return the copy
+     */
+    public static FitnessValue copy(FitnessValue fitnessValue) {
+        try {
+            return (FitnessValue) fitnessValue.clone();
+        } catch (CloneNotSupportedException exception) {
+            return fitnessValue;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package it.unisa.elephant56.core.common;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+
+/**
+ * Defines the race of an individual against the fitness value it must reach to be useful, such as the fitness value
+ * of the worst elitist or the survival cut-off.
+ * <p>
+ * An incremental fitness evaluation reports the best fitness value the individual can still reach while computing
+ * it, and stops as soon as the race is lost.
+ */
+public class FitnessRace {
+
+    private FitnessValue threshold;
+    private boolean isLost;
+
+    /**
+     * Constructs a race.
+     *
+     * @param threshold the fitness value to reach, null if there is none
+     */
+    public FitnessRace(FitnessValue threshold) {
+        this.threshold = threshold;
+        this.isLost = false;
+    }
+
+    public FitnessValue getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Reports the best fitness value the individual can still reach and checks whether the evaluation must stop.
+     *
+     * @param upperBound the best reachable fitness value
+     * @return "true" if the upper bound is worse than the threshold, "false" otherwise
+     */
+    public boolean isLost(FitnessValue upperBound) {
+        if ((this.threshold != null) && (upperBound != null) && (upperBound.compareTo(this.threshold) < 0))
+            this.isLost = true;
+        return this.isLost;
+    }
+
+    /**
+     * Checks whether the evaluation stopped early.
+     *
+     * @return "true" if the race was lost, "false" otherwise
+     */
+    public boolean isLost() {
+        return this.isLost;
+    }
+}
@@ -0,0 +1,107 @@
+package it.unisa.elephant56.core.common;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.reflect.ReflectDatumReader;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.common.Serialiser;
+
+/**
+ * Reads individual wrappers projected on the fitness value and the termination condition flag: the individuals are
+ * skipped following the schema of the data, without materialising them.
+ * <p>
+ * The fitness values are read with the serialiser if the data has been written with the serialisers, otherwise with
+ * the Avro reflection.
+ */
+public class FitnessValueDatumReader implements DatumReader<IndividualWrapper<Individual, FitnessValue>> {
+
+    private static final String FITNESS_VALUE_FIELD_NAME = "fitnessValue";
+    private static final String TERMINATION_CONDITION_SATISFIED_FIELD_NAME = "terminationConditionSatisfied";
+
+    private Serialiser<FitnessValue> fitnessValueSerialiser;
+    private Schema serialisersSchema;
+
+    private ReflectData reflectData;
+
+    private Schema schema;
+
+    private ReflectDatumReader<FitnessValue> fitnessValueReflectDatumReader;
+    private boolean isSerialiserActive;
+
+    /**
+     * Constructs a reader.
+     *
+     * @param individualSerialiser   the serialiser of the individuals, null without the serialisers
+     * @param fitnessValueSerialiser the serialiser of the fitness values, null without the serialisers
+     * @param classLoader            the class loader used by the Avro reflection
+     */
+    public FitnessValueDatumReader(Serialiser<Individual> individualSerialiser,
+                                   Serialiser<FitnessValue> fitnessValueSerialiser, ClassLoader classLoader) {
+        this.fitnessValueSerialiser = fitnessValueSerialiser;
+        this.serialisersSchema = ((individualSerialiser != null) && (fitnessValueSerialiser != null))
+                ? IndividualWrapper.getSchema(individualSerialiser.getSchema(), fitnessValueSerialiser.getSchema())
+                : null;
+
+        this.reflectData = new ReflectData(classLoader);
+        this.isSerialiserActive = false;
+    }
+
+    /**
+     * Sets the schema of the data to read, choosing between the serialiser and the Avro reflection.
+     */
+    @Override
+    public void setSchema(Schema schema) {
+        this.schema = schema;
+
+        this.isSerialiserActive = schema.equals(this.serialisersSchema);
+        if (!this.isSerialiserActive) {
+            Schema fitnessValueSchema = schema.getField(FITNESS_VALUE_FIELD_NAME).schema();
+            this.fitnessValueReflectDatumReader =
+                    new ReflectDatumReader<FitnessValue>(fitnessValueSchema, fitnessValueSchema, this.reflectData);
+        }
+    }
+
+    @Override
+    public IndividualWrapper<Individual, FitnessValue> read(IndividualWrapper<Individual, FitnessValue> reuse,
+                                                           Decoder decoder) throws IOException {
+        IndividualWrapper<Individual, FitnessValue> result = reuse;
+        if (result == null)
+            result = new IndividualWrapper<Individual, FitnessValue>();
+
+        result.emptyIndividual();
+        result.emptyFitnessValue();
+        result.emptyTerminationConditionSatisfied();
+
+        // Reads the fields in the order they were written.
+        for (Schema.Field field : this.schema.getFields()) {
+            if (field.name().equals(FITNESS_VALUE_FIELD_NAME)) {
+                // Reads the fitness value.
+                if (!this.isSerialiserActive) {
+                    result.setFitnessValue(this.fitnessValueReflectDatumReader.read(null, decoder));
+                } else if (decoder.readIndex() == 1) {
+                    result.setFitnessValue(this.fitnessValueSerialiser.deserialise(decoder));
+                } else {
+                    decoder.readNull();
+                }
+            } else if (field.name().equals(TERMINATION_CONDITION_SATISFIED_FIELD_NAME)) {
+                // Reads the termination condition flag.
+                if (decoder.readIndex() == 1)
+                    result.setTerminationConditionSatisfied(decoder.readBoolean());
+                else
+                    decoder.readNull();
+            } else {
+                // Skips the individual.
+                GenericDatumReader.skip(field.schema(), decoder);
+            }
+        }
+
+        return result;
+    }
+}
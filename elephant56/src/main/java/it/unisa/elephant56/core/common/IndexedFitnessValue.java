@@ -0,0 +1,182 @@
+package it.unisa.elephant56.core.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.file.SeekableInput;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.mapred.FsInput;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+
+/**
+ * Defines the fitness value of the individual in a position of a population, returned by the fitness evaluators
+ * instead of the whole individual.
+ * <p>
+ * The fitness value is stored inside an individual wrapper without the individual, so that it is written by the same
+ * datum writers of the population files, serialisers included, in a few bytes.
+ */
+public class IndexedFitnessValue {
+
+    private static final String SCHEMA_NAME = "IndexedFitnessValue";
+    private static final String INDEX_FIELD_NAME = "index";
+    private static final String INDIVIDUAL_WRAPPER_FIELD_NAME = "individualWrapper";
+
+    private int index;
+    private FitnessValue fitnessValue;
+
+    /**
+     * Constructs an indexed fitness value.
+     *
+     * @param index        the position of the individual
+     * @param fitnessValue the fitness value
+     */
+    public IndexedFitnessValue(int index, FitnessValue fitnessValue) {
+        this.index = index;
+        this.fitnessValue = fitnessValue;
+    }
+
+    public int getIndex() {
+        return this.index;
+    }
+
+    public FitnessValue getFitnessValue() {
+        return this.fitnessValue;
+    }
+
+    /**
+     * Composes the Avro schema of the indexed fitness values.
+     *
+     * @param individualWrapperSchema the schema of the individual wrappers
+     * @return the schema composed
+     */
+    public static Schema getSchema(Schema individualWrapperSchema) {
+        Schema schema = Schema.createRecord(SCHEMA_NAME, null, IndexedFitnessValue.class.getPackage().getName(),
+                false);
+        schema.setFields(Arrays.asList(
+                new Schema.Field(INDEX_FIELD_NAME, Schema.create(Schema.Type.INT), null, null),
+                new Schema.Field(INDIVIDUAL_WRAPPER_FIELD_NAME, individualWrapperSchema, null, null)
+        ));
+        return schema;
+    }
+
+    /**
+     * Writes the indexed fitness values to a file.
+     *
+     * @param filePath                the path of the file
+     * @param configuration           the configuration
+     * @param fitnessValues           the indexed fitness values
+     * @param individualWrapperSchema the schema of the individual wrappers
+     * @throws IOException
+     */
+    public static void writeToFile(Path filePath, Configuration configuration, List<IndexedFitnessValue> fitnessValues,
+                                   Schema individualWrapperSchema) throws IOException {
+        FileSystem fileSystem = FileSystem.get(configuration);
+
+        OutputStream fileOutput = fileSystem.create(filePath, true);
+        DataFileWriter<IndexedFitnessValue> avroFileWriter = new DataFileWriter<IndexedFitnessValue>(
+                new IndexedFitnessValueDatumWriter(
+                        IndividualWrapperSerialization.createDatumWriter(configuration, individualWrapperSchema)));
+
+        avroFileWriter.setCodec(CodecFactory.snappyCodec());
+        avroFileWriter.create(getSchema(individualWrapperSchema), fileOutput);
+
+        for (IndexedFitnessValue fitnessValue : fitnessValues)
+            avroFileWriter.append(fitnessValue);
+
+        avroFileWriter.close();
+    }
+
+    /**
+     * Reads the indexed fitness values from a file.
+     *
+     * @param filePath      the path of the file
+     * @param configuration the configuration
+     * @return the indexed fitness values
+     * @throws IOException
+     */
+    public static List<IndexedFitnessValue> readFromFile(Path filePath, Configuration configuration)
+            throws IOException {
+        List<IndexedFitnessValue> result = new ArrayList<IndexedFitnessValue>();
+
+        SeekableInput seekableFileInput = new FsInput(filePath, configuration);
+        DataFileReader<IndexedFitnessValue> avroFileReader = new DataFileReader<IndexedFitnessValue>(
+                seekableFileInput,
+                new IndexedFitnessValueDatumReader(IndividualWrapperSerialization.createDatumReader(configuration)));
+
+        for (IndexedFitnessValue fitnessValue : avroFileReader)
+            result.add(fitnessValue);
+
+        avroFileReader.close();
+        return result;
+    }
+
+    /**
+     * Writes the index and the individual wrapper with the fitness value only.
+     */
+    private static class IndexedFitnessValueDatumWriter implements DatumWriter<IndexedFitnessValue> {
+
+        private DatumWriter<IndividualWrapper<Individual, FitnessValue>> individualWrapperDatumWriter;
+        private IndividualWrapper<Individual, FitnessValue> individualWrapper;
+
+        public IndexedFitnessValueDatumWriter(
+                DatumWriter<IndividualWrapper<Individual, FitnessValue>> individualWrapperDatumWriter) {
+            this.individualWrapperDatumWriter = individualWrapperDatumWriter;
+            this.individualWrapper = new IndividualWrapper<Individual, FitnessValue>();
+        }
+
+        @Override
+        public void setSchema(Schema schema) {
+            this.individualWrapperDatumWriter.setSchema(schema.getField(INDIVIDUAL_WRAPPER_FIELD_NAME).schema());
+        }
+
+        @Override
+        public void write(IndexedFitnessValue datum, Encoder encoder) throws IOException {
+            encoder.writeInt(datum.index);
+
+            this.individualWrapper.setFitnessValue(datum.fitnessValue);
+            this.individualWrapperDatumWriter.write(this.individualWrapper, encoder);
+        }
+    }
+
+    /**
+     * Reads the index and the fitness value of the individual wrapper.
+     */
+    private static class IndexedFitnessValueDatumReader implements DatumReader<IndexedFitnessValue> {
+
+        private DatumReader<IndividualWrapper<Individual, FitnessValue>> individualWrapperDatumReader;
+
+        public IndexedFitnessValueDatumReader(
+                DatumReader<IndividualWrapper<Individual, FitnessValue>> individualWrapperDatumReader) {
+            this.individualWrapperDatumReader = individualWrapperDatumReader;
+        }
+
+        @Override
+        public void setSchema(Schema schema) {
+            this.individualWrapperDatumReader.setSchema(schema.getField(INDIVIDUAL_WRAPPER_FIELD_NAME).schema());
+        }
+
+        @Override
+        public IndexedFitnessValue read(IndexedFitnessValue reuse, Decoder decoder) throws IOException {
+            int index = decoder.readInt();
+            IndividualWrapper<Individual, FitnessValue> individualWrapper =
+                    this.individualWrapperDatumReader.read(null, decoder);
+
+            return new IndexedFitnessValue(index, individualWrapper.getFitnessValue());
+        }
+    }
+}
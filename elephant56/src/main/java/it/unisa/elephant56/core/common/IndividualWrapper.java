@@ -20,9 +20,11 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
         implements Comparable<IndividualWrapper<IndividualType, FitnessValueType>>, Cloneable {
 
     private IndividualType individual;
-    private FitnessValueType fitnessValue;
+    private volatile FitnessValueType fitnessValue;
     private Boolean terminationConditionSatisfied;
 
+    private transient LazyFitnessEvaluator<IndividualType, FitnessValueType> lazyFitnessEvaluator;
+
     /**
      * Constructs an empty wrapper.
      */
@@ -30,6 +32,7 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
         this.individual = null;
         this.fitnessValue = null;
         this.terminationConditionSatisfied = null;
+        this.lazyFitnessEvaluator = null;
     }
 
     /**
@@ -40,18 +43,29 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
      * @return the schema composed
      */
     public static final Schema getSchema(Class<?> individualClass, Class<?> fitnessValueClass) {
-        // Makes the list of the fields.
-        List<Field> fields = new ArrayList<Field>();
-
         // Retrieves the schemas of the classes with the reflect.
         Schema individualReflectSchema = ReflectData.AllowNull.get().getSchema(individualClass);
         Schema fitnessValueReflectSchema = ReflectData.AllowNull.get().getSchema(fitnessValueClass);
 
+        return getSchema(individualReflectSchema, fitnessValueReflectSchema);
+    }
+
+    /**
+     * Composes the Avro schema of the individual wrapper, given the schemas of the individual and the fitness value.
+     *
+     * @param individualObjectSchema   the schema of the individual
+     * @param fitnessValueObjectSchema the schema of the fitness value
+     * @return the schema composed
+     */
+    public static final Schema getSchema(Schema individualObjectSchema, Schema fitnessValueObjectSchema) {
+        // Makes the list of the fields.
+        List<Field> fields = new ArrayList<Field>();
+
         // Composes the schemas with the possibility to set values to null.
         Schema individualSchema = Schema.createUnion(Arrays.asList(
-                Schema.create(Schema.Type.NULL), individualReflectSchema));
+                Schema.create(Schema.Type.NULL), individualObjectSchema));
         Schema fitnessValueSchema = Schema.createUnion(Arrays.asList(
-                Schema.create(Schema.Type.NULL), fitnessValueReflectSchema));
+                Schema.create(Schema.Type.NULL), fitnessValueObjectSchema));
         Schema terminationConditionSatisfiedSchema = Schema.createUnion(Arrays.asList(
                 Schema.create(Schema.Type.NULL), Schema.create(Schema.Type.BOOLEAN)));
 
@@ -107,10 +121,11 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
      */
     public final void emptyFitnessValue() {
         this.fitnessValue = null;
+        this.lazyFitnessEvaluator = null;
     }
 
     /**
-     * Checks if the fitness value is set.
+     * Checks if the fitness value is set, without evaluating it if it is deferred.
      *
      * @return "true" if it is set
      */
@@ -119,12 +134,28 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
     }
 
     /**
-     * Returns the fitness value of the individual.
+     * Returns the fitness value of the individual. If the evaluation is deferred, the fitness value is evaluated at
+     * the first call and kept for the next ones.
      */
     public final FitnessValueType getFitnessValue() {
+        // Waits for a deferred evaluation running in another thread, if any.
+        if (this.fitnessValue == null)
+            this.evaluateLazily();
+
         return this.fitnessValue;
     }
 
+    private synchronized void evaluateLazily() {
+        if ((this.fitnessValue != null) || (this.lazyFitnessEvaluator == null))
+            return;
+
+        // Detaches the evaluator before calling it, so that it is called once.
+        LazyFitnessEvaluator<IndividualType, FitnessValueType> evaluator = this.lazyFitnessEvaluator;
+        this.lazyFitnessEvaluator = null;
+
+        this.fitnessValue = evaluator.evaluate(this);
+    }
+
     /**
      * Sets the fitness value of the individual.
      *
@@ -132,6 +163,27 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
      */
     public final void setFitnessValue(FitnessValueType fitnessValue) {
         this.fitnessValue = fitnessValue;
+        this.lazyFitnessEvaluator = null;
+    }
+
+    /**
+     * Defers the evaluation of the fitness value to the first call of "getFitnessValue". The evaluator is not
+     * serialised and it is detached when the fitness value is set.
+     *
+     * @param lazyFitnessEvaluator the evaluator ("null" to detach)
+     */
+    public final void setLazyFitnessEvaluator(
+            LazyFitnessEvaluator<IndividualType, FitnessValueType> lazyFitnessEvaluator) {
+        this.lazyFitnessEvaluator = lazyFitnessEvaluator;
+    }
+
+    /**
+     * Checks if the evaluation of the fitness value is deferred.
+     *
+     * @return "true" if the fitness value is evaluated at the first access
+     */
+    public final boolean isFitnessValueDeferred() {
+        return (this.fitnessValue == null) && (this.lazyFitnessEvaluator != null);
     }
 
     /**
@@ -217,18 +269,21 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
      */
     @Override
     public int compareTo(IndividualWrapper<IndividualType, FitnessValueType> other) {
-        if (this.fitnessValue == null)
+        FitnessValueType fitnessValue = this.getFitnessValue();
+        if (fitnessValue == null)
             return 0;
 
-        return this.fitnessValue.compareTo(other.getFitnessValue());
+        return fitnessValue.compareTo(other.getFitnessValue());
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public Object clone() throws CloneNotSupportedException {
         IndividualType individualClone = (IndividualType) this.individual.clone();
-        FitnessValueType fitnessValueClone = (this.fitnessValue != null)
-                ? (FitnessValueType) this.fitnessValue.clone() : null;
+
+        // Forces the deferred evaluation, since the evaluator is not copied.
+        FitnessValueType fitnessValue = this.getFitnessValue();
+        FitnessValueType fitnessValueClone = (fitnessValue != null) ? (FitnessValueType) fitnessValue.clone() : null;
 
         IndividualWrapper<IndividualType, FitnessValueType> clone =
                 new IndividualWrapper<IndividualType, FitnessValueType>();
@@ -238,4 +293,21 @@ public class IndividualWrapper<IndividualType extends Individual, FitnessValueTy
 
         return clone;
     }
+
+    /**
+     * Evaluates the fitness value of an individual whose evaluation is deferred.
+     *
+     * @param <IndividualType>
+     * @param <FitnessValueType>
+     */
+    public interface LazyFitnessEvaluator<IndividualType extends Individual, FitnessValueType extends FitnessValue> {
+
+        /**
+         * Evaluates the fitness value of the individual.
+         *
+         * @param individualWrapper the individual to evaluate
+         * @return the fitness value
+         */
+        FitnessValueType evaluate(IndividualWrapper<IndividualType, FitnessValueType> individualWrapper);
+    }
 }
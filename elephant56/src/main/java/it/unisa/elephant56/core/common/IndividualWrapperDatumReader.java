@@ -0,0 +1,105 @@
+package it.unisa.elephant56.core.common;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.reflect.ReflectDatumReader;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.common.Serialiser;
+
+/**
+ * Reads individual wrappers from Avro decoders, delegating the individual and the fitness value to their serialisers.
+ * <p>
+ * If the data has been written with a different schema, for instance by the Avro reflection before the serialisers
+ * were set, it is read with the Avro reflection.
+ */
+public class IndividualWrapperDatumReader implements DatumReader<IndividualWrapper<Individual, FitnessValue>> {
+
+    private Serialiser<Individual> individualSerialiser;
+    private Serialiser<FitnessValue> fitnessValueSerialiser;
+
+    private Schema schema;
+
+    private ReflectDatumReader<IndividualWrapper<Individual, FitnessValue>> reflectDatumReader;
+    private boolean isReflectActive;
+
+    /**
+     * Constructs a reader.
+     *
+     * @param individualSerialiser   the serialiser of the individuals
+     * @param fitnessValueSerialiser the serialiser of the fitness values
+     * @param classLoader            the class loader used by the Avro reflection
+     */
+    public IndividualWrapperDatumReader(Serialiser<Individual> individualSerialiser,
+                                        Serialiser<FitnessValue> fitnessValueSerialiser, ClassLoader classLoader) {
+        this.individualSerialiser = individualSerialiser;
+        this.fitnessValueSerialiser = fitnessValueSerialiser;
+
+        this.schema = IndividualWrapper.getSchema(individualSerialiser.getSchema(), fitnessValueSerialiser.getSchema());
+
+        this.reflectDatumReader =
+                new ReflectDatumReader<IndividualWrapper<Individual, FitnessValue>>(new ReflectData(classLoader));
+        this.isReflectActive = false;
+    }
+
+    /**
+     * Returns the schema of the data read with the serialisers.
+     *
+     * @return the schema
+     */
+    public Schema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * Sets the schema of the data to read, choosing between the serialisers and the Avro reflection.
+     */
+    @Override
+    public void setSchema(Schema schema) {
+        this.isReflectActive = !this.schema.equals(schema);
+        if (this.isReflectActive)
+            this.reflectDatumReader.setSchema(schema);
+    }
+
+    @Override
+    public IndividualWrapper<Individual, FitnessValue> read(IndividualWrapper<Individual, FitnessValue> reuse,
+                                                           Decoder decoder) throws IOException {
+        if (this.isReflectActive)
+            return this.reflectDatumReader.read(reuse, decoder);
+
+        IndividualWrapper<Individual, FitnessValue> result = reuse;
+        if (result == null)
+            result = new IndividualWrapper<Individual, FitnessValue>();
+
+        // Reads the individual.
+        if (decoder.readIndex() == 1) {
+            result.setIndividual(this.individualSerialiser.deserialise(decoder));
+        } else {
+            decoder.readNull();
+            result.emptyIndividual();
+        }
+
+        // Reads the fitness value.
+        if (decoder.readIndex() == 1) {
+            result.setFitnessValue(this.fitnessValueSerialiser.deserialise(decoder));
+        } else {
+            decoder.readNull();
+            result.emptyFitnessValue();
+        }
+
+        // Reads the termination condition flag.
+        if (decoder.readIndex() == 1) {
+            result.setTerminationConditionSatisfied(decoder.readBoolean());
+        } else {
+            decoder.readNull();
+            result.emptyTerminationConditionSatisfied();
+        }
+
+        return result;
+    }
+}
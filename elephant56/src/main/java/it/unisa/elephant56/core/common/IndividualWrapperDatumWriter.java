@@ -0,0 +1,70 @@
+package it.unisa.elephant56.core.common;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.common.Serialiser;
+
+/**
+ * Writes individual wrappers to Avro encoders, delegating the individual and the fitness value to their serialisers.
+ * The written data follows the schema composed by {@link IndividualWrapper#getSchema(Schema, Schema)}.
+ */
+public class IndividualWrapperDatumWriter implements DatumWriter<IndividualWrapper<Individual, FitnessValue>> {
+
+    private Serialiser<Individual> individualSerialiser;
+    private Serialiser<FitnessValue> fitnessValueSerialiser;
+
+    /**
+     * Constructs a writer.
+     *
+     * @param individualSerialiser   the serialiser of the individuals
+     * @param fitnessValueSerialiser the serialiser of the fitness values
+     */
+    public IndividualWrapperDatumWriter(Serialiser<Individual> individualSerialiser,
+                                        Serialiser<FitnessValue> fitnessValueSerialiser) {
+        this.individualSerialiser = individualSerialiser;
+        this.fitnessValueSerialiser = fitnessValueSerialiser;
+    }
+
+    /**
+     * The schema is given by the serialisers, so it is ignored.
+     */
+    @Override
+    public void setSchema(Schema schema) {
+    }
+
+    @Override
+    public void write(IndividualWrapper<Individual, FitnessValue> datum, Encoder encoder) throws IOException {
+        // Writes the individual.
+        if (datum.isIndividualSet()) {
+            encoder.writeIndex(1);
+            this.individualSerialiser.serialise(datum.getIndividual(), encoder);
+        } else {
+            encoder.writeIndex(0);
+            encoder.writeNull();
+        }
+
+        // Writes the fitness value.
+        if (datum.isFitnessValueSet()) {
+            encoder.writeIndex(1);
+            this.fitnessValueSerialiser.serialise(datum.getFitnessValue(), encoder);
+        } else {
+            encoder.writeIndex(0);
+            encoder.writeNull();
+        }
+
+        // Writes the termination condition flag.
+        if (datum.isTerminationConditionSatisfiedSet()) {
+            encoder.writeIndex(1);
+            encoder.writeBoolean(datum.isTerminationConditionSatisfied());
+        } else {
+            encoder.writeIndex(0);
+            encoder.writeNull();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package it.unisa.elephant56.core.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.mapred.AvroKey;
+import org.apache.avro.mapreduce.AvroJob;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.reflect.ReflectDatumReader;
+import org.apache.avro.reflect.ReflectDatumWriter;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.conf.Configured;
+import org.apache.hadoop.io.serializer.Deserializer;
+import org.apache.hadoop.io.serializer.Serialization;
+import org.apache.hadoop.io.serializer.Serializer;
+import org.apache.hadoop.util.ReflectionUtils;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.common.Serialiser;
+
+/**
+ * Serialises the individual wrappers in the shuffle with the serialisers of the individuals and the fitness values,
+ * and creates the Avro datum readers and writers used for the population files.
+ * <p>
+ * The serialisers are used only if both the individual and the fitness value ones are set in the configuration,
+ * otherwise the Avro reflection is used with the map output key schema of the job.
+ * <p>
+ * Unlike the Avro serialization, every key of the shuffle holds a new datum, never reused for the next keys, so that
+ * the reducers can keep it without cloning it.
+ */
+public class IndividualWrapperSerialization extends Configured
+        implements Serialization<AvroKey<IndividualWrapper<Individual, FitnessValue>>> {
+
+    private static final String SERIALIZATIONS_KEY = "io.serializations";
+
+    /**
+     * Checks if the serialisers are set in the configuration.
+     *
+     * @param configuration the configuration
+     * @return "true" if both the serialisers are set
+     */
+    public static boolean isActive(Configuration configuration) {
+        return (configuration.get(Constants.CONFIGURATION_INDIVIDUAL_SERIALISER_CLASS) != null) &&
+                (configuration.get(Constants.CONFIGURATION_FITNESS_VALUE_SERIALISER_CLASS) != null);
+    }
+
+    /**
+     * Composes the Avro schema of the individual wrapper, with the serialisers if set or with the Avro reflection.
+     *
+     * @param configuration     the configuration
+     * @param individualClass   the class of the individual
+     * @param fitnessValueClass the class of the fitness value
+     * @return the schema composed
+     */
+    public static Schema getSchema(Configuration configuration, Class<?> individualClass,
+                                   Class<?> fitnessValueClass) {
+        if (!isActive(configuration))
+            return IndividualWrapper.getSchema(individualClass, fitnessValueClass);
+
+        return IndividualWrapper.getSchema(getIndividualSerialiser(configuration).getSchema(),
+                getFitnessValueSerialiser(configuration).getSchema());
+    }
+
+    /**
+     * Creates a datum writer of individual wrappers.
+     *
+     * @param configuration the configuration
+     * @param schema        the schema of the individual wrappers
+     * @return the datum writer
+     */
+    public static DatumWriter<IndividualWrapper<Individual, FitnessValue>> createDatumWriter(
+            Configuration configuration, Schema schema) {
+        if (!isActive(configuration))
+            return new ReflectDatumWriter<IndividualWrapper<Individual, FitnessValue>>(schema,
+                    new ReflectData(configuration.getClassLoader()));
+
+        return new IndividualWrapperDatumWriter(getIndividualSerialiser(configuration),
+                getFitnessValueSerialiser(configuration));
+    }
+
+    /**
+     * Creates a datum reader of individual wrappers. The schema is set by the Avro file reader.
+     *
+     * @param configuration the configuration
+     * @return the datum reader
+     */
+    public static DatumReader<IndividualWrapper<Individual, FitnessValue>> createDatumReader(
+            Configuration configuration) {
+        if (!isActive(configuration))
+            return new ReflectDatumReader<IndividualWrapper<Individual, FitnessValue>>(
+                    new ReflectData(configuration.getClassLoader()));
+
+        return new IndividualWrapperDatumReader(getIndividualSerialiser(configuration),
+                getFitnessValueSerialiser(configuration), configuration.getClassLoader());
+    }
+
+    /**
+     * Creates a datum reader of individual wrappers projected on the fitness value and the termination condition
+     * flag, that skips the individuals. The schema is set by the Avro file reader.
+     *
+     * @param configuration the configuration
+     * @return the datum reader
+     */
+    public static DatumReader<IndividualWrapper<Individual, FitnessValue>> createFitnessValueDatumReader(
+            Configuration configuration) {
+        if (!isActive(configuration))
+            return new FitnessValueDatumReader(null, null, configuration.getClassLoader());
+
+        return new FitnessValueDatumReader(getIndividualSerialiser(configuration),
+                getFitnessValueSerialiser(configuration), configuration.getClassLoader());
+    }
+
+    /**
+     * Registers the serialization before the other ones, so that it is used for the Avro keys of the shuffle. The map
+     * output key schema must be set before.
+     *
+     * @param configuration the configuration of the job
+     */
+    public static void register(Configuration configuration) {
+        List<String> serializations = new ArrayList<String>();
+        serializations.add(IndividualWrapperSerialization.class.getName());
+
+        String[] currentSerializations = configuration.getStrings(SERIALIZATIONS_KEY);
+        if (currentSerializations != null)
+            for (String serialization : currentSerializations)
+                if (!serializations.contains(serialization))
+                    serializations.add(serialization);
+
+        configuration.setStrings(SERIALIZATIONS_KEY, serializations.toArray(new String[serializations.size()]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Serialiser<Individual> getIndividualSerialiser(Configuration configuration) {
+        Class<? extends Serialiser> serialiserClass =
+                configuration.getClass(Constants.CONFIGURATION_INDIVIDUAL_SERIALISER_CLASS, null, Serialiser.class);
+        return ReflectionUtils.newInstance(serialiserClass, configuration);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Serialiser<FitnessValue> getFitnessValueSerialiser(Configuration configuration) {
+        Class<? extends Serialiser> serialiserClass =
+                configuration.getClass(Constants.CONFIGURATION_FITNESS_VALUE_SERIALISER_CLASS, null, Serialiser.class);
+        return ReflectionUtils.newInstance(serialiserClass, configuration);
+    }
+
+    @Override
+    public boolean accept(Class<?> c) {
+        return AvroKey.class.isAssignableFrom(c);
+    }
+
+    @Override
+    public Serializer<AvroKey<IndividualWrapper<Individual, FitnessValue>>> getSerializer(
+            Class<AvroKey<IndividualWrapper<Individual, FitnessValue>>> c) {
+        Schema schema = isActive(this.getConf()) ? null : AvroJob.getMapOutputKeySchema(this.getConf());
+        return new IndividualWrapperSerializer(createDatumWriter(this.getConf(), schema));
+    }
+
+    @Override
+    public Deserializer<AvroKey<IndividualWrapper<Individual, FitnessValue>>> getDeserializer(
+            Class<AvroKey<IndividualWrapper<Individual, FitnessValue>>> c) {
+        DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader = createDatumReader(this.getConf());
+        if (isActive(this.getConf()))
+            datumReader.setSchema(((IndividualWrapperDatumReader) datumReader).getSchema());
+        else
+            datumReader.setSchema(AvroJob.getMapOutputKeySchema(this.getConf()));
+        return new IndividualWrapperDeserializer(datumReader);
+    }
+
+    /**
+     * Writes the Avro keys of the shuffle.
+     */
+    private static class IndividualWrapperSerializer
+            implements Serializer<AvroKey<IndividualWrapper<Individual, FitnessValue>>> {
+
+        private DatumWriter<IndividualWrapper<Individual, FitnessValue>> datumWriter;
+        private OutputStream outputStream;
+        private BinaryEncoder encoder;
+
+        public IndividualWrapperSerializer(DatumWriter<IndividualWrapper<Individual, FitnessValue>> datumWriter) {
+            this.datumWriter = datumWriter;
+        }
+
+        @Override
+        public void open(OutputStream outputStream) throws IOException {
+            this.outputStream = outputStream;
+            this.encoder = EncoderFactory.get().binaryEncoder(outputStream, this.encoder);
+        }
+
+        @Override
+        public void serialize(AvroKey<IndividualWrapper<Individual, FitnessValue>> key) throws IOException {
+            this.datumWriter.write(key.datum(), this.encoder);
+            this.encoder.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.outputStream.close();
+        }
+    }
+
+    /**
+     * Reads the Avro keys of the shuffle.
+     */
+    private static class IndividualWrapperDeserializer
+            implements Deserializer<AvroKey<IndividualWrapper<Individual, FitnessValue>>> {
+
+        private DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader;
+        private InputStream inputStream;
+        private BinaryDecoder decoder;
+
+        public IndividualWrapperDeserializer(DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader) {
+            this.datumReader = datumReader;
+        }
+
+        @Override
+        public void open(InputStream inputStream) throws IOException {
+            this.inputStream = inputStream;
+            // Reads directly from the stream, without buffering past the current record.
+            this.decoder = DecoderFactory.get().directBinaryDecoder(inputStream, this.decoder);
+        }
+
+        @Override
+        public AvroKey<IndividualWrapper<Individual, FitnessValue>> deserialize(
+                AvroKey<IndividualWrapper<Individual, FitnessValue>> reuse) throws IOException {
+            if (reuse == null)
+                reuse = new AvroKey<IndividualWrapper<Individual, FitnessValue>>();
+
+            // Reads a new datum, owned by the reducer.
+            reuse.datum(this.datumReader.read(null, this.decoder));
+            return reuse;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.inputStream.close();
+        }
+    }
+}
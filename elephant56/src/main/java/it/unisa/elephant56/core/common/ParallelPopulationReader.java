@@ -0,0 +1,227 @@
+package it.unisa.elephant56.core.common;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.SeekableInput;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.mapred.FsInput;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reads the individuals of a population file decoding its Avro data blocks on a pool of threads.
+ * <p>
+ * The calling thread reads and decompresses the blocks, that are decoded concurrently up to a maximum number of
+ * pending blocks ahead of the individual returned. The individuals are returned in the order of the file.
+ */
+public class ParallelPopulationReader implements Closeable {
+
+    private Configuration configuration;
+    private ExecutorService decodingThreadPool;
+    private int maximumNumberOfPendingBlocks;
+
+    private DataFileReader<IndividualWrapper<Individual, FitnessValue>> avroFileReader;
+    private Schema writerSchema;
+
+    private Deque<Future<List<IndividualWrapper<Individual, FitnessValue>>>> pendingBlocks;
+    private Iterator<IndividualWrapper<Individual, FitnessValue>> currentBlock;
+
+    /**
+     * Opens a population file.
+     *
+     * @param filePath                     the path of the file
+     * @param configuration                the configuration with the serialisers, if any
+     * @param decodingThreadPool           the pool decoding the blocks
+     * @param maximumNumberOfPendingBlocks the number of blocks decoded ahead
+     * @throws IOException
+     */
+    public ParallelPopulationReader(Path filePath, Configuration configuration, ExecutorService decodingThreadPool,
+                                    int maximumNumberOfPendingBlocks) throws IOException {
+        this.configuration = configuration;
+        this.decodingThreadPool = decodingThreadPool;
+        this.maximumNumberOfPendingBlocks = Math.max(maximumNumberOfPendingBlocks, 1);
+
+        SeekableInput seekableFileInput = new FsInput(filePath, configuration);
+        this.avroFileReader = new DataFileReader<IndividualWrapper<Individual, FitnessValue>>(seekableFileInput,
+                IndividualWrapperSerialization.createDatumReader(configuration));
+        this.writerSchema = this.avroFileReader.getSchema();
+
+        this.pendingBlocks = new ArrayDeque<Future<List<IndividualWrapper<Individual, FitnessValue>>>>();
+        this.currentBlock = null;
+    }
+
+    /**
+     * Checks whether there is another individual, waiting for the decoding of its block if needed.
+     *
+     * @return "true" if there is another individual, "false" otherwise
+     * @throws IOException
+     */
+    public boolean hasNext() throws IOException {
+        while ((this.currentBlock == null) || !this.currentBlock.hasNext()) {
+            this.submitPendingBlocks();
+
+            Future<List<IndividualWrapper<Individual, FitnessValue>>> nextBlock = this.pendingBlocks.poll();
+            if (nextBlock == null)
+                return false;
+
+            this.currentBlock = waitFor(nextBlock).iterator();
+        }
+
+        // Keeps the pool busy while the current block is consumed.
+        this.submitPendingBlocks();
+
+        return true;
+    }
+
+    /**
+     * Returns the next individual, a new object owned by the caller.
+     *
+     * @return the individual, or null if there are no more individuals
+     * @throws IOException
+     */
+    public IndividualWrapper<Individual, FitnessValue> next() throws IOException {
+        if (!this.hasNext())
+            return null;
+        return this.currentBlock.next();
+    }
+
+    /**
+     * Reads all the remaining individuals.
+     *
+     * @return the individuals, in the order of the file
+     * @throws IOException
+     */
+    public List<IndividualWrapper<Individual, FitnessValue>> readAll() throws IOException {
+        List<IndividualWrapper<Individual, FitnessValue>> result =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+
+        while (this.hasNext())
+            result.add(this.currentBlock.next());
+
+        return result;
+    }
+
+    /**
+     * Reads the next blocks of the file and submits their decoding, up to the maximum number of pending blocks.
+     *
+     * @throws IOException
+     */
+    private void submitPendingBlocks() throws IOException {
+        while ((this.pendingBlocks.size() < this.maximumNumberOfPendingBlocks) && this.avroFileReader.hasNext()) {
+            final long numberOfIndividuals = this.avroFileReader.getBlockCount();
+
+            // Copies the block, as its buffer can be reused by the next block.
+            ByteBuffer blockBuffer = this.avroFileReader.nextBlock();
+            final byte[] blockData = new byte[blockBuffer.remaining()];
+            blockBuffer.duplicate().get(blockData);
+
+            this.pendingBlocks.add(this.decodingThreadPool.submit(
+                    new Callable<List<IndividualWrapper<Individual, FitnessValue>>>() {
+                        @Override
+                        public List<IndividualWrapper<Individual, FitnessValue>> call() throws IOException {
+                            return decodeBlock(blockData, numberOfIndividuals);
+                        }
+                    }));
+        }
+    }
+
+    /**
+     * Decodes the individuals of a block with a datum reader of its own, as the datum readers of the serialisers
+     * are not required to be thread-safe.
+     *
+     * @param blockData           the decompressed data of the block
+     * @param numberOfIndividuals the number of individuals in the block
+     * @return the individuals
+     * @throws IOException
+     */
+    private List<IndividualWrapper<Individual, FitnessValue>> decodeBlock(byte[] blockData, long numberOfIndividuals)
+            throws IOException {
+        DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader =
+                IndividualWrapperSerialization.createDatumReader(this.configuration);
+        datumReader.setSchema(this.writerSchema);
+
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(blockData, null);
+
+        List<IndividualWrapper<Individual, FitnessValue>> block =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>((int) numberOfIndividuals);
+        for (long i = 0L; i < numberOfIndividuals; i++)
+            block.add(datumReader.read(null, decoder));
+
+        return block;
+    }
+
+    /**
+     * Closes the file, discarding the blocks still pending.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        for (Future<List<IndividualWrapper<Individual, FitnessValue>>> pendingBlock : this.pendingBlocks)
+            pendingBlock.cancel(false);
+        this.pendingBlocks.clear();
+
+        this.avroFileReader.close();
+    }
+
+    /**
+     * Waits for a task of the population I/O, rethrowing its failure.
+     *
+     * @param task the task
+     * @param <T>  the type of the result
+     * @return the result
+     * @throws IOException
+     */
+    public static <T> T waitFor(Future<T> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the population I/O.");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException)
+                throw (IOException) exception.getCause();
+            if (exception.getCause() instanceof RuntimeException)
+                throw (RuntimeException) exception.getCause();
+            throw new IOException(exception.getCause());
+        }
+    }
+
+    /**
+     * Creates a pool of daemon threads for the population I/O.
+     *
+     * @param numberOfThreads the number of threads
+     * @param name            the name of the threads
+     * @return the thread pool
+     */
+    public static ExecutorService createThreadPool(int numberOfThreads, final String name) {
+        return Executors.newFixedThreadPool(Math.max(numberOfThreads, 1), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+}
@@ -0,0 +1,243 @@
+package it.unisa.elephant56.core.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.mapred.FsInput;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.PathFilter;
+
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+
+/**
+ * Iterates over a population, either kept in memory or read from population files one individual at a time, so that
+ * a population bigger than the memory can be scanned. The individuals can be filtered by the termination condition
+ * flag.
+ * <p>
+ * Every iterator opens its own readers, one file at a time; the readers still open are closed by "close".
+ */
+public class PopulationIterable implements Iterable<IndividualWrapper<Individual, FitnessValue>>, Closeable {
+
+    private List<IndividualWrapper<Individual, FitnessValue>> population;
+
+    private List<Path> filePaths;
+    private Configuration configuration;
+
+    private Boolean terminationConditionSatisfied;
+
+    private List<DataFileReader<IndividualWrapper<Individual, FitnessValue>>> openAvroFileReaders;
+
+    /**
+     * Constructs an iterable over a population in memory.
+     *
+     * @param population the population, null for an empty one
+     */
+    public PopulationIterable(List<IndividualWrapper<Individual, FitnessValue>> population) {
+        this(population, null, null, null);
+    }
+
+    /**
+     * Constructs an iterable over the population files, read in the given order.
+     *
+     * @param filePaths     the paths of the files
+     * @param configuration the configuration with the serialisers, if any
+     */
+    public PopulationIterable(List<Path> filePaths, Configuration configuration) {
+        this(null, filePaths, configuration, null);
+    }
+
+    private PopulationIterable(List<IndividualWrapper<Individual, FitnessValue>> population, List<Path> filePaths,
+                               Configuration configuration, Boolean terminationConditionSatisfied) {
+        this.population = population;
+        this.filePaths = filePaths;
+        this.configuration = configuration;
+        this.terminationConditionSatisfied = terminationConditionSatisfied;
+        this.openAvroFileReaders = new ArrayList<DataFileReader<IndividualWrapper<Individual, FitnessValue>>>();
+    }
+
+    /**
+     * Constructs an iterable over the population files of a folder.
+     *
+     * @param folderPath    the path of the folder
+     * @param configuration the configuration with the serialisers, if any
+     * @param pathFilter    the filter of the files
+     * @return the iterable
+     * @throws IOException
+     */
+    public static PopulationIterable fromFolder(Path folderPath, Configuration configuration, PathFilter pathFilter)
+            throws IOException {
+        List<Path> filePaths = new ArrayList<Path>();
+
+        FileSystem fileSystem = FileSystem.get(configuration);
+        for (FileStatus file : fileSystem.listStatus(folderPath, pathFilter))
+            filePaths.add(file.getPath());
+
+        return new PopulationIterable(filePaths, configuration);
+    }
+
+    /**
+     * Returns an iterable over the same population, restricted to the individuals with the given termination
+     * condition flag.
+     *
+     * @param satisfied "true" for the solutions, "false" for the other individuals
+     * @return the iterable
+     */
+    public PopulationIterable filterByTerminationCondition(boolean satisfied) {
+        return new PopulationIterable(this.population, this.filePaths, this.configuration, satisfied);
+    }
+
+    /**
+     * Finds the best individuals by fitness value in a single pass, keeping in memory only the individuals found so
+     * far. The individuals without a fitness value are ignored.
+     *
+     * @param numberOfIndividuals the number of individuals to find
+     * @return the best individuals, from the best one
+     * @throws IOException
+     */
+    public List<IndividualWrapper<Individual, FitnessValue>> getBestIndividuals(int numberOfIndividuals)
+            throws IOException {
+        if (numberOfIndividuals <= 0)
+            return new ArrayList<IndividualWrapper<Individual, FitnessValue>>(0);
+
+        // Keeps the worst of the best individuals at the head.
+        PriorityQueue<IndividualWrapper<Individual, FitnessValue>> bestIndividuals =
+                new PriorityQueue<IndividualWrapper<Individual, FitnessValue>>(numberOfIndividuals + 1);
+
+        PopulationIterator iterator = new PopulationIterator();
+        try {
+            while (iterator.hasNext()) {
+                IndividualWrapper<Individual, FitnessValue> currentIndividual = iterator.next();
+                if (!currentIndividual.isFitnessValueSet())
+                    continue;
+
+                bestIndividuals.add(currentIndividual);
+                if (bestIndividuals.size() > numberOfIndividuals)
+                    bestIndividuals.poll();
+            }
+        } finally {
+            iterator.close();
+        }
+
+        List<IndividualWrapper<Individual, FitnessValue>> result =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>(bestIndividuals);
+        Collections.sort(result, Collections.reverseOrder());
+        return result;
+    }
+
+    @Override
+    public Iterator<IndividualWrapper<Individual, FitnessValue>> iterator() {
+        return new PopulationIterator();
+    }
+
+    /**
+     * Closes the readers still open by the iterators.
+     */
+    @Override
+    public void close() throws IOException {
+        List<DataFileReader<IndividualWrapper<Individual, FitnessValue>>> avroFileReaders;
+        synchronized (this.openAvroFileReaders) {
+            avroFileReaders = new ArrayList<DataFileReader<IndividualWrapper<Individual, FitnessValue>>>(
+                    this.openAvroFileReaders);
+            this.openAvroFileReaders.clear();
+        }
+
+        for (DataFileReader<IndividualWrapper<Individual, FitnessValue>> avroFileReader : avroFileReaders)
+            avroFileReader.close();
+    }
+
+    /**
+     * Reads the individuals one file at a time, skipping the ones filtered out.
+     */
+    private class PopulationIterator implements Iterator<IndividualWrapper<Individual, FitnessValue>> {
+
+        private int nextFileIndex;
+        private DataFileReader<IndividualWrapper<Individual, FitnessValue>> currentAvroFileReader;
+        private Iterator<IndividualWrapper<Individual, FitnessValue>> currentIterator;
+
+        private IndividualWrapper<Individual, FitnessValue> nextIndividual;
+
+        public PopulationIterator() {
+            this.nextFileIndex = 0;
+
+            if (population != null)
+                this.currentIterator = population.iterator();
+            else if (filePaths == null)
+                this.currentIterator = Collections.<IndividualWrapper<Individual, FitnessValue>>emptyList().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (this.nextIndividual == null) {
+                    // Opens the next file when the current one is over.
+                    if ((this.currentIterator == null) || !this.currentIterator.hasNext()) {
+                        this.close();
+                        if ((filePaths == null) || (this.nextFileIndex >= filePaths.size()))
+                            return false;
+                        this.open(filePaths.get(this.nextFileIndex++));
+                        continue;
+                    }
+
+                    IndividualWrapper<Individual, FitnessValue> currentIndividual = this.currentIterator.next();
+                    if ((terminationConditionSatisfied == null) || terminationConditionSatisfied.equals(
+                            currentIndividual.isTerminationConditionSatisfied()))
+                        this.nextIndividual = currentIndividual;
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+
+            return true;
+        }
+
+        @Override
+        public IndividualWrapper<Individual, FitnessValue> next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+
+            IndividualWrapper<Individual, FitnessValue> result = this.nextIndividual;
+            this.nextIndividual = null;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void open(Path filePath) throws IOException {
+            this.currentAvroFileReader = new DataFileReader<IndividualWrapper<Individual, FitnessValue>>(
+                    new FsInput(filePath, configuration),
+                    IndividualWrapperSerialization.createDatumReader(configuration));
+            synchronized (openAvroFileReaders) {
+                openAvroFileReaders.add(this.currentAvroFileReader);
+            }
+
+            // Every record is read into a new datum, so that the individuals can be kept.
+            this.currentIterator = this.currentAvroFileReader;
+        }
+
+        private void close() throws IOException {
+            if (this.currentAvroFileReader == null)
+                return;
+
+            synchronized (openAvroFileReaders) {
+                openAvroFileReaders.remove(this.currentAvroFileReader);
+            }
+            this.currentAvroFileReader.close();
+            this.currentAvroFileReader = null;
+            this.currentIterator = null;
+        }
+    }
+}
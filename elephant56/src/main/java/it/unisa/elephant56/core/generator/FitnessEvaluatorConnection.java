@@ -0,0 +1,206 @@
+package it.unisa.elephant56.core.generator;
+
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.hadoop.conf.Configuration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exchanges the individuals between the master and a fitness evaluator over a socket.
+ * <p>
+ * The master first sends the schema of the individual wrappers. Then every request is the number of individuals
+ * followed by the fitness value the individuals race against, if any, and by the individuals, encoded with the same
+ * datum writers of the population files; the fitness evaluator replies with the same number of individuals carrying
+ * only the fitness values. A negative number stops the fitness evaluator.
+ */
+public class FitnessEvaluatorConnection implements Closeable {
+    private static final int STOP_REQUEST = -1;
+
+    private Socket socket;
+    private Configuration configuration;
+
+    private BinaryEncoder encoder;
+    private BinaryDecoder decoder;
+
+    private DatumWriter<IndividualWrapper<Individual, FitnessValue>> datumWriter;
+    private DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader;
+
+    private FitnessValue requestThreshold;
+
+    /**
+     * Constructs a connection over a socket.
+     *
+     * @param socket        the connected socket
+     * @param configuration the configuration with the serialisers, if any
+     * @throws IOException
+     */
+    public FitnessEvaluatorConnection(Socket socket, Configuration configuration) throws IOException {
+        this.socket = socket;
+        this.configuration = configuration;
+
+        // Sends the small requests immediately.
+        this.socket.setTcpNoDelay(true);
+
+        this.encoder = EncoderFactory.get().binaryEncoder(new BufferedOutputStream(socket.getOutputStream()), null);
+        this.decoder = DecoderFactory.get().directBinaryDecoder(new BufferedInputStream(socket.getInputStream()),
+                null);
+    }
+
+    /**
+     * Sets the milliseconds a read waits for the other side before failing with a timeout.
+     *
+     * @param readTimeout the milliseconds, 0 to wait indefinitely
+     * @throws IOException
+     */
+    public void setReadTimeout(long readTimeout) throws IOException {
+        this.socket.setSoTimeout((int) Math.min(Math.max(readTimeout, 0L), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Sends the schema of the individual wrappers and uses it for the next exchanges.
+     *
+     * @param individualWrapperSchema the schema
+     * @throws IOException
+     */
+    public void writeSchema(Schema individualWrapperSchema) throws IOException {
+        this.encoder.writeString(individualWrapperSchema.toString());
+        this.encoder.flush();
+
+        this.setSchema(individualWrapperSchema);
+    }
+
+    /**
+     * Receives the schema of the individual wrappers and uses it for the next exchanges.
+     *
+     * @return the schema
+     * @throws IOException
+     */
+    public Schema readSchema() throws IOException {
+        Schema individualWrapperSchema = new Schema.Parser().parse(this.decoder.readString(null).toString());
+
+        this.setSchema(individualWrapperSchema);
+
+        return individualWrapperSchema;
+    }
+
+    private void setSchema(Schema individualWrapperSchema) {
+        this.datumWriter = IndividualWrapperSerialization.createDatumWriter(this.configuration,
+                individualWrapperSchema);
+        this.datumReader = IndividualWrapperSerialization.createDatumReader(this.configuration);
+        this.datumReader.setSchema(individualWrapperSchema);
+    }
+
+    /**
+     * Sends a request to evaluate a list of individuals.
+     *
+     * @param individuals the individuals
+     * @param threshold   the fitness value the individuals race against, null if there is none
+     * @throws IOException
+     */
+    public void writeRequest(List<IndividualWrapper<Individual, FitnessValue>> individuals, FitnessValue threshold)
+            throws IOException {
+        this.encoder.writeInt(individuals.size());
+
+        IndividualWrapper<Individual, FitnessValue> thresholdWrapper =
+                new IndividualWrapper<Individual, FitnessValue>();
+        thresholdWrapper.setFitnessValue(threshold);
+        this.datumWriter.write(thresholdWrapper, this.encoder);
+
+        for (IndividualWrapper<Individual, FitnessValue> individual : individuals)
+            this.datumWriter.write(individual, this.encoder);
+        this.encoder.flush();
+    }
+
+    /**
+     * Receives a request to evaluate a list of individuals.
+     *
+     * @return the individuals, or null if the other side asked to stop
+     * @throws IOException
+     */
+    public List<IndividualWrapper<Individual, FitnessValue>> readRequest() throws IOException {
+        int numberOfIndividuals = this.decoder.readInt();
+        if (numberOfIndividuals < 0)
+            return null;
+
+        this.requestThreshold = this.datumReader.read(null, this.decoder).getFitnessValue();
+
+        return this.readIndividuals(numberOfIndividuals);
+    }
+
+    /**
+     * Returns the fitness value the individuals of the last request received race against.
+     *
+     * @return the threshold, null if there is none
+     */
+    public FitnessValue getRequestThreshold() {
+        return this.requestThreshold;
+    }
+
+    /**
+     * Sends a list of individuals.
+     *
+     * @param individuals the individuals
+     * @throws IOException
+     */
+    public void writeIndividuals(List<IndividualWrapper<Individual, FitnessValue>> individuals) throws IOException {
+        this.encoder.writeInt(individuals.size());
+        for (IndividualWrapper<Individual, FitnessValue> individual : individuals)
+            this.datumWriter.write(individual, this.encoder);
+        this.encoder.flush();
+    }
+
+    /**
+     * Receives a list of individuals.
+     *
+     * @return the individuals, or null if the other side asked to stop
+     * @throws IOException
+     */
+    public List<IndividualWrapper<Individual, FitnessValue>> readIndividuals() throws IOException {
+        int numberOfIndividuals = this.decoder.readInt();
+        if (numberOfIndividuals < 0)
+            return null;
+
+        return this.readIndividuals(numberOfIndividuals);
+    }
+
+    private List<IndividualWrapper<Individual, FitnessValue>> readIndividuals(int numberOfIndividuals)
+            throws IOException {
+        List<IndividualWrapper<Individual, FitnessValue>> individuals =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>(numberOfIndividuals);
+        for (int i = 0; i < numberOfIndividuals; i++)
+            individuals.add(this.datumReader.read(null, this.decoder));
+
+        return individuals;
+    }
+
+    /**
+     * Asks the fitness evaluator to stop.
+     *
+     * @throws IOException
+     */
+    public void writeStop() throws IOException {
+        this.encoder.writeInt(STOP_REQUEST);
+        this.encoder.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+    }
+}
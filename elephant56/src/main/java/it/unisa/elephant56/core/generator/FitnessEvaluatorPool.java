@@ -0,0 +1,331 @@
+package it.unisa.elephant56.core.generator;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import org.apache.avro.Schema;
+import org.apache.hadoop.conf.Configuration;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Keeps the connections to the fitness evaluators of the global model for the whole run, so that every evaluation
+ * only streams the individuals to them and receives the fitness values back, without submitting a job.
+ * <p>
+ * The fitness evaluators connect to the pool by themselves, either from the mappers of a long-lived job or from local
+ * processes. Every evaluation is split among the fitness evaluators connected at that moment; the part of a fitness
+ * evaluator that fails, or that does not reply within the read timeout, is evaluated again by the remaining ones.
+ */
+public class FitnessEvaluatorPool {
+
+    private Configuration configuration;
+    private Schema individualWrapperSchema;
+
+    private ServerSocket serverSocket;
+    private List<FitnessEvaluatorConnection> connections;
+    private long readTimeout;
+
+    private ExecutorService threadPool;
+
+    private List<Process> localProcesses;
+    private File localConfigurationFile;
+
+    /**
+     * Constructs the pool and starts accepting the fitness evaluators.
+     *
+     * @param configuration           the configuration, with the serialisers, if any
+     * @param individualWrapperSchema the schema of the individual wrappers
+     * @throws IOException
+     */
+    public FitnessEvaluatorPool(Configuration configuration, Schema individualWrapperSchema) throws IOException {
+        this.configuration = configuration;
+        this.individualWrapperSchema = individualWrapperSchema;
+
+        this.serverSocket = new ServerSocket(0);
+        this.connections = new ArrayList<FitnessEvaluatorConnection>();
+        this.readTimeout = configuration.getLong(Constants.CONFIGURATION_FITNESS_EVALUATORS_READ_TIMEOUT,
+                Constants.DEFAULT_FITNESS_EVALUATORS_READ_TIMEOUT);
+
+        this.threadPool = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "fitness-evaluator-pool");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        this.localProcesses = new ArrayList<Process>();
+
+        // Accepts the fitness evaluators until closed.
+        this.threadPool.submit(new Runnable() {
+            @Override
+            public void run() {
+                acceptConnections();
+            }
+        });
+    }
+
+    private void acceptConnections() {
+        while (!this.serverSocket.isClosed()) {
+            try {
+                Socket socket = this.serverSocket.accept();
+
+                FitnessEvaluatorConnection connection = new FitnessEvaluatorConnection(socket, this.configuration);
+                connection.setReadTimeout(this.readTimeout);
+                connection.writeSchema(this.individualWrapperSchema);
+
+                synchronized (this.connections) {
+                    this.connections.add(connection);
+                }
+            } catch (IOException exception) {
+                if (!this.serverSocket.isClosed())
+                    exception.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Returns the address the fitness evaluators connect to.
+     *
+     * @return the address, as "host:port"
+     * @throws IOException
+     */
+    public String getAddress() throws IOException {
+        return InetAddress.getLocalHost().getCanonicalHostName() + ":" + this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of fitness evaluators connected.
+     *
+     * @return the number of fitness evaluators
+     */
+    public int getNumberOfFitnessEvaluators() {
+        synchronized (this.connections) {
+            return this.connections.size();
+        }
+    }
+
+    /**
+     * Launches the fitness evaluators as local processes, a stand-in for the cluster to test the pool.
+     *
+     * @param numberOfFitnessEvaluators the number of processes
+     * @param userClasses               the classes whose locations must be in the class path of the processes
+     * @throws IOException
+     */
+    public void launchLocalFitnessEvaluators(int numberOfFitnessEvaluators, Class<?>... userClasses)
+            throws IOException {
+        // Writes the configuration for the processes.
+        this.localConfigurationFile = File.createTempFile("elephant56-fitness_evaluators", ".xml");
+        this.localConfigurationFile.deleteOnExit();
+        OutputStream outputStream = new FileOutputStream(this.localConfigurationFile);
+        try {
+            this.configuration.writeXml(outputStream);
+        } finally {
+            outputStream.close();
+        }
+
+        // Composes the class path, adding the locations of the user classes loaded by other class loaders.
+        Set<String> classPath = new LinkedHashSet<String>();
+        classPath.add(System.getProperty("java.class.path"));
+        for (Class<?> userClass : userClasses)
+            if ((userClass != null) && (userClass.getProtectionDomain().getCodeSource() != null))
+                classPath.add(new File(userClass.getProtectionDomain().getCodeSource().getLocation().getPath())
+                        .getAbsolutePath());
+
+        StringBuilder classPathString = new StringBuilder();
+        for (String classPathEntry : classPath) {
+            if (classPathString.length() > 0)
+                classPathString.append(File.pathSeparator);
+            classPathString.append(classPathEntry);
+        }
+
+        String javaPath = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String address = "localhost:" + this.serverSocket.getLocalPort();
+
+        // Launches the processes.
+        for (int i = 0; i < numberOfFitnessEvaluators; i++) {
+            ProcessBuilder processBuilder = new ProcessBuilder(javaPath, "-cp", classPathString.toString(),
+                    FitnessEvaluatorWorker.class.getName(), address, Integer.toString(i),
+                    Integer.toString(numberOfFitnessEvaluators), this.localConfigurationFile.getAbsolutePath());
+            processBuilder.inheritIO();
+            this.localProcesses.add(processBuilder.start());
+        }
+    }
+
+    /**
+     * Waits until at least a number of fitness evaluators are connected.
+     *
+     * @param numberOfFitnessEvaluators the number of fitness evaluators
+     * @param timeout                   the milliseconds to wait at most
+     * @return the connected fitness evaluators
+     * @throws IOException if not enough fitness evaluators connected in time
+     */
+    public List<FitnessEvaluatorConnection> waitForFitnessEvaluators(int numberOfFitnessEvaluators, long timeout)
+            throws IOException {
+        long finishTime = System.currentTimeMillis() + timeout;
+
+        while (true) {
+            synchronized (this.connections) {
+                if (this.connections.size() >= numberOfFitnessEvaluators)
+                    return new ArrayList<FitnessEvaluatorConnection>(this.connections);
+            }
+
+            if (System.currentTimeMillis() > finishTime)
+                throw new IOException("Only " + this.getNumberOfFitnessEvaluators() + " fitness evaluators of " +
+                        numberOfFitnessEvaluators + " connected.");
+
+            try {
+                Thread.sleep(Constants.LOCK_TIME_TO_WAIT);
+            } catch (InterruptedException exception) {
+                throw new IOException(exception);
+            }
+        }
+    }
+
+    /**
+     * Evaluates the fitness values of a population with the connected fitness evaluators, setting them into the
+     * individuals in place.
+     *
+     * @param population the population to evaluate
+     * @param threshold  the fitness value the individuals race against, null if there is none
+     * @throws IOException if all the fitness evaluators failed
+     */
+    public void evaluate(List<IndividualWrapper<Individual, FitnessValue>> population, final FitnessValue threshold)
+            throws IOException {
+        List<IndividualWrapper<Individual, FitnessValue>> pendingPopulation = population;
+
+        while (!pendingPopulation.isEmpty()) {
+            List<FitnessEvaluatorConnection> currentConnections =
+                    this.waitForFitnessEvaluators(1, Constants.FITNESS_EVALUATORS_CONNECTION_TIMEOUT);
+
+            // Splits the population in contiguous parts, one for each fitness evaluator.
+            int numberOfParts = Math.min(currentConnections.size(), pendingPopulation.size());
+            List<List<IndividualWrapper<Individual, FitnessValue>>> parts =
+                    new ArrayList<List<IndividualWrapper<Individual, FitnessValue>>>(numberOfParts);
+            List<Future<Void>> futures = new ArrayList<Future<Void>>(numberOfParts);
+
+            for (int i = 0; i < numberOfParts; i++) {
+                final FitnessEvaluatorConnection connection = currentConnections.get(i);
+                final List<IndividualWrapper<Individual, FitnessValue>> part = pendingPopulation.subList(
+                        (int) (((long) pendingPopulation.size() * i) / numberOfParts),
+                        (int) (((long) pendingPopulation.size() * (i + 1)) / numberOfParts));
+
+                parts.add(part);
+                futures.add(this.threadPool.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        exchange(connection, part, threshold);
+                        return null;
+                    }
+                }));
+            }
+
+            // Collects the parts to evaluate again.
+            List<IndividualWrapper<Individual, FitnessValue>> failedPopulation =
+                    new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+
+            for (int i = 0; i < numberOfParts; i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException exception) {
+                    exception.getCause().printStackTrace();
+
+                    this.removeConnection(currentConnections.get(i));
+                    failedPopulation.addAll(parts.get(i));
+                } catch (InterruptedException exception) {
+                    throw new IOException(exception);
+                }
+            }
+
+            pendingPopulation = failedPopulation;
+        }
+    }
+
+    private void exchange(FitnessEvaluatorConnection connection,
+                          List<IndividualWrapper<Individual, FitnessValue>> part, FitnessValue threshold)
+            throws IOException {
+        connection.writeRequest(part, threshold);
+
+        List<IndividualWrapper<Individual, FitnessValue>> fitnessValues;
+        try {
+            fitnessValues = connection.readIndividuals();
+        } catch (SocketTimeoutException exception) {
+            throw new IOException("The fitness evaluator did not reply within " + this.readTimeout +
+                    " milliseconds.", exception);
+        }
+
+        if ((fitnessValues == null) || (fitnessValues.size() != part.size()))
+            throw new IOException("The fitness evaluator replied with a wrong number of fitness values.");
+
+        for (int i = 0; i < part.size(); i++)
+            part.get(i).setFitnessValue(fitnessValues.get(i).getFitnessValue());
+    }
+
+    private void removeConnection(FitnessEvaluatorConnection connection) {
+        synchronized (this.connections) {
+            this.connections.remove(connection);
+        }
+
+        try {
+            connection.close();
+        } catch (IOException exception) {
+            // The connection is already broken.
+        }
+    }
+
+    /**
+     * Stops the fitness evaluators and closes the pool.
+     *
+     * @throws IOException
+     */
+    public void close() throws IOException {
+        this.serverSocket.close();
+
+        // Asks the fitness evaluators to stop.
+        synchronized (this.connections) {
+            for (FitnessEvaluatorConnection connection : this.connections) {
+                try {
+                    connection.writeStop();
+                    connection.close();
+                } catch (IOException exception) {
+                    // The fitness evaluator has already stopped.
+                }
+            }
+            this.connections.clear();
+        }
+
+        // Waits for the local processes.
+        for (Process localProcess : this.localProcesses) {
+            try {
+                localProcess.waitFor();
+            } catch (InterruptedException exception) {
+                localProcess.destroy();
+            }
+        }
+        this.localProcesses.clear();
+
+        if (this.localConfigurationFile != null)
+            this.localConfigurationFile.delete();
+
+        this.threadPool.shutdownNow();
+    }
+}
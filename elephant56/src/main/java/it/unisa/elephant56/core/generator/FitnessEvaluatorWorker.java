@@ -0,0 +1,162 @@
+package it.unisa.elephant56.core.generator;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.Properties;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.operators.FitnessEvaluation;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.util.Progressable;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates the fitness values sent by the master of the global model, for the whole run. It connects to the pool of
+ * the master and keeps the fitness evaluation instance and threads alive until the master asks to stop.
+ * <p>
+ * It is executed inside the long-lived mapper of the fitness evaluators job or, as a local stand-in, as a separate
+ * process launched by the pool.
+ */
+public class FitnessEvaluatorWorker {
+
+    private Configuration configuration;
+
+    private int fitnessEvaluatorNumber;
+
+    private GlobalDistributedGenerationsBlockExecutor generationsBlockExecutor;
+
+    /**
+     * Constructs a fitness evaluator.
+     *
+     * @param configuration                  the configuration, with the user properties
+     * @param fitnessEvaluatorNumber         the number of the fitness evaluator
+     * @param totalNumberOfFitnessEvaluators the total number of fitness evaluators
+     * @throws IOException
+     */
+    @SuppressWarnings("unchecked")
+    public FitnessEvaluatorWorker(Configuration configuration, int fitnessEvaluatorNumber,
+                                  int totalNumberOfFitnessEvaluators) throws IOException {
+        this.configuration = configuration;
+        this.fitnessEvaluatorNumber = fitnessEvaluatorNumber;
+
+        // Retrieves the fitness evaluation class defined by the user.
+        Class<? extends FitnessEvaluation> fitnessEvaluationClass = (Class<? extends FitnessEvaluation>)
+                this.configuration.getClass(Constants.CONFIGURATION_FITNESS_EVALUATION_CLASS, null);
+
+        // Creates the GenerationsBlockExecutor object.
+        this.generationsBlockExecutor = new GlobalDistributedGenerationsBlockExecutor(
+                FileSystem.get(this.configuration),
+                this.configuration.get(Constants.CONFIGURATION_GENERATION_NAME_FORMAT));
+
+        this.generationsBlockExecutor.setConfiguration(this.configuration);
+        this.generationsBlockExecutor.setUserProperties(new Properties(this.configuration));
+
+        this.generationsBlockExecutor.setNodeNumber(fitnessEvaluatorNumber);
+        this.generationsBlockExecutor.setTotalNumberOfNodes(totalNumberOfFitnessEvaluators);
+
+        this.generationsBlockExecutor.setFitnessEvaluationClass(fitnessEvaluationClass);
+        this.generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS, 1));
+        this.generationsBlockExecutor.setFitnessCacheSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_CACHE_SIZE, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationBatchSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE, 0));
+        this.generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationTimeBudget(
+                this.configuration.getLong(Constants.CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET, 0L));
+    }
+
+    /**
+     * Connects to the pool of the master and evaluates the individuals received until asked to stop.
+     *
+     * @param poolAddress  the address of the pool, as "host:port"
+     * @param progressable the object to notify periodically while the fitness evaluator is alive, it can be null
+     * @throws Exception
+     */
+    public void run(String poolAddress, final Progressable progressable) throws Exception {
+        // Connects to the master.
+        int separatorIndex = poolAddress.lastIndexOf(':');
+        Socket socket = new Socket(poolAddress.substring(0, separatorIndex),
+                Integer.parseInt(poolAddress.substring(separatorIndex + 1)));
+
+        FitnessEvaluatorConnection connection = new FitnessEvaluatorConnection(socket, this.configuration);
+
+        // Notifies the progress also while waiting for the requests or evaluating a long one.
+        Thread heartbeatThread = null;
+        if (progressable != null) {
+            heartbeatThread = new Thread("fitness-evaluator-heartbeat-" + this.fitnessEvaluatorNumber) {
+                @Override
+                public void run() {
+                    try {
+                        while (!Thread.currentThread().isInterrupted()) {
+                            progressable.progress();
+                            Thread.sleep(Constants.FITNESS_EVALUATORS_HEARTBEAT_PERIOD);
+                        }
+                    } catch (InterruptedException exception) {
+                        // The fitness evaluator has stopped.
+                    }
+                }
+            };
+            heartbeatThread.setDaemon(true);
+            heartbeatThread.start();
+        }
+
+        try {
+            connection.readSchema();
+
+            List<IndividualWrapper<Individual, FitnessValue>> population;
+            while ((population = connection.readRequest()) != null) {
+                // Evaluates the individuals, racing against the threshold of the master.
+                this.generationsBlockExecutor.setFitnessEvaluationThreshold(connection.getRequestThreshold());
+                this.generationsBlockExecutor.evaluate(population);
+
+                // Replies with the fitness values only.
+                List<IndividualWrapper<Individual, FitnessValue>> fitnessValues =
+                        new ArrayList<IndividualWrapper<Individual, FitnessValue>>(population.size());
+                for (IndividualWrapper<Individual, FitnessValue> currentIndividual : population) {
+                    IndividualWrapper<Individual, FitnessValue> fitnessValueWrapper =
+                            new IndividualWrapper<Individual, FitnessValue>();
+                    fitnessValueWrapper.setFitnessValue(currentIndividual.getFitnessValue());
+                    fitnessValues.add(fitnessValueWrapper);
+                }
+                connection.writeIndividuals(fitnessValues);
+            }
+        } finally {
+            if (heartbeatThread != null)
+                heartbeatThread.interrupt();
+
+            // Releases the fitness evaluation threads.
+            this.generationsBlockExecutor.shutdownFitnessEvaluationThreadPool();
+
+            connection.close();
+        }
+    }
+
+    /**
+     * Runs a fitness evaluator as a local process.
+     *
+     * @param args the pool address, the fitness evaluator number, the total number of fitness evaluators and the
+     *             path of the configuration file
+     */
+    public static void main(String[] args) {
+        try {
+            // Reads the configuration written by the master.
+            Configuration configuration = new Configuration();
+            configuration.addResource(new Path(args[3]));
+
+            FitnessEvaluatorWorker fitnessEvaluatorWorker = new FitnessEvaluatorWorker(configuration,
+                    Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+            fitnessEvaluatorWorker.run(args[0], null);
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            System.exit(-1);
+        }
+    }
+}
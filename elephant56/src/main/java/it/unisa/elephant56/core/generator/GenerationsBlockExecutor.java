@@ -1,5 +1,7 @@
 package it.unisa.elephant56.core.generator;
 
+import it.unisa.elephant56.core.common.FitnessCache;
+import it.unisa.elephant56.core.common.FitnessRace;
 import it.unisa.elephant56.core.common.IndividualWrapper;
 import it.unisa.elephant56.core.common.Properties;
 import it.unisa.elephant56.core.reporter.individual.IndividualReporter;
@@ -10,15 +12,43 @@ import it.unisa.elephant56.user.common.Individual;
 import it.unisa.elephant56.user.operators.*;
 import it.unisa.elephant56.user.operators.Initialisation;
 import it.unisa.elephant56.user.operators.TerminationConditionCheck;
+import it.unisa.elephant56.util.common.IdentityIndexedList;
 import it.unisa.elephant56.util.common.Pair;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class GenerationsBlockExecutor {
+    private static final Log LOG = LogFactory.getLog(GenerationsBlockExecutor.class);
+
+    private static final int EVALUATION_RUNNING = 0;
+    private static final int EVALUATION_FINISHED = 1;
+    private static final int EVALUATION_CUT_OFF = 2;
+
     protected long generationsBlockNumber;
 
     protected int initialisationPopulationSize;
@@ -43,6 +73,7 @@ public class GenerationsBlockExecutor {
     protected boolean isSurvivalSelectionActive;
     protected boolean isElitismActive;
     protected boolean isMigrationActive;
+    protected boolean isSteadyStateActive;
 
     protected int nodeNumber;
     protected int totalNumberOfNodes;
@@ -65,6 +96,32 @@ public class GenerationsBlockExecutor {
 
     protected List<Pair<IndividualWrapper<Individual, FitnessValue>, Integer>> migrationAssignments;
 
+    protected int fitnessEvaluationNumberOfThreads;
+    protected ExecutorService fitnessEvaluationThreadPool;
+    protected FitnessEvaluation<Individual, FitnessValue> usedFitnessEvaluationClassInstance;
+
+    protected FitnessCache fitnessCache;
+
+    protected int fitnessEvaluationBatchSize;
+
+    protected int maximumNumberOfFitnessEvaluationsInFlight;
+    protected ExecutorService asynchronousFitnessEvaluationThreadPool;
+
+    protected long fitnessEvaluationTimeBudget;
+    protected ExecutorService timeBudgetFitnessEvaluationThreadPool;
+    protected AtomicLong numberOfFitnessEvaluationCutOffs;
+    protected AtomicLong numberOfAbandonedFitnessEvaluations;
+
+    protected int fitnessEvaluationRacingRank;
+    protected volatile FitnessValue fitnessEvaluationThreshold;
+    protected AtomicLong numberOfFitnessEvaluationAborts;
+
+    protected boolean isLazyFitnessEvaluationActive;
+    protected long[] pendingFitnessEvaluationTimes;
+
+    protected FitnessEvaluation<Individual, FitnessValue> streamingFitnessEvaluationClassInstance;
+    protected List<Future<FitnessValue>> streamingFitnessEvaluationTasks;
+
     public GenerationsBlockExecutor() {
         this.isTimeReporterActive = false;
         this.isIndividualReporterActive = false;
@@ -72,6 +129,14 @@ public class GenerationsBlockExecutor {
         this.isElitismActive = false;
         this.isSurvivalSelectionActive = false;
         this.isMigrationActive = false;
+        this.isSteadyStateActive = false;
+        this.isLazyFitnessEvaluationActive = false;
+        this.pendingFitnessEvaluationTimes = newFitnessEvaluationTimes();
+        this.fitnessEvaluationNumberOfThreads = 1;
+        this.fitnessEvaluationThreadPool = null;
+        this.numberOfFitnessEvaluationCutOffs = new AtomicLong();
+        this.numberOfAbandonedFitnessEvaluations = new AtomicLong();
+        this.numberOfFitnessEvaluationAborts = new AtomicLong();
     }
 
     public long getGenerationsBlockNumber() {
@@ -133,6 +198,62 @@ public class GenerationsBlockExecutor {
         this.migrationClass = migrationClass;
     }
 
+    public void setFitnessEvaluationNumberOfThreads(int numberOfThreads) {
+        this.fitnessEvaluationNumberOfThreads = (numberOfThreads > 0) ? numberOfThreads : 1;
+    }
+
+    public int getFitnessEvaluationNumberOfThreads() {
+        return this.fitnessEvaluationNumberOfThreads;
+    }
+
+    public void setFitnessCacheSize(int size) {
+        this.fitnessCache = (size > 0) ? new FitnessCache(size) : null;
+    }
+
+    public FitnessCache getFitnessCache() {
+        return this.fitnessCache;
+    }
+
+    public void setFitnessEvaluationBatchSize(int size) {
+        this.fitnessEvaluationBatchSize = (size > 0) ? size : 0;
+    }
+
+    public int getFitnessEvaluationBatchSize() {
+        return this.fitnessEvaluationBatchSize;
+    }
+
+    public void setMaximumNumberOfFitnessEvaluationsInFlight(int number) {
+        this.maximumNumberOfFitnessEvaluationsInFlight = (number > 0) ? number : 0;
+    }
+
+    public int getMaximumNumberOfFitnessEvaluationsInFlight() {
+        return this.maximumNumberOfFitnessEvaluationsInFlight;
+    }
+
+    public void setFitnessEvaluationTimeBudget(long timeBudget) {
+        this.fitnessEvaluationTimeBudget = (timeBudget > 0L) ? timeBudget : 0L;
+    }
+
+    public long getFitnessEvaluationTimeBudget() {
+        return this.fitnessEvaluationTimeBudget;
+    }
+
+    public void setFitnessEvaluationRacingRank(int rank) {
+        this.fitnessEvaluationRacingRank = (rank > 0) ? rank : 0;
+    }
+
+    public int getFitnessEvaluationRacingRank() {
+        return this.fitnessEvaluationRacingRank;
+    }
+
+    public void setFitnessEvaluationThreshold(FitnessValue threshold) {
+        this.fitnessEvaluationThreshold = threshold;
+    }
+
+    public FitnessValue getFitnessEvaluationThreshold() {
+        return this.fitnessEvaluationThreshold;
+    }
+
     public void activateInitialisation(boolean active) {
         this.isInitialisationActive = active;
     }
@@ -149,6 +270,14 @@ public class GenerationsBlockExecutor {
         this.isMigrationActive = active;
     }
 
+    public void activateSteadyState(boolean active) {
+        this.isSteadyStateActive = active;
+    }
+
+    public void activateLazyFitnessEvaluation(boolean active) {
+        this.isLazyFitnessEvaluationActive = active;
+    }
+
     public boolean isInitialisationActive() {
         return this.isInitialisationActive;
     }
@@ -165,6 +294,14 @@ public class GenerationsBlockExecutor {
         return this.isMigrationActive;
     }
 
+    public boolean isSteadyStateActive() {
+        return this.isSteadyStateActive;
+    }
+
+    public boolean isLazyFitnessEvaluationActive() {
+        return this.isLazyFitnessEvaluationActive;
+    }
+
     public void setGeneticOperatorsTimeReporter(GeneticOperatorsTimeReporter reporter) {
         this.geneticOperatorsTimeReporter = reporter;
     }
@@ -283,8 +420,10 @@ public class GenerationsBlockExecutor {
                                 .newInstance(this.nodeNumber, this.totalNumberOfNodes, this.userProperties,
                                         this.configuration, this.initialisationPopulationSize);
 
-            fitnessEvaluationClassInstance =
-                    this.fitnessEvaluationClass
+            // Keeps the instance that evaluated the input population while it was read, if any.
+            fitnessEvaluationClassInstance = (this.streamingFitnessEvaluationClassInstance != null)
+                    ? this.streamingFitnessEvaluationClassInstance
+                    : this.fitnessEvaluationClass
                             .getConstructor(Integer.class, Integer.class, Properties.class, Configuration.class)
                             .newInstance(this.nodeNumber, this.totalNumberOfNodes, this.userProperties,
                                     this.configuration);
@@ -334,173 +473,427 @@ public class GenerationsBlockExecutor {
             System.exit(-1);
         }
 
-        // Initialises the input population if needed.
-        if (this.isInitialisationActive()) {
-            long initialisationStartTime = System.currentTimeMillis();
-            this.inputPopulation = runInitialisation(initalisationClassInstance);
-            long initialisationFinishTime = System.currentTimeMillis();
-
-            if (this.isTimeReporterActive())
-                this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
-                        this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.INITIALISATION,
-                        initialisationStartTime, initialisationFinishTime);
-        }
-
-        // Instantiates the island properties.
-        Properties islandProperties = new Properties();
-
-        // Reads the input population and starts the generations.
-        List<IndividualWrapper<Individual, FitnessValue>> currentPopulation = this.inputPopulation;
-
-        this.currentGenerationNumber = this.startGenerationNumber;
-
-        while (true) {
-            // Registers the generation start time.
-            long generationStartTime = System.currentTimeMillis();
-
-            // Fitness evaluation.
-            this.runFitnessEvaluation(currentPopulation, fitnessEvaluationClassInstance);
-
-            // Individuals termination condition check.
-            boolean isIndividualsTerminationConditionSatisfiedOnce =
-                    this.runIndividualsTerminationConditionCheck(currentPopulation,
-                            terminationConditionCheckClassInstance);
+        try {
+            // Initialises the input population if needed.
+            if (this.isInitialisationActive()) {
+                long initialisationStartTime = System.currentTimeMillis();
+                this.inputPopulation = runInitialisation(initalisationClassInstance);
+                long initialisationFinishTime = System.currentTimeMillis();
 
-            // Checks if there are termination condition satisfaction notifications.
-            boolean areThereTerminationConditionSatisfactionNotification =
-                    this.checkTerminationConditionSatisfactionNotifications();
-            if (areThereTerminationConditionSatisfactionNotification) {
-                // Writes the time report.
                 if (this.isTimeReporterActive())
                     this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
-                            this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
-                            generationStartTime, System.currentTimeMillis());
-
-                // Stops the cycle.
-                break;
-            }
-            // Checks if the island satisfies the termination condition.
-            boolean isIslandTerminationConditionSatisfied = this.runIslandTerminationConditionCheck(currentPopulation,
-                    islandProperties, terminationConditionCheckClassInstance);
-
-            // Share the properties with other islands.
-            // TODO Riabilitare accesso HDFS.
-            //boolean isLastIslandInCurrentGeneration =
-            //        this.shareIslandProperties(islandProperties, this.currentGenerationNumber);
-            boolean isLastIslandInCurrentGeneration = false;
-
-            // Checks if the termination condition is satisfied globally, only if it is the last island for the
-            // generation.
-            boolean isGlobalTerminationConditionSatisfied = false;
-            if (isLastIslandInCurrentGeneration) {
-                List<Properties> islandsProperties =
-                        this.readSharedIslandProperties(islandProperties, this.currentGenerationNumber);
-                isGlobalTerminationConditionSatisfied = this.runGlobalTerminationConditionCheck(islandsProperties,
-                        this.currentGenerationNumber, terminationConditionCheckClassInstance);
+                            this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.INITIALISATION,
+                            initialisationStartTime, initialisationFinishTime);
             }
 
-            // Checks if terminating for termination condition satisfaction.
-            if (isIndividualsTerminationConditionSatisfiedOnce || isIslandTerminationConditionSatisfied ||
-                    isGlobalTerminationConditionSatisfied) {
-                // Notifies the termination condition satisfaction.
-                // TODO Riabilitare accesso HDFS.
-                //this.notifyTerminationConditionSatisfaction();
+            // Instantiates the island properties.
+            Properties islandProperties = new Properties();
 
-                // Writes the time report.
-                if (this.isTimeReporterActive())
-                    this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
-                            this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
-                            generationStartTime, System.currentTimeMillis());
+            // Clears the migration assignments of a previous run.
+            this.migrationAssignments = new ArrayList<Pair<IndividualWrapper<Individual, FitnessValue>, Integer>>();
 
-                // Stops the cycle.
-                break;
-            }
+            // Reads the input population and starts the generations.
+            List<IndividualWrapper<Individual, FitnessValue>> currentPopulation = this.inputPopulation;
 
-            // Checks if terminating for finish generation number (+1) reached.
-            if (this.currentGenerationNumber > this.finishGenerationNumber) {
-                // Checks if migrating.
-                if (this.isMigrationActive()) {
-                    // Assign migrants to destinations.
-                    this.migrationAssignments = runMigration(currentPopulation, migrationClassInstance);
-                }
+            this.currentGenerationNumber = this.startGenerationNumber;
 
-                // Writes the time report.
-                if (this.isTimeReporterActive())
-                    this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
-                            this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
-                            generationStartTime, System.currentTimeMillis());
+            // Defers the fitness evaluations to the first access to the fitness values, unless the elitism, the
+            // termination condition checks or the individual reporter need all of them, that would be evaluated one
+            // at a time on the calling thread instead of through the fitness evaluation phase.
+            boolean isFitnessEvaluationDeferred = this.isLazyFitnessEvaluationActive() &&
+                    !this.isSteadyStateActive() && !this.isElitismActive() && !this.isIndividualReporterActive() &&
+                    !terminationConditionCheckClassInstance.isIndividualTerminationConditionCheckOverridden() &&
+                    !terminationConditionCheckClassInstance.isIslandTerminationConditionCheckOverridden();
 
-                // Stops the cycle.
-                break;
+            if (this.isSteadyStateActive()) {
+                // Runs the generations without the barrier at the end of every generation.
+                currentPopulation = this.runSteadyStateGenerations(currentPopulation, fitnessEvaluationClassInstance,
+                        terminationConditionCheckClassInstance, parentsSelectionClassInstance, crossoverClassInstance,
+                        mutationClassInstance, survivalSelectionClassInstance, migrationClassInstance);
+            } else {
+                while (true) {
+                    // Registers the generation start time.
+                    long generationStartTime = System.currentTimeMillis();
+
+                    // Fitness evaluation.
+                    if (isFitnessEvaluationDeferred)
+                        this.runLazyFitnessEvaluation(currentPopulation, fitnessEvaluationClassInstance);
+                    else
+                        this.runFitnessEvaluation(currentPopulation, fitnessEvaluationClassInstance);
+                    this.updateFitnessEvaluationThreshold(currentPopulation);
+
+                    // Individuals termination condition check.
+                    boolean isIndividualsTerminationConditionSatisfiedOnce =
+                            this.runIndividualsTerminationConditionCheck(currentPopulation,
+                                    terminationConditionCheckClassInstance);
+
+                    // Checks if there are termination condition satisfaction notifications.
+                    boolean areThereTerminationConditionSatisfactionNotification =
+                            this.checkTerminationConditionSatisfactionNotifications();
+                    if (areThereTerminationConditionSatisfactionNotification) {
+                        // Writes the time report.
+                        if (this.isTimeReporterActive())
+                            this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                                    this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
+                                    generationStartTime, System.currentTimeMillis());
+
+                        // Stops the cycle.
+                        break;
+                    }
+                    // Checks if the island satisfies the termination condition.
+                    boolean isIslandTerminationConditionSatisfied = this.runIslandTerminationConditionCheck(
+                            currentPopulation, islandProperties, terminationConditionCheckClassInstance);
+
+                    // Share the properties with other islands.
+                    // TODO Riabilitare accesso HDFS.
+                    //boolean isLastIslandInCurrentGeneration =
+                    //        this.shareIslandProperties(islandProperties, this.currentGenerationNumber);
+                    boolean isLastIslandInCurrentGeneration = false;
+
+                    // Checks if the termination condition is satisfied globally, only if it is the last island for the
+                    // generation.
+                    boolean isGlobalTerminationConditionSatisfied = false;
+                    if (isLastIslandInCurrentGeneration) {
+                        List<Properties> islandsProperties =
+                                this.readSharedIslandProperties(islandProperties, this.currentGenerationNumber);
+                        isGlobalTerminationConditionSatisfied = this.runGlobalTerminationConditionCheck(
+                                islandsProperties, this.currentGenerationNumber,
+                                terminationConditionCheckClassInstance);
+                    }
+
+                    // Checks if terminating for termination condition satisfaction.
+                    if (isIndividualsTerminationConditionSatisfiedOnce || isIslandTerminationConditionSatisfied ||
+                            isGlobalTerminationConditionSatisfied) {
+                        // Notifies the termination condition satisfaction.
+                        // TODO Riabilitare accesso HDFS.
+                        //this.notifyTerminationConditionSatisfaction();
+
+                        // Writes the time report.
+                        if (this.isTimeReporterActive())
+                            this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                                    this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
+                                    generationStartTime, System.currentTimeMillis());
+
+                        // Stops the cycle.
+                        break;
+                    }
+
+                    // Checks if terminating for finish generation number (+1) reached.
+                    if (this.currentGenerationNumber > this.finishGenerationNumber) {
+                        // Checks if migrating.
+                        if (this.isMigrationActive()) {
+                            // Assign migrants to destinations.
+                            this.migrationAssignments = runMigration(currentPopulation, migrationClassInstance);
+                        }
+
+                        // Writes the time report.
+                        if (this.isTimeReporterActive())
+                            this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                                    this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
+                                    generationStartTime, System.currentTimeMillis());
+
+                        // Stops the cycle.
+                        break;
+                    }
+
+                    // Checks if doing elitism.
+                    List<IndividualWrapper<Individual, FitnessValue>> elitePopulation = null;
+                    if (this.isElitismActive()) {
+                        // Elitism.
+                        elitePopulation =
+                                this.runElitism(currentPopulation, elitismClassInstance);
+
+                        // Subtracts the elite from the current population.
+                        IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>> remainingPopulation =
+                                new IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>>(
+                                        currentPopulation);
+                        for (IndividualWrapper<Individual, FitnessValue> elitist : elitePopulation)
+                            remainingPopulation.removeSameOrEqual(elitist);
+                        currentPopulation = remainingPopulation;
+                    }
+
+                    // Parents selection.
+                    List<Pair<IndividualWrapper<Individual, FitnessValue>,
+                            IndividualWrapper<Individual, FitnessValue>>> selectedCouples =
+                            this.runParentsSelection(currentPopulation, parentsSelectionClassInstance);
+
+                    // Crossover.
+                    List<IndividualWrapper<Individual, FitnessValue>> offspringPopulation =
+                            this.runCrossover(selectedCouples, crossoverClassInstance);
+
+                    // Mutation.
+                    this.runMutation(offspringPopulation, mutationClassInstance);
+
+                    // Checks if doing survival selection.
+                    if (this.isSurvivalSelectionActive()) {
+                        // Evaluates fitness values for the offspring.
+                        this.runOffspringFitnessEvaluation(offspringPopulation, fitnessEvaluationClassInstance);
+
+                        // Survival selection.
+                        currentPopulation =
+                                this.runSurvivalSelection(currentPopulation, offspringPopulation,
+                                        survivalSelectionClassInstance, fitnessEvaluationClassInstance);
+                    } else {
+                        currentPopulation = offspringPopulation;
+                    }
+
+                    // Joins the elite population.
+                    if (this.isElitismActive()) {
+                        currentPopulation.addAll(elitePopulation);
+                    }
+
+                    // Writes the times of the fitness evaluations done on demand during the generation.
+                    if (isFitnessEvaluationDeferred) {
+                        this.writeFitnessEvaluationTimes(this.resetPendingFitnessEvaluationTimes());
+                        this.writeFitnessEvaluationReportedTimes(fitnessEvaluationClassInstance);
+                        this.writeFitnessEvaluationCounters();
+                    }
+
+                    // Writes the time report.
+                    if (this.isTimeReporterActive())
+                        this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                                this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
+                                generationStartTime, System.currentTimeMillis());
+
+                    // Increments the generation number.
+                    this.currentGenerationNumber++;
+                }
             }
 
-            // Checks if doing elitism.
-            List<IndividualWrapper<Individual, FitnessValue>> elitePopulation = null;
-            if (this.isElitismActive()) {
-                // Elitism.
-                elitePopulation =
-                        this.runElitism(currentPopulation, elitismClassInstance);
+            // Evaluates the individuals never accessed, for the output, together with the ones evaluated on demand.
+            if (isFitnessEvaluationDeferred)
+                this.runFitnessEvaluation(currentPopulation, fitnessEvaluationClassInstance);
+
+            // Registers the generations block finish time.
+            long generationsBlockFinishTime = System.currentTimeMillis();
 
-                // Subtracts the elite from the current population.
-                for (IndividualWrapper<Individual, FitnessValue> elitist : elitePopulation)
-                    currentPopulation.remove(elitist);
+            // Writes the generation block time.
+            if (this.isTimeReporterActive()) {
+                this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber, -1L,
+                        GenerationsBlockTimeReporter.PhaseType.GENERATIONS_BLOCK, generationsBlockStartTime,
+                        generationsBlockFinishTime);
             }
 
-            // Parents selection.
-            List<Pair<IndividualWrapper<Individual, FitnessValue>,
-                    IndividualWrapper<Individual, FitnessValue>>> selectedCouples =
-                    this.runParentsSelection(currentPopulation, parentsSelectionClassInstance);
+            // Sets the output population.
+            this.outputPopulation = currentPopulation;
+
+            // Sets the last executed generation number.
+            this.lastExecutedGenerationNumber = this.currentGenerationNumber - 1L;
+        } finally {
+            // Releases the fitness evaluation threads and the operator, even if a generation failed.
+            this.shutdownFitnessEvaluationThreadPool();
+        }
+    }
+
+    /**
+     * Runs the generations in steady-state: the offspring are bred and submitted for evaluation continuously, keeping
+     * all the fitness evaluation threads busy, and the evaluated offspring are inserted into the population by the
+     * survival selection as soon as they are ready, so that a slow evaluation does not stall the others at the end
+     * of the generation. A generation is counted every population size evaluations. Without the survival selection,
+     * the offspring replace the individuals of the population in turn. The elitism is not supported, and the driver
+     * does not allow it. The evaluations still in flight when the generations end are discarded, waiting for the
+     * running ones, so that the operator and the cache are no longer used after the return.
+     *
+     * @param population the initial population
+     * @return the final population
+     * @throws IOException
+     */
+    protected List<IndividualWrapper<Individual, FitnessValue>> runSteadyStateGenerations(
+            List<IndividualWrapper<Individual, FitnessValue>> population,
+            final FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance,
+            TerminationConditionCheck<Individual, FitnessValue> terminationConditionCheckClassInstance,
+            ParentsSelection<Individual, FitnessValue> parentsSelectionClassInstance,
+            Crossover<Individual, FitnessValue> crossoverClassInstance,
+            Mutation<Individual, FitnessValue> mutationClassInstance,
+            SurvivalSelection<Individual, FitnessValue> survivalSelectionClassInstance,
+            Migration<Individual, FitnessValue> migrationClassInstance
+    ) throws IOException {
+        long generationStartTime = System.currentTimeMillis();
 
-            // Crossover.
-            List<IndividualWrapper<Individual, FitnessValue>> offspringPopulation =
-                    this.runCrossover(selectedCouples, crossoverClassInstance);
+        // Evaluates the initial population.
+        this.runFitnessEvaluation(population, fitnessEvaluationClassInstance);
+        this.updateFitnessEvaluationThreshold(population);
+        boolean isTerminationConditionSatisfied =
+                this.runIndividualsTerminationConditionCheck(population, terminationConditionCheckClassInstance);
 
-            // Mutation.
-            this.runMutation(offspringPopulation, mutationClassInstance);
+        Properties islandProperties = new Properties();
+        final FitnessCache fitnessCache = this.fitnessCache;
+        final AtomicBoolean isEvaluationDiscarded = new AtomicBoolean(false);
 
-            // Checks if doing survival selection.
-            if (this.isSurvivalSelectionActive()) {
-                // Evaluates fitness values for the offspring.
-                this.runOffspringFitnessEvaluation(offspringPopulation, fitnessEvaluationClassInstance);
+        CompletionService<IndividualWrapper<Individual, FitnessValue>> fitnessEvaluationService =
+                new ExecutorCompletionService<IndividualWrapper<Individual, FitnessValue>>(
+                        this.getFitnessEvaluationThreadPool());
+        int maximumNumberOfEvaluationsInFlight = Math.max(1, this.fitnessEvaluationNumberOfThreads);
+        int numberOfEvaluationsInFlight = 0;
 
-                // Survival selection.
-                currentPopulation =
-                        this.runSurvivalSelection(currentPopulation, offspringPopulation,
-                                survivalSelectionClassInstance, fitnessEvaluationClassInstance);
-            } else {
-                currentPopulation = offspringPopulation;
-            }
+        List<Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>>
+                selectedCouples = Collections.emptyList();
+        int currentCoupleNumber = 0;
+        LinkedList<IndividualWrapper<Individual, FitnessValue>> bredOffspring =
+                new LinkedList<IndividualWrapper<Individual, FitnessValue>>();
 
-            // Joins the elite population.
-            if (this.isElitismActive()) {
-                currentPopulation.addAll(elitePopulation);
-            }
+        int numberOfGenerationEvaluations = 0;
+        int replacementIndex = 0;
 
-            // Writes the time report.
-            if (this.isTimeReporterActive())
-                this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
-                        this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
-                        generationStartTime, System.currentTimeMillis());
+        try {
+            while (!isTerminationConditionSatisfied && (this.currentGenerationNumber <= this.finishGenerationNumber)) {
+                // Breeds and submits the offspring until all the threads are busy.
+                while (numberOfEvaluationsInFlight < maximumNumberOfEvaluationsInFlight) {
+                    if (bredOffspring.isEmpty()) {
+                        // Selects new couples from the current population when all the previous ones have been bred.
+                        if (currentCoupleNumber >= selectedCouples.size()) {
+                            selectedCouples = parentsSelectionClassInstance.selectParents(
+                                    new ArrayList<IndividualWrapper<Individual, FitnessValue>>(population));
+                            currentCoupleNumber = 0;
+                            if (selectedCouples.isEmpty())
+                                throw new IOException("The parents selection did not select any couple.");
+                        }
+
+                        Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>
+                                currentCouple = selectedCouples.get(currentCoupleNumber);
+                        for (IndividualWrapper<Individual, FitnessValue> child : crossoverClassInstance.cross(
+                                currentCouple.getFirstElement(), currentCouple.getSecondElement(), currentCoupleNumber,
+                                selectedCouples.size(), population.size()))
+                            bredOffspring.add(mutationClassInstance.mutate(child));
+                        currentCoupleNumber++;
+                        continue;
+                    }
+
+                    final IndividualWrapper<Individual, FitnessValue> offspring = bredOffspring.poll();
+                    fitnessEvaluationService.submit(new Callable<IndividualWrapper<Individual, FitnessValue>>() {
+                        @Override
+                        public IndividualWrapper<Individual, FitnessValue> call() throws IOException {
+                            // Skips the evaluations discarded at the end of the generations.
+                            if (offspring.isFitnessValueSet() || isEvaluationDiscarded.get())
+                                return offspring;
+
+                            // Looks for the fitness value in the cache.
+                            if (fitnessCache != null) {
+                                FitnessValue cachedFitnessValue = fitnessCache.get(offspring.getIndividual());
+                                if (cachedFitnessValue != null) {
+                                    offspring.setFitnessValue(cachedFitnessValue);
+                                    addPendingFitnessEvaluationTimes(
+                                            new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0L, 0L, 1L, 0L});
+                                    return offspring;
+                                }
+                            }
+
+                            // Calls the operator.
+                            long startTime = System.currentTimeMillis();
+                            EvaluatedFitnessValue fitnessValue =
+                                    evaluateIndividual(fitnessEvaluationClassInstance, offspring);
+                            long duration = System.currentTimeMillis() - startTime;
+                            offspring.setFitnessValue(fitnessValue.getFitnessValue());
+
+                            if (isEvaluationDiscarded.get())
+                                return offspring;
+
+                            // Stores the value in the cache, if exact.
+                            if ((fitnessCache != null) && fitnessValue.isCacheable())
+                                fitnessCache.put(offspring.getIndividual(), fitnessValue.getFitnessValue());
+
+                            // Registers the time and the cache miss, as the generational evaluations.
+                            addPendingFitnessEvaluationTimes(new long[]{duration, duration, duration, 1L, 0L,
+                                    (fitnessCache != null) ? 1L : 0L});
+
+                            return offspring;
+                        }
+                    });
+                    numberOfEvaluationsInFlight++;
+                }
 
-            // Increments the generation number.
-            this.currentGenerationNumber++;
-        }
+                // Waits for an evaluation and collects the other ones already finished.
+                List<IndividualWrapper<Individual, FitnessValue>> evaluatedOffspring =
+                        new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+                try {
+                    Future<IndividualWrapper<Individual, FitnessValue>> finishedEvaluation =
+                            fitnessEvaluationService.take();
+                    while (finishedEvaluation != null) {
+                        numberOfEvaluationsInFlight--;
+                        evaluatedOffspring.add(finishedEvaluation.get());
+                        finishedEvaluation = fitnessEvaluationService.poll();
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(exception);
+                } catch (ExecutionException exception) {
+                    if (exception.getCause() instanceof RuntimeException)
+                        throw (RuntimeException) exception.getCause();
+                    if (exception.getCause() instanceof Error)
+                        throw (Error) exception.getCause();
+                    throw new IOException(exception.getCause());
+                }
 
-        // Registers the generations block finish time.
-        long generationsBlockFinishTime = System.currentTimeMillis();
+                // Checks the termination condition on the evaluated offspring.
+                isTerminationConditionSatisfied = this.runIndividualsTerminationConditionCheck(evaluatedOffspring,
+                        terminationConditionCheckClassInstance);
+
+                // Inserts the evaluated offspring into the population.
+                if (this.isSurvivalSelectionActive()) {
+                    population = this.runSurvivalSelection(population, evaluatedOffspring,
+                            survivalSelectionClassInstance, fitnessEvaluationClassInstance);
+                } else {
+                    population = new ArrayList<IndividualWrapper<Individual, FitnessValue>>(population);
+                    for (IndividualWrapper<Individual, FitnessValue> offspring : evaluatedOffspring) {
+                        population.set(replacementIndex, offspring);
+                        replacementIndex = (replacementIndex + 1) % population.size();
+                    }
+                }
 
-        // Writes the generation block time.
-        if (this.isTimeReporterActive()) {
-            this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber, -1L,
-                    GenerationsBlockTimeReporter.PhaseType.GENERATIONS_BLOCK, generationsBlockStartTime,
-                    generationsBlockFinishTime);
+                // Closes a generation every population size evaluations.
+                numberOfGenerationEvaluations += evaluatedOffspring.size();
+                if (numberOfGenerationEvaluations >= population.size()) {
+                    long generationFinishTime = System.currentTimeMillis();
+
+                    // Writes the times and the cache counters of the evaluations of the generation.
+                    this.writeFitnessEvaluationTimes(this.resetPendingFitnessEvaluationTimes());
+                    this.writeFitnessEvaluationReportedTimes(fitnessEvaluationClassInstance);
+
+                    // Writes the time report and the throughput.
+                    if (this.isTimeReporterActive()) {
+                        this.generationsBlockTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                                this.currentGenerationNumber, GenerationsBlockTimeReporter.PhaseType.GENERATION,
+                                generationStartTime, generationFinishTime);
+
+                        long fitnessEvaluationsPerSecond = (generationFinishTime > generationStartTime)
+                                ? ((numberOfGenerationEvaluations * 1000L) /
+                                (generationFinishTime - generationStartTime))
+                                : numberOfGenerationEvaluations;
+                        this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                                this.currentGenerationNumber,
+                                GeneticOperatorsTimeReporter.PhaseType.FITNESS_EVALUATIONS_PER_SECOND, 0L,
+                                fitnessEvaluationsPerSecond);
+
+                        this.writeFitnessEvaluationCounters();
+                    }
+
+                    // Checks the island and the other islands termination conditions.
+                    isTerminationConditionSatisfied |= this.runIslandTerminationConditionCheck(population,
+                            islandProperties, terminationConditionCheckClassInstance);
+                    isTerminationConditionSatisfied |= this.checkTerminationConditionSatisfactionNotifications();
+
+                    this.currentGenerationNumber++;
+                    numberOfGenerationEvaluations = 0;
+                    this.updateFitnessEvaluationThreshold(population);
+                    generationStartTime = generationFinishTime;
+                }
+            }
+        } finally {
+            // Discards the evaluations still in flight and waits for the running ones.
+            isEvaluationDiscarded.set(true);
+            try {
+                for (; numberOfEvaluationsInFlight > 0; numberOfEvaluationsInFlight--)
+                    fitnessEvaluationService.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
         }
 
-        // Sets the output population.
-        this.outputPopulation = currentPopulation;
+        // Checks if migrating, when the generations have been completed.
+        if (!isTerminationConditionSatisfied && this.isMigrationActive())
+            this.migrationAssignments = runMigration(population, migrationClassInstance);
 
-        // Sets the last executed generation number.
-        this.lastExecutedGenerationNumber = this.currentGenerationNumber - 1L;
+        return population;
     }
 
     protected List<IndividualWrapper<Individual, FitnessValue>> runInitialisation(
@@ -555,41 +948,203 @@ public class GenerationsBlockExecutor {
             List<IndividualWrapper<Individual, FitnessValue>> population,
             FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance
     ) throws IOException {
-        // Iterates through the parents population.
-        long currentStartTime;
-        long currentFinishTime;
-        long currentFitnessEvaluationTime = 0L;
-        long minFitnessEvaluationTime = Long.MAX_VALUE;
-        long maxFitnessEvaluationTime = Long.MIN_VALUE;
-        long totalFitnessEvaluationTime = 0L;
-        long numberOfFitnessEvaluations = 0L;
+        // Evaluates the individuals without a fitness value.
+        long[] fitnessEvaluationTimes = this.evaluateFitnessValues(population, fitnessEvaluationClassInstance);
 
-        for (IndividualWrapper<Individual, FitnessValue> currentIndividual : population) {
-            // Computes the fitness value for the current individual.
-            if (!currentIndividual.isFitnessValueSet()) {
-                // Registers the current fitness evaluation start time.
-                currentStartTime = System.currentTimeMillis();
+        // Writes the FitnessEvaluation times, together with the ones of the evaluations done before.
+        this.addPendingFitnessEvaluationTimes(fitnessEvaluationTimes);
+        this.writeFitnessEvaluationTimes(this.resetPendingFitnessEvaluationTimes());
+    }
 
-                // Calls the operator.
-                FitnessValue currentFitnessValue = fitnessEvaluationClassInstance.evaluate(currentIndividual);
+    /**
+     * Prepares the evaluation of the input population while it is read, so that reading and decoding the next
+     * individuals overlap with the evaluation of the previous ones. The fitness evaluation instance is kept for the
+     * generations.
+     */
+    @SuppressWarnings("unchecked")
+    public void startStreamingFitnessEvaluation()
+            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        this.streamingFitnessEvaluationClassInstance =
+                this.fitnessEvaluationClass
+                        .getConstructor(Integer.class, Integer.class, Properties.class, Configuration.class)
+                        .newInstance(this.nodeNumber, this.totalNumberOfNodes, this.userProperties,
+                                this.configuration);
+        this.usedFitnessEvaluationClassInstance = this.streamingFitnessEvaluationClassInstance;
+        this.streamingFitnessEvaluationTasks = new ArrayList<Future<FitnessValue>>();
+    }
 
-                // Registers the current fitness evaluation finish time.
-                currentFinishTime = System.currentTimeMillis();
+    /**
+     * Submits an individual of the input population to the fitness evaluation threads, as soon as it is read. The
+     * times are written with the first fitness evaluation of the generations.
+     *
+     * @param individualWrapper the individual to evaluate
+     */
+    public void submitStreamingFitnessEvaluation(final IndividualWrapper<Individual, FitnessValue> individualWrapper) {
+        if (individualWrapper.isFitnessValueSet())
+            return;
+
+        final FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance =
+                this.streamingFitnessEvaluationClassInstance;
+        this.streamingFitnessEvaluationTasks.add(this.getFitnessEvaluationThreadPool().submit(
+                new Callable<FitnessValue>() {
+                    @Override
+                    public FitnessValue call() {
+                        FitnessValue fitnessValue =
+                                evaluateIndividualOnDemand(fitnessEvaluationClassInstance, individualWrapper);
+                        individualWrapper.setFitnessValue(fitnessValue);
+                        return fitnessValue;
+                    }
+                }));
+    }
 
-                // Updates the times.
-                currentFitnessEvaluationTime = currentFinishTime - currentStartTime;
-                if (currentFitnessEvaluationTime < minFitnessEvaluationTime)
-                    minFitnessEvaluationTime = currentFitnessEvaluationTime;
-                if (currentFitnessEvaluationTime > maxFitnessEvaluationTime)
-                    maxFitnessEvaluationTime = currentFitnessEvaluationTime;
-                totalFitnessEvaluationTime += currentFitnessEvaluationTime;
-                numberOfFitnessEvaluations++;
-
-                // Sets the found value inside the wrapper.
-                currentIndividual.setFitnessValue(currentFitnessValue);
+    /**
+     * Waits for the evaluations of the input population submitted while it was read.
+     *
+     * @throws IOException
+     */
+    public void awaitStreamingFitnessEvaluations() throws IOException {
+        if (this.streamingFitnessEvaluationTasks == null)
+            return;
+
+        for (Future<FitnessValue> currentTask : this.streamingFitnessEvaluationTasks) {
+            try {
+                currentTask.get();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException(exception);
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof RuntimeException)
+                    throw (RuntimeException) exception.getCause();
+                if (exception.getCause() instanceof Error)
+                    throw (Error) exception.getCause();
+                throw new IOException(exception.getCause());
             }
         }
 
+        this.streamingFitnessEvaluationTasks = null;
+    }
+
+    /**
+     * Defers the evaluation of the individuals without a fitness value to the first access to it, so that the
+     * individuals never inspected by the parents selection, such as the ones losing small tournaments, are not
+     * evaluated. The evaluations are memoised in the individuals and in the fitness cache, and their times are
+     * written at the end of the generation. An evaluation on demand runs on the thread accessing the fitness value,
+     * without the fitness evaluation threads, the batches or the asynchronous evaluations.
+     *
+     * @param population                     the population to evaluate
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     */
+    protected void runLazyFitnessEvaluation(
+            List<IndividualWrapper<Individual, FitnessValue>> population,
+            final FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance
+    ) {
+        this.usedFitnessEvaluationClassInstance = fitnessEvaluationClassInstance;
+
+        IndividualWrapper.LazyFitnessEvaluator<Individual, FitnessValue> lazyFitnessEvaluator =
+                new IndividualWrapper.LazyFitnessEvaluator<Individual, FitnessValue>() {
+                    @Override
+                    public FitnessValue evaluate(IndividualWrapper<Individual, FitnessValue> individualWrapper) {
+                        return evaluateIndividualOnDemand(fitnessEvaluationClassInstance, individualWrapper);
+                    }
+                };
+
+        for (IndividualWrapper<Individual, FitnessValue> currentIndividual : population)
+            if (!currentIndividual.isFitnessValueSet())
+                currentIndividual.setLazyFitnessEvaluator(lazyFitnessEvaluator);
+    }
+
+    /**
+     * Computes the fitness value of an individual outside the fitness evaluation phase, at the first access to it or
+     * while the input population is read, looking for it in the fitness cache. The times are added to the ones
+     * written with the next fitness evaluation report.
+     *
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     * @param individualWrapper              the individual to evaluate
+     * @return the fitness value
+     */
+    protected FitnessValue evaluateIndividualOnDemand(
+            FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance,
+            IndividualWrapper<Individual, FitnessValue> individualWrapper
+    ) {
+        long[] fitnessEvaluationTimes = newFitnessEvaluationTimes();
+
+        // Looks for the fitness value in the cache.
+        if (this.fitnessCache != null) {
+            FitnessValue cachedFitnessValue = this.fitnessCache.get(individualWrapper.getIndividual());
+            if (cachedFitnessValue != null) {
+                fitnessEvaluationTimes[4] = 1L;
+                this.addPendingFitnessEvaluationTimes(fitnessEvaluationTimes);
+                return cachedFitnessValue;
+            }
+            fitnessEvaluationTimes[5] = 1L;
+        }
+
+        // Calls the operator.
+        long startTime = System.currentTimeMillis();
+        EvaluatedFitnessValue fitnessValue;
+        try {
+            fitnessValue = this.evaluateIndividual(fitnessEvaluationClassInstance, individualWrapper);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        long duration = System.currentTimeMillis() - startTime;
+
+        // Stores the value in the cache, if exact.
+        if ((this.fitnessCache != null) && fitnessValue.isCacheable())
+            this.fitnessCache.put(individualWrapper.getIndividual(), fitnessValue.getFitnessValue());
+
+        fitnessEvaluationTimes[0] = duration;
+        fitnessEvaluationTimes[1] = duration;
+        fitnessEvaluationTimes[2] = duration;
+        fitnessEvaluationTimes[3] = 1L;
+        this.addPendingFitnessEvaluationTimes(fitnessEvaluationTimes);
+
+        return fitnessValue.getFitnessValue();
+    }
+
+    private static long[] newFitnessEvaluationTimes() {
+        return new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0L, 0L, 0L, 0L};
+    }
+
+    /**
+     * Adds times and counters, in the layout returned by "evaluateFitnessValues", to the ones not written yet.
+     *
+     * @param fitnessEvaluationTimes the times and counters to add
+     */
+    protected synchronized void addPendingFitnessEvaluationTimes(long[] fitnessEvaluationTimes) {
+        this.pendingFitnessEvaluationTimes[0] =
+                Math.min(this.pendingFitnessEvaluationTimes[0], fitnessEvaluationTimes[0]);
+        this.pendingFitnessEvaluationTimes[1] =
+                Math.max(this.pendingFitnessEvaluationTimes[1], fitnessEvaluationTimes[1]);
+        for (int i = 2; i < fitnessEvaluationTimes.length; i++)
+            this.pendingFitnessEvaluationTimes[i] += fitnessEvaluationTimes[i];
+    }
+
+    /**
+     * Returns the times and counters not written yet, such as the ones of the fitness evaluations done on demand or
+     * while the input population was read, and empties them.
+     *
+     * @return the times and counters, in the layout returned by "evaluateFitnessValues"
+     */
+    protected synchronized long[] resetPendingFitnessEvaluationTimes() {
+        long[] fitnessEvaluationTimes = this.pendingFitnessEvaluationTimes;
+        this.pendingFitnessEvaluationTimes = newFitnessEvaluationTimes();
+        return fitnessEvaluationTimes;
+    }
+
+    /**
+     * Writes the times and counters of the fitness evaluations.
+     *
+     * @param fitnessEvaluationTimes the times and counters, in the layout returned by "evaluateFitnessValues"
+     */
+    protected void writeFitnessEvaluationTimes(long[] fitnessEvaluationTimes) {
+        long minFitnessEvaluationTime = fitnessEvaluationTimes[0];
+        long maxFitnessEvaluationTime = fitnessEvaluationTimes[1];
+        long totalFitnessEvaluationTime = fitnessEvaluationTimes[2];
+        long numberOfFitnessEvaluations = fitnessEvaluationTimes[3];
+        long numberOfFitnessCacheHits = fitnessEvaluationTimes[4];
+        long numberOfFitnessCacheMisses = fitnessEvaluationTimes[5];
+
         // Writes the FitnessEvaluation times.
         if (this.isTimeReporterActive()) {
             if (numberOfFitnessEvaluations == 0L) {
@@ -610,6 +1165,772 @@ public class GenerationsBlockExecutor {
             this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
                     this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.TOTAL_FITNESS_EVALUATION, 0L,
                     totalFitnessEvaluationTime);
+
+            // Writes the fitness cache hits and misses as total times.
+            if (this.fitnessCache != null) {
+                this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                        this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.FITNESS_CACHE_HITS,
+                        0L, numberOfFitnessCacheHits);
+                this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                        this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.FITNESS_CACHE_MISSES,
+                        0L, numberOfFitnessCacheMisses);
+            }
+        }
+    }
+
+    /**
+     * Computes the fitness value of every individual of the population that does not have one yet. If more than
+     * one fitness evaluation thread is set, the individuals are evaluated concurrently on the thread pool, so the
+     * fitness evaluation operator must be thread-safe. If the operator overrides "evaluateBatch", the individuals are
+     * evaluated in batches instead, or if it overrides "evaluateAsync", they are evaluated asynchronously.
+     *
+     * @param population                     the population to evaluate
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     * @return the minimum, maximum and total time of the single evaluations, followed by their number and by the
+     * number of fitness cache hits and misses
+     * @throws IOException
+     */
+    protected long[] evaluateFitnessValues(
+            List<IndividualWrapper<Individual, FitnessValue>> population,
+            final FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance
+    ) throws IOException {
+        long currentStartTime;
+        long currentFinishTime;
+        long currentFitnessEvaluationTime;
+        long minFitnessEvaluationTime = Long.MAX_VALUE;
+        long maxFitnessEvaluationTime = Long.MIN_VALUE;
+        long totalFitnessEvaluationTime = 0L;
+        long numberOfFitnessEvaluations = 0L;
+        long numberOfFitnessCacheHits = 0L;
+        long numberOfFitnessCacheMisses = 0L;
+
+        List<Long> fitnessEvaluationDurations = new ArrayList<Long>();
+
+        this.usedFitnessEvaluationClassInstance = fitnessEvaluationClassInstance;
+
+        if (fitnessEvaluationClassInstance.isBatchEvaluationOverridden()) {
+            long[] batchCounters = this.evaluateFitnessValuesInBatches(population, fitnessEvaluationClassInstance,
+                    fitnessEvaluationDurations);
+            numberOfFitnessCacheHits = batchCounters[0];
+            numberOfFitnessCacheMisses = batchCounters[1];
+        } else if (fitnessEvaluationClassInstance.isAsynchronousEvaluationOverridden()) {
+            long[] asynchronousCounters = this.evaluateFitnessValuesAsynchronously(population,
+                    fitnessEvaluationClassInstance, fitnessEvaluationDurations);
+            numberOfFitnessCacheHits = asynchronousCounters[0];
+            numberOfFitnessCacheMisses = asynchronousCounters[1];
+        } else if (this.fitnessEvaluationNumberOfThreads <= 1) {
+            for (IndividualWrapper<Individual, FitnessValue> currentIndividual : population) {
+                // Computes the fitness value for the current individual.
+                if (!currentIndividual.isFitnessValueSet()) {
+                    // Looks for the fitness value in the cache.
+                    if (this.fitnessCache != null) {
+                        FitnessValue cachedFitnessValue = this.fitnessCache.get(currentIndividual.getIndividual());
+                        if (cachedFitnessValue != null) {
+                            currentIndividual.setFitnessValue(cachedFitnessValue);
+                            numberOfFitnessCacheHits++;
+                            continue;
+                        }
+                        numberOfFitnessCacheMisses++;
+                    }
+
+                    // Registers the current fitness evaluation start time.
+                    currentStartTime = System.currentTimeMillis();
+
+                    // Calls the operator.
+                    EvaluatedFitnessValue currentFitnessValue =
+                            this.evaluateIndividual(fitnessEvaluationClassInstance, currentIndividual);
+
+                    // Registers the current fitness evaluation finish time.
+                    currentFinishTime = System.currentTimeMillis();
+
+                    // Sets the found value inside the wrapper.
+                    currentIndividual.setFitnessValue(currentFitnessValue.getFitnessValue());
+
+                    // Stores the value in the cache, if exact.
+                    if ((this.fitnessCache != null) && currentFitnessValue.isCacheable())
+                        this.fitnessCache.put(currentIndividual.getIndividual(),
+                                currentFitnessValue.getFitnessValue());
+
+                    fitnessEvaluationDurations.add(currentFinishTime - currentStartTime);
+                }
+            }
+        } else {
+            // Collects the individuals to evaluate, skipping the repeated references and genotypes.
+            final FitnessCache fitnessCache = this.fitnessCache;
+            List<IndividualWrapper<Individual, FitnessValue>> pendingIndividuals =
+                    new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+            List<Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>>
+                    duplicatedIndividuals = new ArrayList<Pair<IndividualWrapper<Individual, FitnessValue>,
+                    IndividualWrapper<Individual, FitnessValue>>>();
+            long[] fitnessCacheCounters = this.collectPendingIndividuals(population, pendingIndividuals,
+                    duplicatedIndividuals);
+            numberOfFitnessCacheHits = fitnessCacheCounters[0];
+            numberOfFitnessCacheMisses = fitnessCacheCounters[1];
+
+            // Submits a task for each individual to evaluate.
+            ExecutorService threadPool = this.getFitnessEvaluationThreadPool();
+            List<Future<Long>> fitnessEvaluationTasks = new ArrayList<Future<Long>>(pendingIndividuals.size());
+
+            for (final IndividualWrapper<Individual, FitnessValue> currentIndividual : pendingIndividuals)
+                fitnessEvaluationTasks.add(threadPool.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() throws IOException {
+                        // Registers the current fitness evaluation start time.
+                        long startTime = System.currentTimeMillis();
+
+                        // Calls the operator.
+                        EvaluatedFitnessValue fitnessValue =
+                                evaluateIndividual(fitnessEvaluationClassInstance, currentIndividual);
+
+                        // Registers the current fitness evaluation finish time.
+                        long finishTime = System.currentTimeMillis();
+
+                        // Sets the found value inside the wrapper.
+                        currentIndividual.setFitnessValue(fitnessValue.getFitnessValue());
+
+                        // Stores the value in the cache, if exact.
+                        if ((fitnessCache != null) && fitnessValue.isCacheable())
+                            fitnessCache.put(currentIndividual.getIndividual(), fitnessValue.getFitnessValue());
+
+                        return finishTime - startTime;
+                    }
+                }));
+
+            // Waits for the tasks and collects the single durations.
+            for (Future<Long> currentTask : fitnessEvaluationTasks) {
+                try {
+                    fitnessEvaluationDurations.add(currentTask.get());
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(exception);
+                } catch (ExecutionException exception) {
+                    if (exception.getCause() instanceof RuntimeException)
+                        throw (RuntimeException) exception.getCause();
+                    if (exception.getCause() instanceof Error)
+                        throw (Error) exception.getCause();
+                    throw new IOException(exception.getCause());
+                }
+            }
+
+            // Copies the fitness values of the evaluated individuals into their duplicates.
+            copyDuplicatedFitnessValues(duplicatedIndividuals);
+        }
+
+        // Updates the times.
+        for (long duration : fitnessEvaluationDurations) {
+            currentFitnessEvaluationTime = duration;
+            if (currentFitnessEvaluationTime < minFitnessEvaluationTime)
+                minFitnessEvaluationTime = currentFitnessEvaluationTime;
+            if (currentFitnessEvaluationTime > maxFitnessEvaluationTime)
+                maxFitnessEvaluationTime = currentFitnessEvaluationTime;
+            totalFitnessEvaluationTime += currentFitnessEvaluationTime;
+            numberOfFitnessEvaluations++;
+        }
+
+        // Writes the times measured by the operator and the evaluations cut off or aborted.
+        this.writeFitnessEvaluationReportedTimes(fitnessEvaluationClassInstance);
+        this.writeFitnessEvaluationCounters();
+
+        // Returns the result.
+        return new long[]{minFitnessEvaluationTime, maxFitnessEvaluationTime, totalFitnessEvaluationTime,
+                numberOfFitnessEvaluations, numberOfFitnessCacheHits, numberOfFitnessCacheMisses};
+    }
+
+    /**
+     * Computes the fitness values of the individuals without one in batches, calling "evaluateBatch" of the operator.
+     * The repeated references and genotypes are evaluated once, and the batches are evaluated concurrently if more
+     * than one fitness evaluation thread is set. The time of every batch is written by the time reporter.
+     *
+     * @param population                     the population to evaluate
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     * @param fitnessEvaluationDurations     the list to fill with the durations of the single evaluations, estimated
+     *                                       as the duration of their batch divided by its size
+     * @return the number of fitness cache hits and misses
+     * @throws IOException
+     */
+    protected long[] evaluateFitnessValuesInBatches(
+            List<IndividualWrapper<Individual, FitnessValue>> population,
+            final FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance,
+            List<Long> fitnessEvaluationDurations
+    ) throws IOException {
+        // Collects the individuals to evaluate, skipping the repeated references and genotypes.
+        final FitnessCache fitnessCache = this.fitnessCache;
+        List<IndividualWrapper<Individual, FitnessValue>> pendingIndividuals =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+        List<Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>>
+                duplicatedIndividuals = new ArrayList<Pair<IndividualWrapper<Individual, FitnessValue>,
+                IndividualWrapper<Individual, FitnessValue>>>();
+        long[] fitnessCacheCounters = this.collectPendingIndividuals(population, pendingIndividuals,
+                duplicatedIndividuals);
+
+        // Splits the individuals in batches.
+        int batchSize = (this.fitnessEvaluationBatchSize > 0) ? this.fitnessEvaluationBatchSize
+                : Math.max(pendingIndividuals.size(), 1);
+        List<List<IndividualWrapper<Individual, FitnessValue>>> batches =
+                new ArrayList<List<IndividualWrapper<Individual, FitnessValue>>>();
+        for (int i = 0; i < pendingIndividuals.size(); i += batchSize)
+            batches.add(pendingIndividuals.subList(i, Math.min(i + batchSize, pendingIndividuals.size())));
+
+        // Evaluates the batches.
+        List<Long> batchDurations = new ArrayList<Long>(batches.size());
+
+        if ((this.fitnessEvaluationNumberOfThreads <= 1) || (batches.size() <= 1)) {
+            for (List<IndividualWrapper<Individual, FitnessValue>> currentBatch : batches)
+                batchDurations.add(evaluateBatch(currentBatch, fitnessEvaluationClassInstance, fitnessCache));
+        } else {
+            ExecutorService threadPool = this.getFitnessEvaluationThreadPool();
+            List<Future<Long>> batchTasks = new ArrayList<Future<Long>>(batches.size());
+
+            for (final List<IndividualWrapper<Individual, FitnessValue>> currentBatch : batches) {
+                batchTasks.add(threadPool.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() {
+                        return evaluateBatch(currentBatch, fitnessEvaluationClassInstance, fitnessCache);
+                    }
+                }));
+            }
+
+            // Waits for the tasks and collects the batch durations.
+            for (Future<Long> currentTask : batchTasks) {
+                try {
+                    batchDurations.add(currentTask.get());
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(exception);
+                } catch (ExecutionException exception) {
+                    if (exception.getCause() instanceof RuntimeException)
+                        throw (RuntimeException) exception.getCause();
+                    if (exception.getCause() instanceof Error)
+                        throw (Error) exception.getCause();
+                    throw new IOException(exception.getCause());
+                }
+            }
+        }
+
+        // Copies the fitness values of the evaluated individuals into their duplicates.
+        copyDuplicatedFitnessValues(duplicatedIndividuals);
+
+        // Estimates the durations of the single evaluations.
+        long minBatchTime = 0L;
+        long maxBatchTime = 0L;
+        long totalBatchTime = 0L;
+        for (int i = 0; i < batches.size(); i++) {
+            long batchDuration = batchDurations.get(i);
+            int currentBatchSize = batches.get(i).size();
+
+            for (int j = 0; j < currentBatchSize; j++)
+                fitnessEvaluationDurations.add(batchDuration / currentBatchSize);
+
+            if ((i == 0) || (batchDuration < minBatchTime))
+                minBatchTime = batchDuration;
+            if ((i == 0) || (batchDuration > maxBatchTime))
+                maxBatchTime = batchDuration;
+            totalBatchTime += batchDuration;
+        }
+
+        // Writes the batch times.
+        if (this.isTimeReporterActive() && !batches.isEmpty()) {
+            this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                    this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.MIN_FITNESS_EVALUATION_BATCH,
+                    0L, minBatchTime);
+            this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                    this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.MAX_FITNESS_EVALUATION_BATCH,
+                    0L, maxBatchTime);
+            this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                    this.currentGenerationNumber,
+                    GeneticOperatorsTimeReporter.PhaseType.AVERAGE_FITNESS_EVALUATION_BATCH, 0L,
+                    (long) Math.ceil((double) totalBatchTime / (double) batches.size()));
+            this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                    this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.TOTAL_FITNESS_EVALUATION_BATCH,
+                    0L, totalBatchTime);
+
+            // Writes the number of batches as total time.
+            this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                    this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.FITNESS_EVALUATION_BATCHES,
+                    0L, batches.size());
+        }
+
+        // Returns the result.
+        return fitnessCacheCounters;
+    }
+
+    /**
+     * Computes the fitness values of the individuals without one calling "evaluateAsync" of the operator, keeping at
+     * most the maximum number of evaluations in flight. Every evaluation is waited by a thread, virtual if supported
+     * by the JVM, that measures it from the call to the completion of the returned future.
+     *
+     * @param population                     the population to evaluate
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     * @param fitnessEvaluationDurations     the list to fill with the durations of the single evaluations
+     * @return the number of fitness cache hits and misses
+     * @throws IOException
+     */
+    protected long[] evaluateFitnessValuesAsynchronously(
+            List<IndividualWrapper<Individual, FitnessValue>> population,
+            final FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance,
+            List<Long> fitnessEvaluationDurations
+    ) throws IOException {
+        // Collects the individuals to evaluate, skipping the repeated references and genotypes.
+        final FitnessCache fitnessCache = this.fitnessCache;
+        List<IndividualWrapper<Individual, FitnessValue>> pendingIndividuals =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+        List<Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>>
+                duplicatedIndividuals = new ArrayList<Pair<IndividualWrapper<Individual, FitnessValue>,
+                IndividualWrapper<Individual, FitnessValue>>>();
+        long[] fitnessCacheCounters = this.collectPendingIndividuals(population, pendingIndividuals,
+                duplicatedIndividuals);
+
+        CompletionService<Long> fitnessEvaluationService =
+                new ExecutorCompletionService<Long>(this.getAsynchronousFitnessEvaluationThreadPool());
+        int maximumNumberOfEvaluationsInFlight = (this.maximumNumberOfFitnessEvaluationsInFlight > 0)
+                ? this.maximumNumberOfFitnessEvaluationsInFlight : this.fitnessEvaluationNumberOfThreads;
+        int numberOfEvaluationsInFlight = 0;
+        int nextIndividualIndex = 0;
+
+        try {
+            while ((nextIndividualIndex < pendingIndividuals.size()) || (numberOfEvaluationsInFlight > 0)) {
+                // Starts the evaluations until the maximum number in flight.
+                while ((nextIndividualIndex < pendingIndividuals.size()) &&
+                        (numberOfEvaluationsInFlight < maximumNumberOfEvaluationsInFlight)) {
+                    final IndividualWrapper<Individual, FitnessValue> currentIndividual =
+                            pendingIndividuals.get(nextIndividualIndex++);
+
+                    fitnessEvaluationService.submit(new Callable<Long>() {
+                        @Override
+                        public Long call() throws Exception {
+                            // Registers the current fitness evaluation start time.
+                            long startTime = System.currentTimeMillis();
+
+                            // Calls the operator and waits for the result.
+                            EvaluatedFitnessValue fitnessValue =
+                                    evaluateIndividual(fitnessEvaluationClassInstance, currentIndividual);
+
+                            // Registers the current fitness evaluation finish time.
+                            long finishTime = System.currentTimeMillis();
+
+                            // Sets the found value inside the wrapper.
+                            currentIndividual.setFitnessValue(fitnessValue.getFitnessValue());
+
+                            // Stores the value in the cache, if exact.
+                            if ((fitnessCache != null) && (currentIndividual.getIndividual() != null) &&
+                                    fitnessValue.isCacheable())
+                                fitnessCache.put(currentIndividual.getIndividual(), fitnessValue.getFitnessValue());
+
+                            return finishTime - startTime;
+                        }
+                    });
+                    numberOfEvaluationsInFlight++;
+                }
+
+                // Waits for an evaluation.
+                fitnessEvaluationDurations.add(fitnessEvaluationService.take().get());
+                numberOfEvaluationsInFlight--;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException(exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if ((cause instanceof ExecutionException) && (cause.getCause() != null))
+                cause = cause.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IOException(cause);
+        }
+
+        // Copies the fitness values of the evaluated individuals into their duplicates.
+        copyDuplicatedFitnessValues(duplicatedIndividuals);
+
+        // Returns the result.
+        return fitnessCacheCounters;
+    }
+
+    /**
+     * Computes the fitness value of an individual, within the time budget if set. An evaluation that exceeds the time
+     * budget is cancelled, interrupting its thread, and the individual gets the penalty fitness value of the
+     * operator, that is not cached; a thread that ignores the interruption is abandoned, and logged.
+     *
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     * @param individualWrapper              the individual to evaluate
+     * @return the fitness value, and whether it can be cached
+     * @throws IOException
+     */
+    protected EvaluatedFitnessValue evaluateIndividual(
+            final FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance,
+            final IndividualWrapper<Individual, FitnessValue> individualWrapper
+    ) throws IOException {
+        boolean isAsynchronousEvaluationOverridden =
+                fitnessEvaluationClassInstance.isAsynchronousEvaluationOverridden();
+
+        // Calls the operator directly without a time budget.
+        if ((this.fitnessEvaluationTimeBudget <= 0L) && !isAsynchronousEvaluationOverridden)
+            return this.callEvaluation(fitnessEvaluationClassInstance, individualWrapper);
+
+        final AtomicInteger evaluationState = new AtomicInteger(EVALUATION_RUNNING);
+
+        try {
+            if (isAsynchronousEvaluationOverridden)
+                return new EvaluatedFitnessValue(
+                        this.waitForEvaluation(fitnessEvaluationClassInstance.evaluateAsync(individualWrapper)), true);
+
+            return this.waitForEvaluation(this.getTimeBudgetFitnessEvaluationThreadPool().submit(
+                    new Callable<EvaluatedFitnessValue>() {
+                        @Override
+                        public EvaluatedFitnessValue call() {
+                            try {
+                                return callEvaluation(fitnessEvaluationClassInstance, individualWrapper);
+                            } finally {
+                                // Releases the thread abandoned by the cut-off, if any.
+                                if (!evaluationState.compareAndSet(EVALUATION_RUNNING, EVALUATION_FINISHED))
+                                    numberOfAbandonedFitnessEvaluations.decrementAndGet();
+                            }
+                        }
+                    }));
+        } catch (TimeoutException exception) {
+            // Cuts off the evaluation.
+            this.numberOfFitnessEvaluationCutOffs.incrementAndGet();
+
+            // Logs the thread left running, until the evaluation reacts to the interruption.
+            if (!isAsynchronousEvaluationOverridden &&
+                    evaluationState.compareAndSet(EVALUATION_RUNNING, EVALUATION_CUT_OFF))
+                LOG.warn("A fitness evaluation exceeded the time budget of " + this.fitnessEvaluationTimeBudget +
+                        " milliseconds and its thread was abandoned; " +
+                        this.numberOfAbandonedFitnessEvaluations.incrementAndGet() +
+                        " cut-off evaluations are still running.");
+
+            FitnessValue penaltyFitnessValue =
+                    fitnessEvaluationClassInstance.getTimeBudgetExceededFitnessValue(individualWrapper);
+            if (penaltyFitnessValue == null)
+                throw new IllegalStateException("The fitness evaluation exceeded the time budget of " +
+                        this.fitnessEvaluationTimeBudget + " milliseconds without a penalty fitness value.");
+
+            return new EvaluatedFitnessValue(penaltyFitnessValue, false);
+        }
+    }
+
+    /**
+     * Waits for an evaluation within the time budget, if set, cancelling it if the time budget is exceeded.
+     *
+     * @param evaluation the evaluation
+     * @param <T>        the type of the result
+     * @return the result
+     * @throws IOException
+     * @throws TimeoutException if the time budget is exceeded
+     */
+    private <T> T waitForEvaluation(Future<T> evaluation) throws IOException, TimeoutException {
+        try {
+            if (this.fitnessEvaluationTimeBudget <= 0L)
+                return evaluation.get();
+            return evaluation.get(this.fitnessEvaluationTimeBudget, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            evaluation.cancel(true);
+            throw exception;
+        } catch (InterruptedException exception) {
+            evaluation.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException(exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException)
+                throw (RuntimeException) exception.getCause();
+            if (exception.getCause() instanceof Error)
+                throw (Error) exception.getCause();
+            throw new IOException(exception.getCause());
+        }
+    }
+
+    /**
+     * Calls the operator, making the individual race against the threshold if the operator evaluates incrementally.
+     *
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     * @param individualWrapper              the individual to evaluate
+     * @return the fitness value, not cacheable if the race was lost, as it is only a bound
+     */
+    protected EvaluatedFitnessValue callEvaluation(
+            FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance,
+            IndividualWrapper<Individual, FitnessValue> individualWrapper
+    ) {
+        FitnessValue threshold = this.fitnessEvaluationThreshold;
+
+        if ((threshold == null) || !fitnessEvaluationClassInstance.isIncrementalEvaluationOverridden())
+            return new EvaluatedFitnessValue(fitnessEvaluationClassInstance.evaluate(individualWrapper), true);
+
+        FitnessRace fitnessRace = new FitnessRace(threshold);
+        FitnessValue fitnessValue = fitnessEvaluationClassInstance.evaluate(individualWrapper, fitnessRace);
+        if (fitnessRace.isLost())
+            this.numberOfFitnessEvaluationAborts.incrementAndGet();
+
+        return new EvaluatedFitnessValue(fitnessValue, !fitnessRace.isLost());
+    }
+
+    /**
+     * Defines the fitness value computed for an individual and whether it can be cached as the fitness value of the
+     * genotype, as the bound returned by a lost race or the penalty of an exceeded time budget cannot.
+     */
+    protected static class EvaluatedFitnessValue {
+
+        private FitnessValue fitnessValue;
+        private boolean isCacheable;
+
+        public EvaluatedFitnessValue(FitnessValue fitnessValue, boolean isCacheable) {
+            this.fitnessValue = fitnessValue;
+            this.isCacheable = isCacheable;
+        }
+
+        public FitnessValue getFitnessValue() {
+            return this.fitnessValue;
+        }
+
+        public boolean isCacheable() {
+            return this.isCacheable;
+        }
+    }
+
+    /**
+     * Updates the threshold the individuals race against with the fitness value at the racing rank among the
+     * evaluated individuals of the population, such as the worst elitist or the survival cut-off. The threshold is
+     * kept if the population has not enough evaluated individuals.
+     *
+     * @param population the population
+     */
+    protected void updateFitnessEvaluationThreshold(List<IndividualWrapper<Individual, FitnessValue>> population) {
+        if (this.fitnessEvaluationRacingRank <= 0)
+            return;
+
+        List<FitnessValue> fitnessValues = new ArrayList<FitnessValue>(population.size());
+        for (IndividualWrapper<Individual, FitnessValue> currentIndividual : population)
+            if (currentIndividual.isFitnessValueSet())
+                fitnessValues.add(currentIndividual.getFitnessValue());
+
+        if (fitnessValues.size() >= this.fitnessEvaluationRacingRank) {
+            Collections.sort(fitnessValues, Collections.reverseOrder());
+            this.fitnessEvaluationThreshold = fitnessValues.get(this.fitnessEvaluationRacingRank - 1);
+        }
+    }
+
+    /**
+     * Writes the number of fitness evaluations cut off and aborted since the previous call, if a time budget or a
+     * racing threshold is set.
+     */
+    protected void writeFitnessEvaluationCounters() {
+        long numberOfCutOffs = this.numberOfFitnessEvaluationCutOffs.getAndSet(0L);
+        long numberOfAborts = this.numberOfFitnessEvaluationAborts.getAndSet(0L);
+
+        if (!this.isTimeReporterActive())
+            return;
+
+        // Writes the number of cut-offs and aborts as total times.
+        if (this.fitnessEvaluationTimeBudget > 0L)
+            this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                    this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.FITNESS_EVALUATION_CUT_OFFS,
+                    0L, numberOfCutOffs);
+        if (this.fitnessEvaluationThreshold != null)
+            this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                    this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.FITNESS_EVALUATION_ABORTS,
+                    0L, numberOfAborts);
+    }
+
+    /**
+     * Collects the individuals of the population without a fitness value, looking for it in the fitness cache and
+     * skipping the repeated references. The individuals equal to a collected one are paired with it, to copy its
+     * fitness value after the evaluation.
+     *
+     * @param population            the population
+     * @param pendingIndividuals    the list to fill with the individuals to evaluate
+     * @param duplicatedIndividuals the list to fill with the duplicates and the individuals they are equal to
+     * @return the number of fitness cache hits and misses
+     */
+    protected long[] collectPendingIndividuals(
+            List<IndividualWrapper<Individual, FitnessValue>> population,
+            List<IndividualWrapper<Individual, FitnessValue>> pendingIndividuals,
+            List<Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>>
+                    duplicatedIndividuals
+    ) {
+        long numberOfFitnessCacheHits = 0L;
+        long numberOfFitnessCacheMisses = 0L;
+
+        Set<IndividualWrapper<Individual, FitnessValue>> pendingIndividualsSet =
+                Collections.newSetFromMap(new IdentityHashMap<IndividualWrapper<Individual, FitnessValue>, Boolean>());
+        Map<Individual, IndividualWrapper<Individual, FitnessValue>> pendingGenotypes =
+                new HashMap<Individual, IndividualWrapper<Individual, FitnessValue>>();
+
+        for (IndividualWrapper<Individual, FitnessValue> currentIndividual : population) {
+            if (!currentIndividual.isFitnessValueSet() && pendingIndividualsSet.add(currentIndividual)) {
+                // Looks for the fitness value in the cache and among the pending individuals.
+                if ((this.fitnessCache != null) && (currentIndividual.getIndividual() != null)) {
+                    FitnessValue cachedFitnessValue = this.fitnessCache.get(currentIndividual.getIndividual());
+                    if (cachedFitnessValue != null) {
+                        currentIndividual.setFitnessValue(cachedFitnessValue);
+                        numberOfFitnessCacheHits++;
+                        continue;
+                    }
+
+                    IndividualWrapper<Individual, FitnessValue> pendingIndividual =
+                            pendingGenotypes.get(currentIndividual.getIndividual());
+                    if (pendingIndividual != null) {
+                        duplicatedIndividuals.add(new Pair<IndividualWrapper<Individual, FitnessValue>,
+                                IndividualWrapper<Individual, FitnessValue>>(currentIndividual, pendingIndividual));
+                        numberOfFitnessCacheHits++;
+                        continue;
+                    }
+
+                    pendingGenotypes.put(currentIndividual.getIndividual(), currentIndividual);
+                    numberOfFitnessCacheMisses++;
+                }
+
+                pendingIndividuals.add(currentIndividual);
+            }
+        }
+
+        return new long[]{numberOfFitnessCacheHits, numberOfFitnessCacheMisses};
+    }
+
+    private static void copyDuplicatedFitnessValues(
+            List<Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>>
+                    duplicatedIndividuals
+    ) {
+        for (Pair<IndividualWrapper<Individual, FitnessValue>, IndividualWrapper<Individual, FitnessValue>>
+                duplicatedIndividual : duplicatedIndividuals)
+            duplicatedIndividual.getFirstElement().setFitnessValue(
+                    FitnessCache.copy(duplicatedIndividual.getSecondElement().getFitnessValue()));
+    }
+
+    private static long evaluateBatch(
+            List<IndividualWrapper<Individual, FitnessValue>> batch,
+            FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance,
+            FitnessCache fitnessCache
+    ) {
+        // Registers the batch start time.
+        long startTime = System.currentTimeMillis();
+
+        // Calls the operator.
+        List<FitnessValue> fitnessValues = fitnessEvaluationClassInstance.evaluateBatch(batch);
+
+        // Registers the batch finish time.
+        long finishTime = System.currentTimeMillis();
+
+        if ((fitnessValues == null) || (fitnessValues.size() != batch.size()))
+            throw new IllegalStateException("The batch fitness evaluation returned " +
+                    ((fitnessValues == null) ? "no" : Integer.toString(fitnessValues.size())) +
+                    " fitness values for " + batch.size() + " individuals.");
+
+        // Sets the found values inside the wrappers and stores them in the cache.
+        for (int i = 0; i < batch.size(); i++) {
+            IndividualWrapper<Individual, FitnessValue> currentIndividual = batch.get(i);
+            currentIndividual.setFitnessValue(fitnessValues.get(i));
+
+            if ((fitnessCache != null) && (currentIndividual.getIndividual() != null))
+                fitnessCache.put(currentIndividual.getIndividual(), fitnessValues.get(i));
+        }
+
+        return finishTime - startTime;
+    }
+
+    /**
+     * Writes the times measured by the fitness evaluation operator, if any.
+     *
+     * @param fitnessEvaluationClassInstance the fitness evaluation operator
+     */
+    protected void writeFitnessEvaluationReportedTimes(
+            FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance
+    ) {
+        Map<String, Long> reportedTimes = fitnessEvaluationClassInstance.getReportedTimes();
+
+        if (this.isTimeReporterActive() && (reportedTimes != null))
+            for (Map.Entry<String, Long> reportedTime : reportedTimes.entrySet())
+                this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                        this.currentGenerationNumber, reportedTime.getKey(), 0L, reportedTime.getValue());
+    }
+
+    /**
+     * Retrieves the thread pool for the fitness evaluation, creating it if needed.
+     *
+     * @return the thread pool
+     */
+    protected ExecutorService getFitnessEvaluationThreadPool() {
+        if (this.fitnessEvaluationThreadPool == null) {
+            this.fitnessEvaluationThreadPool = Executors.newFixedThreadPool(this.fitnessEvaluationNumberOfThreads,
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable, "fitness-evaluation-" + nodeNumber);
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return this.fitnessEvaluationThreadPool;
+    }
+
+    /**
+     * Retrieves the thread pool waiting for the asynchronous fitness evaluations, creating it if needed. It uses a
+     * virtual thread for every evaluation if the JVM supports them, a cached pool of daemon threads otherwise.
+     *
+     * @return the thread pool
+     */
+    protected ExecutorService getAsynchronousFitnessEvaluationThreadPool() {
+        if (this.asynchronousFitnessEvaluationThreadPool == null) {
+            try {
+                this.asynchronousFitnessEvaluationThreadPool = (ExecutorService)
+                        Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException exception) {
+                this.asynchronousFitnessEvaluationThreadPool = Executors.newCachedThreadPool(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "asynchronous-fitness-evaluation-" + nodeNumber);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+        }
+        return this.asynchronousFitnessEvaluationThreadPool;
+    }
+
+    /**
+     * Retrieves the thread pool running the fitness evaluations with a time budget, creating it if needed. The pool is
+     * not bounded, so that the threads of the evaluations cut off do not starve the next ones.
+     *
+     * @return the thread pool
+     */
+    protected ExecutorService getTimeBudgetFitnessEvaluationThreadPool() {
+        if (this.timeBudgetFitnessEvaluationThreadPool == null) {
+            this.timeBudgetFitnessEvaluationThreadPool = Executors.newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "time-budget-fitness-evaluation-" + nodeNumber);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return this.timeBudgetFitnessEvaluationThreadPool;
+    }
+
+    /**
+     * Shuts down the thread pool for the fitness evaluation, if created, and releases the resources of the last used
+     * fitness evaluation operator.
+     */
+    public void shutdownFitnessEvaluationThreadPool() {
+        if (this.fitnessEvaluationThreadPool != null) {
+            this.fitnessEvaluationThreadPool.shutdown();
+            this.fitnessEvaluationThreadPool = null;
+        }
+
+        if (this.asynchronousFitnessEvaluationThreadPool != null) {
+            this.asynchronousFitnessEvaluationThreadPool.shutdown();
+            this.asynchronousFitnessEvaluationThreadPool = null;
+        }
+
+        if (this.timeBudgetFitnessEvaluationThreadPool != null) {
+            this.timeBudgetFitnessEvaluationThreadPool.shutdown();
+            this.timeBudgetFitnessEvaluationThreadPool = null;
+        }
+
+        if (this.usedFitnessEvaluationClassInstance != null) {
+            this.usedFitnessEvaluationClassInstance.close();
+            this.usedFitnessEvaluationClassInstance = null;
         }
     }
 
@@ -862,38 +2183,15 @@ public class GenerationsBlockExecutor {
             List<IndividualWrapper<Individual, FitnessValue>> offspringPopulation,
             FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance
     ) throws IOException {
-
-        long currentFitnessEvaluationStartTime;
-        long currentFitnessEvaluationFinishTime;
-        long currentFitnessEvaluationTime = 0L;
-        long minFitnessEvaluationTime = Long.MAX_VALUE;
-        long maxFitnessEvaluationTime = Long.MIN_VALUE;
-        long totalFitnessEvaluationTime = 0L;
-        long numberOfFitnessEvaluations = 0L;
-
         // Computes the fitness values for the offspring individuals.
-        for (IndividualWrapper<Individual, FitnessValue> currentIndividual : offspringPopulation) {
-            if (!currentIndividual.isFitnessValueSet()) {
-                // Registers the current fitness evaluation start time.
-                currentFitnessEvaluationStartTime = System.currentTimeMillis();
+        long[] fitnessEvaluationTimes = this.evaluateFitnessValues(offspringPopulation, fitnessEvaluationClassInstance);
 
-                // Calls the operator.
-                FitnessValue currentFitnessValue = fitnessEvaluationClassInstance.evaluate(currentIndividual);
-                currentIndividual.setFitnessValue(currentFitnessValue);
-
-                // Registers the current fitness evaluation finish time.
-                currentFitnessEvaluationFinishTime = System.currentTimeMillis();
-
-                // Updates the times.
-                currentFitnessEvaluationTime = currentFitnessEvaluationFinishTime - currentFitnessEvaluationStartTime;
-                if (currentFitnessEvaluationTime < minFitnessEvaluationTime)
-                    minFitnessEvaluationTime = currentFitnessEvaluationTime;
-                if (currentFitnessEvaluationTime > maxFitnessEvaluationTime)
-                    maxFitnessEvaluationTime = currentFitnessEvaluationTime;
-                totalFitnessEvaluationTime += currentFitnessEvaluationTime;
-                numberOfFitnessEvaluations++;
-            }
-        }
+        long minFitnessEvaluationTime = fitnessEvaluationTimes[0];
+        long maxFitnessEvaluationTime = fitnessEvaluationTimes[1];
+        long totalFitnessEvaluationTime = fitnessEvaluationTimes[2];
+        long numberOfFitnessEvaluations = fitnessEvaluationTimes[3];
+        long numberOfFitnessCacheHits = fitnessEvaluationTimes[4];
+        long numberOfFitnessCacheMisses = fitnessEvaluationTimes[5];
 
         // Writes the survival selection time.
         if (this.isTimeReporterActive()) {
@@ -915,6 +2213,16 @@ public class GenerationsBlockExecutor {
             this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
                     this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.TOTAL_FITNESS_EVALUATION_DURING_SURVIVAL_SELECTION, 0L,
                     totalFitnessEvaluationTime);
+
+            // Writes the fitness cache hits and misses as total times.
+            if (this.fitnessCache != null) {
+                this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                        this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.FITNESS_CACHE_HITS_DURING_SURVIVAL_SELECTION,
+                        0L, numberOfFitnessCacheHits);
+                this.geneticOperatorsTimeReporter.writeTime(this.nodeNumber, this.generationsBlockNumber,
+                        this.currentGenerationNumber, GeneticOperatorsTimeReporter.PhaseType.FITNESS_CACHE_MISSES_DURING_SURVIVAL_SELECTION,
+                        0L, numberOfFitnessCacheMisses);
+            }
         }
     }
 
@@ -17,6 +17,8 @@ public class GlobalDistributedGenerationsBlockExecutor extends GenerationsBlockE
 
     private String generationNameFormat;
 
+    private FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance;
+
     public GlobalDistributedGenerationsBlockExecutor(
             FileSystem fileSystem,
             String generationNameFormat
@@ -29,36 +31,53 @@ public class GlobalDistributedGenerationsBlockExecutor extends GenerationsBlockE
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void run()
             throws IOException, NoSuchMethodException, IllegalAccessException, InvocationTargetException,
             InstantiationException {
-        // Instantiates the classes.
-        FitnessEvaluation<Individual, FitnessValue> fitnessEvaluationClassInstance = null;
-
-        try {
-            fitnessEvaluationClassInstance =
-                    this.fitnessEvaluationClass
-                            .getConstructor(Integer.class, Integer.class, Properties.class, Configuration.class)
-                            .newInstance(this.nodeNumber, this.totalNumberOfNodes, this.userProperties,
-                                    this.configuration);
-        } catch (NullPointerException exception) {
-            exception.printStackTrace();
-            System.exit(-1);
-        }
-
         // Reads the input population and starts the generations.
         List<IndividualWrapper<Individual, FitnessValue>> currentPopulation = this.inputPopulation;
 
         this.currentGenerationNumber = this.startGenerationNumber;
 
         // Fitness evaluation.
-        this.runFitnessEvaluation(currentPopulation, fitnessEvaluationClassInstance);
+        this.evaluate(currentPopulation);
 
         // Sets the output population.
         this.outputPopulation = currentPopulation;
 
         // Sets the last executed generation number.
         this.lastExecutedGenerationNumber = this.currentGenerationNumber;
+
+        // Releases the fitness evaluation threads.
+        this.shutdownFitnessEvaluationThreadPool();
+    }
+
+    /**
+     * Evaluates the fitness values of a population. The fitness evaluation instance and the threads are kept between
+     * the calls, so that a long-lived evaluator pays for them only once.
+     *
+     * @param population the population to evaluate
+     */
+    @SuppressWarnings("unchecked")
+    public void evaluate(List<IndividualWrapper<Individual, FitnessValue>> population)
+            throws IOException, NoSuchMethodException, IllegalAccessException, InvocationTargetException,
+            InstantiationException {
+        // Instantiates the classes, keeping the instance that evaluated the input population while it was read.
+        if (this.fitnessEvaluationClassInstance == null)
+            this.fitnessEvaluationClassInstance = this.streamingFitnessEvaluationClassInstance;
+        if (this.fitnessEvaluationClassInstance == null) {
+            try {
+                this.fitnessEvaluationClassInstance =
+                        this.fitnessEvaluationClass
+                                .getConstructor(Integer.class, Integer.class, Properties.class, Configuration.class)
+                                .newInstance(this.nodeNumber, this.totalNumberOfNodes, this.userProperties,
+                                        this.configuration);
+            } catch (NullPointerException exception) {
+                exception.printStackTrace();
+                System.exit(-1);
+            }
+        }
+
+        this.runFitnessEvaluation(population, this.fitnessEvaluationClassInstance);
     }
 }
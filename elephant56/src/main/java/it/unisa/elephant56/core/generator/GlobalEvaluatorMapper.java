@@ -0,0 +1,48 @@
+package it.unisa.elephant56.core.generator;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import org.apache.avro.mapred.AvroKey;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.mapreduce.Mapper;
+
+import java.io.IOException;
+
+/**
+ * Runs a fitness evaluator of the global model for the whole run, connected to the pool of the master. The mapper
+ * receives an empty split and evaluates the individuals sent by the master until asked to stop.
+ */
+public class GlobalEvaluatorMapper
+        extends Mapper<AvroKey<IndividualWrapper<Individual, FitnessValue>>, IntWritable,
+        AvroKey<IndividualWrapper<Individual, FitnessValue>>, IntWritable> {
+
+    /**
+     * Evaluates the individuals sent by the master.
+     */
+    @Override
+    protected void cleanup(Context context) throws IOException, InterruptedException {
+        // Reads the configuration from the context.
+        Configuration configuration = context.getConfiguration();
+
+        // Reads the task number and the total number of tasks.
+        int fitnessEvaluatorNumber = configuration.getInt("mapred.task.partition", 0);
+        int totalNumberOfFitnessEvaluators = configuration.getInt("mapred.map.tasks", 1);
+
+        try {
+            FitnessEvaluatorWorker fitnessEvaluatorWorker =
+                    new FitnessEvaluatorWorker(configuration, fitnessEvaluatorNumber, totalNumberOfFitnessEvaluators);
+            fitnessEvaluatorWorker.run(configuration.get(Constants.CONFIGURATION_FITNESS_EVALUATORS_POOL_ADDRESS),
+                    context);
+        } catch (IOException exception) {
+            throw exception;
+        } catch (InterruptedException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            // Fails the task, so that the framework starts the fitness evaluator again.
+            throw new IOException(exception);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package it.unisa.elephant56.core.generator;
 
 import it.unisa.elephant56.core.GlobalDistributedDriver;
+import it.unisa.elephant56.core.common.FitnessCache;
 import it.unisa.elephant56.core.common.IndividualWrapper;
 import it.unisa.elephant56.user.common.FitnessValue;
 import it.unisa.elephant56.user.common.Individual;
@@ -8,8 +9,9 @@ import it.unisa.elephant56.user.operators.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class GlobalGenerationsBlockExecutor extends GenerationsBlockExecutor {
 
@@ -27,35 +29,77 @@ public class GlobalGenerationsBlockExecutor extends GenerationsBlockExecutor {
             GlobalDistributedDriver.FitnessEvaluationType fitnessEvaluationType
     ) throws IOException {
         try {
-            Boolean[] selectedMarks = new Boolean[population.size()];
             List<IndividualWrapper<Individual, FitnessValue>> populationToDistribute = new ArrayList<>(population.size());
 
             // Finds the individuals with fitness value missing.
             for (int currentIndividualIndex = 0; currentIndividualIndex < population.size(); currentIndividualIndex++) {
                 IndividualWrapper<Individual, FitnessValue> currentIndividual = population.get(currentIndividualIndex);
 
-                if (!currentIndividual.isFitnessValueSet()) {
-                    selectedMarks[currentIndividualIndex] = true;
+                // Looks for the fitness value in the cache.
+                if (!currentIndividual.isFitnessValueSet() && (this.fitnessCache != null)) {
+                    FitnessValue cachedFitnessValue = this.fitnessCache.get(currentIndividual.getIndividual());
+                    if (cachedFitnessValue != null)
+                        currentIndividual.setFitnessValue(cachedFitnessValue);
+                }
+
+                if (!currentIndividual.isFitnessValueSet())
                     populationToDistribute.add(currentIndividual);
-                } else {
-                    selectedMarks[currentIndividualIndex] = false;
+            }
+
+            // Merges the pending evaluations of equal individuals.
+            Map<Individual, List<IndividualWrapper<Individual, FitnessValue>>> mergedIndividuals = null;
+            if (globalDistributedDriver.isEvaluationRoundsMergingActive() && (populationToDistribute.size() > 1)) {
+                mergedIndividuals = new HashMap<>();
+
+                List<IndividualWrapper<Individual, FitnessValue>> distinctPopulation =
+                        new ArrayList<>(populationToDistribute.size());
+                for (IndividualWrapper<Individual, FitnessValue> currentIndividual : populationToDistribute) {
+                    List<IndividualWrapper<Individual, FitnessValue>> equalIndividuals =
+                            mergedIndividuals.get(currentIndividual.getIndividual());
+                    if (equalIndividuals == null) {
+                        equalIndividuals = new ArrayList<>(1);
+                        mergedIndividuals.put(currentIndividual.getIndividual(), equalIndividuals);
+                        distinctPopulation.add(currentIndividual);
+                    }
+                    equalIndividuals.add(currentIndividual);
                 }
+
+                populationToDistribute = distinctPopulation;
             }
 
             // Executes the distributed fitness evaluation.
             if (populationToDistribute.size() > 0) {
-                globalDistributedDriver.runDistributedFitnessEvaluation(populationToDistribute, fitnessEvaluationType);
+                boolean isEvaluatedLocally =
+                        populationToDistribute.size() < globalDistributedDriver.getLocalEvaluationThreshold();
 
-                // Retrieves the output population.
-                List<IndividualWrapper<Individual, FitnessValue>> outputPopulation = globalDistributedDriver.getResultPopulation(fitnessEvaluationType);
+                if (isEvaluatedLocally) {
+                    // Evaluates the few individuals on the master, instead of paying a distributed round.
+                    super.runFitnessEvaluation(populationToDistribute, fitnessEvaluationClassInstance);
+                } else if (globalDistributedDriver.isFitnessEvaluatorPoolActive()) {
+                    // Streams the individuals to the fitness evaluators kept alive.
+                    globalDistributedDriver.runPooledFitnessEvaluation(populationToDistribute);
+                } else {
+                    globalDistributedDriver.runDistributedFitnessEvaluation(populationToDistribute, fitnessEvaluationType);
 
-                // Fills the population by the marks list.
-                Iterator<IndividualWrapper<Individual, FitnessValue>> outputPopulationIterator = outputPopulation.iterator();
-                for (int currentIndividualIndex = 0; currentIndividualIndex < population.size(); currentIndividualIndex++) {
-                    if (selectedMarks[currentIndividualIndex] == true) {
-                        population.get(currentIndividualIndex).setFitnessValue(outputPopulationIterator.next().getFitnessValue());
-                    }
+                    // Sets the fitness values returned, by position.
+                    globalDistributedDriver.mergeResultFitnessValues(fitnessEvaluationType, populationToDistribute);
                 }
+
+                // Stores the values in the cache, unless already cached by the local evaluation or possibly bounds of
+                // races lost or penalties of time budgets exceeded by the fitness evaluators.
+                if ((this.fitnessCache != null) && !isEvaluatedLocally && (this.fitnessEvaluationThreshold == null) &&
+                        (this.fitnessEvaluationTimeBudget <= 0L))
+                    for (IndividualWrapper<Individual, FitnessValue> currentIndividual : populationToDistribute)
+                        this.fitnessCache.put(currentIndividual.getIndividual(), currentIndividual.getFitnessValue());
+
+                // Copies the fitness values to the merged individuals.
+                if (mergedIndividuals != null)
+                    for (IndividualWrapper<Individual, FitnessValue> currentIndividual : populationToDistribute)
+                        for (IndividualWrapper<Individual, FitnessValue> equalIndividual :
+                                mergedIndividuals.get(currentIndividual.getIndividual()))
+                            if (equalIndividual != currentIndividual)
+                                equalIndividual.setFitnessValue(
+                                        FitnessCache.copy(currentIndividual.getFitnessValue()));
             }
         } catch (Exception exception) {
             exception.printStackTrace();
@@ -1,8 +1,10 @@
 package it.unisa.elephant56.core.generator;
 
 import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.common.IndexedFitnessValue;
 import it.unisa.elephant56.core.common.IndividualWrapper;
 import it.unisa.elephant56.core.common.Properties;
+import it.unisa.elephant56.core.input.PopulationInputSplit;
 import it.unisa.elephant56.core.reporter.time.GenerationsBlockTimeReporter;
 import it.unisa.elephant56.core.reporter.time.GeneticOperatorsTimeReporter;
 import it.unisa.elephant56.core.reporter.time.MapReduceTimeReporter;
@@ -10,11 +12,13 @@ import it.unisa.elephant56.user.common.FitnessValue;
 import it.unisa.elephant56.user.common.Individual;
 import it.unisa.elephant56.user.operators.*;
 import org.apache.avro.mapred.AvroKey;
+import org.apache.avro.mapreduce.AvroJob;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.mapreduce.Mapper;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -49,6 +53,8 @@ public class GlobalMapper
     private int totalNumberOfFitnessEvaluators;
 
     private List<IndividualWrapper<Individual, FitnessValue>> inputPopulation;
+    private boolean isStreamingFitnessEvaluationActive;
+    private int firstIndividualIndex;
 
     private Properties userProperties;
 
@@ -129,27 +135,59 @@ public class GlobalMapper
         this.generationsBlockExecutor.setFinishGenerationNumber(finishGenerationNumber);
 
         this.generationsBlockExecutor.setFitnessEvaluationClass(fitnessEvaluationClass);
+        this.generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS, 1));
+        this.generationsBlockExecutor.setFitnessCacheSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_CACHE_SIZE, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationBatchSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE, 0));
+        this.generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationTimeBudget(
+                this.configuration.getLong(Constants.CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET, 0L));
+
+        // Reads the fitness value the individuals race against, if any.
+        String thresholdFilePath =
+                this.configuration.get(Constants.CONFIGURATION_FITNESS_EVALUATION_THRESHOLD_FILE_PATH);
+        if (thresholdFilePath != null)
+            this.generationsBlockExecutor.setFitnessEvaluationThreshold(
+                    IndexedFitnessValue.readFromFile(new Path(thresholdFilePath), this.configuration).get(0)
+                            .getFitnessValue());
 
         this.generationsBlockExecutor.activateTimeReporter(this.isTimeReporterActive);
         this.generationsBlockExecutor.setGeneticOperatorsTimeReporter(this.geneticOperatorsTimeReporter);
         this.generationsBlockExecutor.setGenerationsBlockTimeReporter(this.generationsBlockTimeReporter);
 
+        // Prepares the evaluation of the individuals while they are read, so that the task is one pipelined pass.
+        this.isStreamingFitnessEvaluationActive =
+                this.configuration.getBoolean(Constants.CONFIGURATION_STREAMING_FITNESS_EVALUATION_ACTIVE, false);
+        if (this.isStreamingFitnessEvaluationActive) {
+            try {
+                this.generationsBlockExecutor.startStreamingFitnessEvaluation();
+            } catch (ReflectiveOperationException exception) {
+                throw new IOException(exception);
+            }
+        }
+
         // Instantiates the population.
         this.inputPopulation = new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+
+        // Computes the position of the first individual of the split, from the number of the input file.
+        String inputFileName = ((PopulationInputSplit) context.getInputSplit()).getFilePath().getName();
+        int inputFileNumber = Integer.parseInt(inputFileName.substring(0, inputFileName.indexOf('.')));
+        this.firstIndividualIndex = inputFileNumber *
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATORS_INDIVIDUALS_PER_FILE, 0);
     }
 
     @Override
     protected void map(AvroKey<IndividualWrapper<Individual, FitnessValue>> key, IntWritable value, Context context) {
-        // Adds the current individual to the population.
-        IndividualWrapper<Individual, FitnessValue> individualWrapperClone = null;
-        try {
-            individualWrapperClone = (IndividualWrapper<Individual, FitnessValue>) key.datum().clone();
-        } catch (CloneNotSupportedException exception) {
-            exception.printStackTrace();
-            System.exit(-1);
-        }
+        // Adds the current individual to the population, adopting the datum that the record reader creates for
+        // every record.
+        this.inputPopulation.add(key.datum());
 
-        this.inputPopulation.add(individualWrapperClone);
+        // Evaluates the individual while the next ones are read.
+        if (this.isStreamingFitnessEvaluationActive)
+            this.generationsBlockExecutor.submitStreamingFitnessEvaluation(key.datum());
     }
 
     /**
@@ -157,6 +195,10 @@ public class GlobalMapper
      */
     @Override
     protected void cleanup(Context context) throws IOException, InterruptedException {
+        // Waits for the evaluations of the individuals submitted while they were read.
+        if (this.isStreamingFitnessEvaluationActive)
+            this.generationsBlockExecutor.awaitStreamingFitnessEvaluations();
+
         // Sets the input population.
         this.generationsBlockExecutor.setInputPopulation(this.inputPopulation);
 
@@ -171,15 +213,16 @@ public class GlobalMapper
         List<IndividualWrapper<Individual, FitnessValue>> outputPopulation =
                 this.generationsBlockExecutor.getOutputPopulation();
 
-        // Sends the individual to reducer.
-        AvroKey<IndividualWrapper<Individual, FitnessValue>> outputKey =
-                new AvroKey<IndividualWrapper<Individual, FitnessValue>>();
-        IntWritable outputValue = new IntWritable(this.fitnessEvaluatorNumber);
+        // Returns only the fitness values, with the positions of the individuals in the population.
+        List<IndexedFitnessValue> fitnessValues = new ArrayList<IndexedFitnessValue>(outputPopulation.size());
+        for (int i = 0; i < outputPopulation.size(); i++)
+            fitnessValues.add(new IndexedFitnessValue(this.firstIndividualIndex + i,
+                    outputPopulation.get(i).getFitnessValue()));
 
-        for (IndividualWrapper<Individual, FitnessValue> currentIndividual : outputPopulation) {
-            outputKey.datum(currentIndividual);
-            context.write(outputKey, outputValue);
-        }
+        Path fitnessValuesFilePath = new Path(FileOutputFormat.getWorkOutputPath(context),
+                String.format(Constants.FITNESS_VALUES_FILE_NAME_FORMAT, this.fitnessEvaluatorNumber));
+        IndexedFitnessValue.writeToFile(fitnessValuesFilePath, this.configuration, fitnessValues,
+                AvroJob.getOutputKeySchema(this.configuration));
 
         // Writes some partials.
         if (this.isTimeReporterActive) {
@@ -77,6 +77,7 @@ public class GridDistributedPrimaryGenerationsBlockExecutor extends GenerationsB
         this.currentGenerationNumber = this.startGenerationNumber;
 
         // Fitness evaluation.
+        this.updateFitnessEvaluationThreshold(currentPopulation);
         this.runFitnessEvaluation(currentPopulation, fitnessEvaluationClassInstance);
 
         // Sets the output population.
@@ -84,5 +85,8 @@ public class GridDistributedPrimaryGenerationsBlockExecutor extends GenerationsB
 
         // Sets the last executed generation number.
         this.lastExecutedGenerationNumber = this.currentGenerationNumber;
+
+        // Releases the fitness evaluation threads.
+        this.shutdownFitnessEvaluationThreadPool();
     }
 }
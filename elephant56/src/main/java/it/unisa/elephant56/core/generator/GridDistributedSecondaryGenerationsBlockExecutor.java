@@ -8,6 +8,7 @@ import it.unisa.elephant56.core.reporter.time.GeneticOperatorsTimeReporter;
 import it.unisa.elephant56.user.common.FitnessValue;
 import it.unisa.elephant56.user.common.Individual;
 import it.unisa.elephant56.user.operators.*;
+import it.unisa.elephant56.util.common.IdentityIndexedList;
 import it.unisa.elephant56.util.common.Pair;
 import org.apache.hadoop.conf.Configuration;
 
@@ -111,8 +112,11 @@ public class GridDistributedSecondaryGenerationsBlockExecutor extends Generation
                     this.runElitism(currentPopulation, elitismClassInstance);
 
             // Subtracts the elite from the current population.
+            IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>> remainingPopulation =
+                    new IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>>(currentPopulation);
             for (IndividualWrapper<Individual, FitnessValue> elitist : elitePopulation)
-                currentPopulation.remove(elitist);
+                remainingPopulation.removeSameOrEqual(elitist);
+            currentPopulation = remainingPopulation;
         }
 
         // Parents selection.
@@ -129,7 +133,8 @@ public class GridDistributedSecondaryGenerationsBlockExecutor extends Generation
 
         // Checks if doing survival selection.
         if (this.isSurvivalSelectionActive()) {
-            // Evaluates fitness values for the offspring.
+            // Evaluates fitness values for the offspring, racing against the current population.
+            this.updateFitnessEvaluationThreshold(currentPopulation);
             this.runOffspringFitnessEvaluation(offspringPopulation, fitnessEvaluationClassInstance);
 
             // Survival selection.
@@ -160,5 +165,8 @@ public class GridDistributedSecondaryGenerationsBlockExecutor extends Generation
 
         // Sets the last executed generation number.
         this.lastExecutedGenerationNumber = this.currentGenerationNumber;
+
+        // Releases the fitness evaluation threads.
+        this.shutdownFitnessEvaluationThreadPool();
     }
 }
@@ -150,6 +150,18 @@ public class GridMapper
 
         this.generationsBlockExecutor.setInitiliasationClass(initialisationClass);
         this.generationsBlockExecutor.setFitnessEvaluationClass(fitnessEvaluationClass);
+        this.generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS, 1));
+        this.generationsBlockExecutor.setFitnessCacheSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_CACHE_SIZE, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationBatchSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE, 0));
+        this.generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationTimeBudget(
+                this.configuration.getLong(Constants.CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET, 0L));
+        this.generationsBlockExecutor.setFitnessEvaluationRacingRank(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_RACING_RANK, 0));
 
         this.generationsBlockExecutor.activateInitialisation(isInitialisationActive);
 
@@ -169,16 +181,9 @@ public class GridMapper
     @Override
     protected void map(AvroKey<IndividualWrapper<Individual, FitnessValue>> key, IntWritable value, Context context) {
         if (!this.isInitialisationActive) {
-            // Adds the current individual to the population.
-            IndividualWrapper<Individual, FitnessValue> individualWrapperClone = null;
-            try {
-                individualWrapperClone = (IndividualWrapper<Individual, FitnessValue>) key.datum().clone();
-            } catch (CloneNotSupportedException exception) {
-                exception.printStackTrace();
-                System.exit(-1);
-            }
-
-            this.inputPopulation.add(individualWrapperClone);
+            // Adds the current individual to the population, adopting the datum that the record reader creates for
+            // every record.
+            this.inputPopulation.add(key.datum());
         }
 
         // Adds the destination to the partitioner nodes destinations list.
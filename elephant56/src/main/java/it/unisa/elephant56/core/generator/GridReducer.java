@@ -170,6 +170,18 @@ public class GridReducer
 
         this.generationsBlockExecutor.setInitiliasationClass(initialisationClass);
         this.generationsBlockExecutor.setFitnessEvaluationClass(fitnessEvaluationClass);
+        this.generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS, 1));
+        this.generationsBlockExecutor.setFitnessCacheSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_CACHE_SIZE, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationBatchSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE, 0));
+        this.generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationTimeBudget(
+                this.configuration.getLong(Constants.CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET, 0L));
+        this.generationsBlockExecutor.setFitnessEvaluationRacingRank(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_RACING_RANK, 0));
         this.generationsBlockExecutor.setTerminationConditionCheckClass(terminationConditionCheckClass);
         this.generationsBlockExecutor.setElitismClass(elitismClass);
         this.generationsBlockExecutor.setParentsSelectionClass(parentsSelectionClass);
@@ -194,19 +206,9 @@ public class GridReducer
     @Override
     protected void reduce(AvroKey<IndividualWrapper<Individual, FitnessValue>> key, Iterable<IntWritable> values,
                           Context context) throws IOException, InterruptedException {
-        // Adds the current individual to the population.
-        IndividualWrapper<Individual, FitnessValue> individualWrapperClone = null;
-        try {
-            individualWrapperClone = (IndividualWrapper<Individual, FitnessValue>) key.datum().clone();
-        } catch (CloneNotSupportedException exception) {
-            exception.printStackTrace();
-            System.exit(-1);
-        } catch (ClassCastException exception) {
-            exception.printStackTrace();
-            System.exit(-1);
-        }
-
-        this.inputPopulation.add(individualWrapperClone);
+        // Adds the current individual to the population, adopting the datum that the shuffle deserialiser creates
+        // for every key.
+        this.inputPopulation.add(key.datum());
     }
 
     @Override
@@ -11,6 +11,7 @@ import it.unisa.elephant56.core.reporter.time.MapReduceTimeReporter;
 import it.unisa.elephant56.user.operators.*;
 import it.unisa.elephant56.user.operators.Initialisation;
 import it.unisa.elephant56.user.operators.TerminationConditionCheck;
+import it.unisa.elephant56.util.common.IdentityIndexedList;
 import it.unisa.elephant56.util.common.Pair;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
@@ -18,6 +19,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.IntWritable;
 import org.apache.hadoop.mapreduce.Mapper;
 import org.apache.avro.mapred.AvroKey;
+import org.apache.avro.mapreduce.AvroJob;
 
 import it.unisa.elephant56.core.Constants;
 import it.unisa.elephant56.core.common.IndividualWrapper;
@@ -34,36 +36,40 @@ public class IslandMapper
         AvroKey<IndividualWrapper<Individual, FitnessValue>>, IntWritable> {
 
     // GenerationsExecutor object.
-    private IslandDistributedGenerationsBlockExecutor generationsBlockExecutor;
+    protected IslandDistributedGenerationsBlockExecutor generationsBlockExecutor;
 
     // Configuration object.
-    private Configuration configuration;
+    protected Configuration configuration;
 
     // Configuration variables.
-    private boolean isInitialisationActive;
+    protected boolean isInitialisationActive;
 
-    private boolean isMigrationActive;
+    protected boolean isMigrationActive;
+    protected boolean isMigrantsSideFilesActive;
 
-    private boolean isTimeReporterActive;
-    private GeneticOperatorsTimeReporter geneticOperatorsTimeReporter;
-    private GenerationsBlockTimeReporter generationsBlockTimeReporter;
-    private MapReduceTimeReporter mapreduceTimeReporter;
-    private Path mapreduceMapperPartialTimeReportFilePath;
+    protected boolean isTimeReporterActive;
+    protected GeneticOperatorsTimeReporter geneticOperatorsTimeReporter;
+    protected GenerationsBlockTimeReporter generationsBlockTimeReporter;
+    protected MapReduceTimeReporter mapreduceTimeReporter;
+    protected Path mapreduceMapperPartialTimeReportFilePath;
 
-    private boolean isIndividualReporterActive;
-    private IndividualReporter individualReporter;
+    protected boolean isIndividualReporterActive;
+    protected IndividualReporter individualReporter;
 
     // Task objects.
-    private FileSystem fileSystem;
+    protected FileSystem fileSystem;
 
-    private long generationsBlockNumber;
+    protected long generationsBlockNumber;
 
-    private int islandNumber;
-    private int totalNumberOfIslands;
+    protected int islandNumber;
+    protected int totalNumberOfIslands;
 
-    private List<IndividualWrapper<Individual, FitnessValue>> inputPopulation;
+    protected List<IndividualWrapper<Individual, FitnessValue>> inputPopulation;
+    protected boolean isStreamingFitnessEvaluationActive;
 
-    private Properties userProperties;
+    protected Properties userProperties;
+
+    protected MigrantsMailbox migrantsMailbox;
 
     @SuppressWarnings("unchecked")
     @Override
@@ -154,7 +160,12 @@ public class IslandMapper
                 this.configuration.getBoolean(Constants.CONFIGURATION_INITIALISATION_ACTIVE, false);
         boolean isElitismActive = this.configuration.getBoolean(Constants.CONFIGURATION_ELITISM_ACTIVE, false);
         boolean isSurvivalSelectionActive = this.configuration.getBoolean(Constants.CONFIGURATION_SURVIVAL_SELECTION_ACTIVE, false);
+        boolean isSteadyStateActive = this.configuration.getBoolean(Constants.CONFIGURATION_STEADY_STATE_ACTIVE, false);
+        boolean isLazyFitnessEvaluationActive =
+                this.configuration.getBoolean(Constants.CONFIGURATION_LAZY_FITNESS_EVALUATION_ACTIVE, false);
         this.isMigrationActive = this.configuration.getBoolean(Constants.CONFIGURATION_MIGRATION_ACTIVE, false);
+        this.isMigrantsSideFilesActive =
+                this.configuration.getBoolean(Constants.CONFIGURATION_MIGRANTS_SIDE_FILES_ACTIVE, false);
 
         // Retrieves the initialisation population size.
         int initialisationPopulationSize =
@@ -195,6 +206,18 @@ public class IslandMapper
 
         this.generationsBlockExecutor.setInitiliasationClass(initialisationClass);
         this.generationsBlockExecutor.setFitnessEvaluationClass(fitnessEvaluationClass);
+        this.generationsBlockExecutor.setFitnessEvaluationNumberOfThreads(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS, 1));
+        this.generationsBlockExecutor.setFitnessCacheSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_CACHE_SIZE, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationBatchSize(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_BATCH_SIZE, 0));
+        this.generationsBlockExecutor.setMaximumNumberOfFitnessEvaluationsInFlight(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_MAXIMUM_IN_FLIGHT, 0));
+        this.generationsBlockExecutor.setFitnessEvaluationTimeBudget(
+                this.configuration.getLong(Constants.CONFIGURATION_FITNESS_EVALUATION_TIME_BUDGET, 0L));
+        this.generationsBlockExecutor.setFitnessEvaluationRacingRank(
+                this.configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_RACING_RANK, 0));
         this.generationsBlockExecutor.setTerminationConditionCheckClass(terminationConditionCheckClass);
         this.generationsBlockExecutor.setElitismClass(elitismClass);
         this.generationsBlockExecutor.setParentsSelectionClass(parentsSelectionClass);
@@ -206,6 +229,8 @@ public class IslandMapper
         this.generationsBlockExecutor.activateInitialisation(isInitialisationActive);
         this.generationsBlockExecutor.activateElitism(isElitismActive);
         this.generationsBlockExecutor.activateSurvivalSelection(isSurvivalSelectionActive);
+        this.generationsBlockExecutor.activateSteadyState(isSteadyStateActive);
+        this.generationsBlockExecutor.activateLazyFitnessEvaluation(isLazyFitnessEvaluationActive);
         this.generationsBlockExecutor.activateMigration(isMigrationActive);
 
         this.generationsBlockExecutor.activateTimeReporter(this.isTimeReporterActive);
@@ -217,22 +242,38 @@ public class IslandMapper
 
         this.generationsBlockExecutor.setInitialisationPopulationSize(initialisationPopulationSize);
 
+        // Creates the mailbox, if the migrants are exchanged through side files.
+        if (this.isMigrantsSideFilesActive) {
+            Path migrantsMailboxFolderPath =
+                    new Path(this.configuration.get(Constants.CONFIGURATION_MIGRANTS_MAILBOX_FOLDER_PATH));
+            this.migrantsMailbox = new MigrantsMailbox(migrantsMailboxFolderPath, this.fileSystem, this.configuration,
+                    AvroJob.getInputKeySchema(this.configuration), this.islandNumber, this.totalNumberOfIslands);
+        }
+
+        // Prepares the evaluation of the individuals while they are read, unless it is deferred.
+        this.isStreamingFitnessEvaluationActive = !isLazyFitnessEvaluationActive &&
+                this.configuration.getBoolean(Constants.CONFIGURATION_STREAMING_FITNESS_EVALUATION_ACTIVE, false);
+        if (this.isStreamingFitnessEvaluationActive) {
+            try {
+                this.generationsBlockExecutor.startStreamingFitnessEvaluation();
+            } catch (ReflectiveOperationException exception) {
+                throw new IOException(exception);
+            }
+        }
+
         // Instantiates the population.
         this.inputPopulation = new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
     }
 
     @Override
     protected void map(AvroKey<IndividualWrapper<Individual, FitnessValue>> key, IntWritable value, Context context) {
-        // Adds the current individual to the population.
-        IndividualWrapper<Individual, FitnessValue> individualWrapperClone = null;
-        try {
-            individualWrapperClone = (IndividualWrapper<Individual, FitnessValue>) key.datum().clone();
-        } catch (CloneNotSupportedException exception) {
-            exception.printStackTrace();
-            System.exit(-1);
-        }
+        // Adds the current individual to the population, adopting the datum that the record reader creates for
+        // every record.
+        this.inputPopulation.add(key.datum());
 
-        this.inputPopulation.add(individualWrapperClone);
+        // Evaluates the individual while the next ones are read.
+        if (this.isStreamingFitnessEvaluationActive)
+            this.generationsBlockExecutor.submitStreamingFitnessEvaluation(key.datum());
     }
 
     /**
@@ -240,6 +281,14 @@ public class IslandMapper
      */
     @Override
     protected void cleanup(Context context) throws IOException, InterruptedException {
+        // Waits for the evaluations of the individuals submitted while they were read.
+        if (this.isStreamingFitnessEvaluationActive)
+            this.generationsBlockExecutor.awaitStreamingFitnessEvaluations();
+
+        // Receives the migrants sent by the previous generations block, if they did not pass through the shuffle.
+        if (this.isMigrantsSideFilesActive && (this.generationsBlockNumber > 0L))
+            this.inputPopulation.addAll(this.migrantsMailbox.receive(this.generationsBlockNumber - 1L, context));
+
         // Sets the input population.
         this.generationsBlockExecutor.setInputPopulation(this.inputPopulation);
 
@@ -250,9 +299,10 @@ public class IslandMapper
             exception.printStackTrace();
         }
 
-        // Retrieves the output.
-        List<IndividualWrapper<Individual, FitnessValue>> outputPopulation =
-                this.generationsBlockExecutor.getOutputPopulation();
+        // Retrieves the output, indexed to remove the migrants.
+        IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>> outputPopulation =
+                new IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>>(
+                        this.generationsBlockExecutor.getOutputPopulation());
 
         // Retrieves the migration assignments.
         List<Pair<IndividualWrapper<Individual, FitnessValue>, Integer>> migrationAssignments =
@@ -264,13 +314,36 @@ public class IslandMapper
         IntWritable outputValue = new IntWritable(this.islandNumber);
 
         // Firstly, sends the migrants.
-        if (this.isMigrationActive) {
+        if (this.isMigrationActive && this.isMigrantsSideFilesActive) {
+            // Writes the migrants to the side files of their destinations, keeping locally the others.
+            List<List<IndividualWrapper<Individual, FitnessValue>>> migrantsByDestination =
+                    new ArrayList<List<IndividualWrapper<Individual, FitnessValue>>>(this.totalNumberOfIslands);
+            for (int destination = 0; destination < this.totalNumberOfIslands; destination++)
+                migrantsByDestination.add(new ArrayList<IndividualWrapper<Individual, FitnessValue>>());
+
             for (Pair<IndividualWrapper<Individual, FitnessValue>, Integer> assignment : migrationAssignments) {
                 IndividualWrapper<Individual, FitnessValue> currentIndividual = assignment.getFirstElement();
                 int currentDestination = assignment.getSecondElement();
 
+                if (currentDestination == this.islandNumber)
+                    continue;
+
                 // Removes the individual from the list.
-                outputPopulation.remove(currentIndividual);
+                outputPopulation.removeSameOrEqual(currentIndividual);
+
+                migrantsByDestination.get(currentDestination).add(currentIndividual);
+            }
+
+            for (int destination = 0; destination < this.totalNumberOfIslands; destination++)
+                this.migrantsMailbox.send(this.generationsBlockNumber, destination,
+                        migrantsByDestination.get(destination));
+        } else if (this.isMigrationActive) {
+            for (Pair<IndividualWrapper<Individual, FitnessValue>, Integer> assignment : migrationAssignments) {
+                IndividualWrapper<Individual, FitnessValue> currentIndividual = assignment.getFirstElement();
+                int currentDestination = assignment.getSecondElement();
+
+                // Removes the individual from the list.
+                outputPopulation.removeSameOrEqual(currentIndividual);
 
                 outputKey.datum(currentIndividual);
                 outputValue.set(currentDestination);
@@ -285,6 +358,16 @@ public class IslandMapper
             context.write(outputKey, outputValue);
         }
 
+        // Finalises the reports.
+        this.finaliseReports();
+    }
+
+    /**
+     * Writes the partial times and finalises the report files.
+     *
+     * @throws IOException
+     */
+    protected void finaliseReports() throws IOException {
         // Writes some partials.
         if (this.isTimeReporterActive) {
             // Writes the mapper computation finish time.
@@ -124,19 +124,9 @@ public class IslandReducer
     @Override
     protected void reduce(AvroKey<IndividualWrapper<Individual, FitnessValue>> key, Iterable<IntWritable> values,
                           Context context) throws IOException, InterruptedException {
-        // Adds the current individual to the population.
-        IndividualWrapper<Individual, FitnessValue> individualWrapperClone = null;
-        try {
-            individualWrapperClone = (IndividualWrapper<Individual, FitnessValue>) key.datum().clone();
-        } catch (CloneNotSupportedException exception) {
-            exception.printStackTrace();
-            System.exit(-1);
-        } catch (ClassCastException exception) {
-            exception.printStackTrace();
-            System.exit(-1);
-        }
-
-        this.inputPopulation.add(individualWrapperClone);
+        // Adds the current individual to the population, adopting the datum that the shuffle deserialiser creates
+        // for every key.
+        this.inputPopulation.add(key.datum());
     }
 
     @Override
@@ -0,0 +1,217 @@
+package it.unisa.elephant56.core.generator;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.Driver;
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.util.common.IdentityIndexedList;
+import it.unisa.elephant56.util.common.Pair;
+import org.apache.avro.Schema;
+import org.apache.avro.mapred.AvroKey;
+import org.apache.avro.mapreduce.AvroJob;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IntWritable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes all the generations blocks of an island inside a single map task. The island stays alive between the
+ * blocks and exchanges only the migrants with the other islands, through a {@link MigrantsMailbox}. The population is
+ * written to the generations blocks folder only at the checkpoints and at the end; a retried attempt resumes from the
+ * latest checkpoint of its island, if any.
+ * <p>
+ * All the islands of the job must run at the same time, otherwise they wait forever for the migrants.
+ */
+public class IslandWorkerMapper extends IslandMapper {
+
+    // Worker objects.
+    private long numberOfGenerationsBlocks;
+    private long migrationPeriod;
+    private long checkpointPeriod;
+
+    private Path generationsBlocksFolderPath;
+    private String generationsBlockNameFormat;
+
+    private Schema individualWrapperSchema;
+
+    @Override
+    protected void setup(Context context) throws IOException {
+        super.setup(context);
+
+        // Retrieves the generations blocks properties.
+        this.numberOfGenerationsBlocks =
+                this.configuration.getLong(Constants.CONFIGURATION_NUMBER_OF_GENERATIONS_BLOCKS, 1L);
+        this.migrationPeriod = this.configuration.getLong(Constants.CONFIGURATION_MIGRATION_PERIOD, 0L);
+        this.checkpointPeriod = this.configuration.getLong(Constants.CONFIGURATION_CHECKPOINT_PERIOD, 0L);
+
+        // Retrieves the checkpoints folder properties.
+        this.generationsBlocksFolderPath =
+                new Path(this.configuration.get(Constants.CONFIGURATION_GENERATIONS_BLOCKS_FOLDER_PATH));
+        this.generationsBlockNameFormat = this.configuration.get(Constants.CONFIGURATION_GENERATIONS_BLOCK_NAME_FORMAT);
+
+        // Creates the mailbox.
+        this.individualWrapperSchema = AvroJob.getInputKeySchema(this.configuration);
+        Path migrantsMailboxFolderPath =
+                new Path(this.configuration.get(Constants.CONFIGURATION_MIGRANTS_MAILBOX_FOLDER_PATH));
+        this.migrantsMailbox = new MigrantsMailbox(migrantsMailboxFolderPath, this.fileSystem, this.configuration,
+                this.individualWrapperSchema, this.islandNumber, this.totalNumberOfIslands);
+    }
+
+    /**
+     * Executes all the generations blocks.
+     */
+    @Override
+    protected void cleanup(Context context) throws IOException, InterruptedException {
+        List<IndividualWrapper<Individual, FitnessValue>> population = this.inputPopulation;
+
+        long startGenerationNumber = this.configuration.getLong(Constants.CONFIGURATION_START_GENERATION_NUMBER, 0L);
+        long lastGenerationNumber = this.configuration.getLong(Constants.CONFIGURATION_FINISH_GENERATION_NUMBER, 0L);
+        long generationsBlockSize = (this.migrationPeriod < 1) ?
+                (lastGenerationNumber - startGenerationNumber + 1L) : this.migrationPeriod;
+
+        // Resumes from the latest checkpoint, if the attempt is a retry.
+        long firstGenerationsBlockNumber = 0L;
+        if (context.getTaskAttemptID().getId() > 0) {
+            long checkpointGenerationsBlockNumber = this.findLatestCheckpoint();
+            if (checkpointGenerationsBlockNumber >= 0L) {
+                population = Driver.readIndividualsFromFile(
+                        this.getCheckpointFilePath(checkpointGenerationsBlockNumber), this.configuration);
+                firstGenerationsBlockNumber = checkpointGenerationsBlockNumber + 1L;
+            }
+        }
+
+        long currentStartGenerationNumber =
+                startGenerationNumber + (firstGenerationsBlockNumber * generationsBlockSize);
+
+        for (long currentGenerationsBlockNumber = firstGenerationsBlockNumber;
+             currentGenerationsBlockNumber < this.numberOfGenerationsBlocks; currentGenerationsBlockNumber++) {
+            boolean isLastGenerationsBlock = currentGenerationsBlockNumber == (this.numberOfGenerationsBlocks - 1L);
+            boolean isCurrentMigrationActive = this.isMigrationActive && !isLastGenerationsBlock;
+
+            long currentFinishGenerationNumber =
+                    Math.min(currentStartGenerationNumber + generationsBlockSize - 1L, lastGenerationNumber);
+
+            // Configures the generations block.
+            this.generationsBlockExecutor.setGenerationsBlockNumber(currentGenerationsBlockNumber);
+            this.generationsBlockExecutor.setStartGenerationNumber(currentStartGenerationNumber);
+            this.generationsBlockExecutor.setFinishGenerationNumber(currentFinishGenerationNumber);
+            this.generationsBlockExecutor.activateInitialisation(this.isInitialisationActive &&
+                    (currentGenerationsBlockNumber == 0L));
+            this.generationsBlockExecutor.activateMigration(isCurrentMigrationActive);
+            this.generationsBlockExecutor.setInputPopulation(population);
+
+            // Executes the generations, failing the attempt if they do not complete.
+            try {
+                this.generationsBlockExecutor.run();
+            } catch (IOException exception) {
+                throw exception;
+            } catch (InterruptedException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new IOException("The generations block " + currentGenerationsBlockNumber + " failed.",
+                        exception);
+            }
+
+            // Retrieves the output, indexed to remove the migrants.
+            IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>> outputPopulation =
+                    new IdentityIndexedList<IndividualWrapper<Individual, FitnessValue>>(
+                            this.generationsBlockExecutor.getOutputPopulation());
+            population = outputPopulation;
+
+            // Exchanges the migrants.
+            if (isCurrentMigrationActive) {
+                List<List<IndividualWrapper<Individual, FitnessValue>>> migrantsByDestination =
+                        new ArrayList<List<IndividualWrapper<Individual, FitnessValue>>>(this.totalNumberOfIslands);
+                for (int destination = 0; destination < this.totalNumberOfIslands; destination++)
+                    migrantsByDestination.add(new ArrayList<IndividualWrapper<Individual, FitnessValue>>());
+
+                for (Pair<IndividualWrapper<Individual, FitnessValue>, Integer> assignment :
+                        this.generationsBlockExecutor.getMigrationAssignments()) {
+                    IndividualWrapper<Individual, FitnessValue> currentIndividual = assignment.getFirstElement();
+
+                    // Removes the individual from the list.
+                    outputPopulation.removeSameOrEqual(currentIndividual);
+
+                    migrantsByDestination.get(assignment.getSecondElement()).add(currentIndividual);
+                }
+
+                for (int destination = 0; destination < this.totalNumberOfIslands; destination++)
+                    this.migrantsMailbox.send(currentGenerationsBlockNumber, destination,
+                            migrantsByDestination.get(destination));
+
+                population.addAll(this.migrantsMailbox.receive(currentGenerationsBlockNumber, context));
+            }
+
+            // Writes the checkpoint.
+            if (!isLastGenerationsBlock && this.isCheckpoint(currentGenerationsBlockNumber))
+                this.writeCheckpoint(currentGenerationsBlockNumber, population);
+
+            currentStartGenerationNumber = currentFinishGenerationNumber + 1L;
+        }
+
+        // Writes the final population.
+        AvroKey<IndividualWrapper<Individual, FitnessValue>> outputKey =
+                new AvroKey<IndividualWrapper<Individual, FitnessValue>>();
+        IntWritable outputValue = new IntWritable(this.islandNumber);
+
+        for (IndividualWrapper<Individual, FitnessValue> currentIndividual : population) {
+            outputKey.datum(currentIndividual);
+            context.write(outputKey, outputValue);
+        }
+
+        // Finalises the reports.
+        this.finaliseReports();
+    }
+
+    private boolean isCheckpoint(long generationsBlockNumber) {
+        return (this.checkpointPeriod > 0L) && (((generationsBlockNumber + 1L) % this.checkpointPeriod) == 0L);
+    }
+
+    private Path getCheckpointFilePath(long generationsBlockNumber) {
+        Path checkpointFolderPath = new Path(this.generationsBlocksFolderPath,
+                String.format(this.generationsBlockNameFormat, generationsBlockNumber));
+        return new Path(checkpointFolderPath, String.format(Constants.CHECKPOINT_FILE_NAME_FORMAT, this.islandNumber));
+    }
+
+    /**
+     * Writes the population of a generations block to a temporary file and publishes it, so that a retried attempt
+     * never reads a partial checkpoint.
+     *
+     * @param generationsBlockNumber the generations block number
+     * @param population             the population after the migration
+     * @throws IOException
+     */
+    private void writeCheckpoint(long generationsBlockNumber,
+                                 List<IndividualWrapper<Individual, FitnessValue>> population) throws IOException {
+        Path checkpointFilePath = this.getCheckpointFilePath(generationsBlockNumber);
+        Path tempCheckpointFilePath =
+                new Path(checkpointFilePath.toString() + "." + MigrantsMailbox.TEMP_FILE_EXTENSION);
+
+        Driver.writeIndividualsToFile(tempCheckpointFilePath, this.configuration, population, 0, population.size(),
+                this.individualWrapperSchema);
+
+        // Replaces the checkpoint of a previous attempt, if any.
+        this.fileSystem.delete(checkpointFilePath, false);
+        if (!this.fileSystem.rename(tempCheckpointFilePath, checkpointFilePath))
+            throw new IOException("Cannot publish the checkpoint file " + checkpointFilePath + ".");
+    }
+
+    /**
+     * Finds the latest generations block with a checkpoint of the island.
+     *
+     * @return the generations block number, -1 if there is no checkpoint
+     * @throws IOException
+     */
+    private long findLatestCheckpoint() throws IOException {
+        for (long generationsBlockNumber = this.numberOfGenerationsBlocks - 2L; generationsBlockNumber >= 0L;
+             generationsBlockNumber--)
+            if (this.isCheckpoint(generationsBlockNumber) &&
+                    this.fileSystem.exists(this.getCheckpointFilePath(generationsBlockNumber)))
+                return generationsBlockNumber;
+
+        return -1L;
+    }
+}
@@ -0,0 +1,160 @@
+package it.unisa.elephant56.core.generator;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.Driver;
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import org.apache.avro.Schema;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.util.Progressable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exchanges the migrants among islands through a shared folder, without passing through the shuffle. For every
+ * generations block, each island writes a file for each destination island, even if empty, so that a destination
+ * knows when all the migrants have arrived. The files are written with a temporary name and renamed, so that they
+ * are never read partially.
+ * <p>
+ * The files are not deleted when read, so that a retried task attempt can read them again; the driver deletes them
+ * once the islands have received them. A file already published by a previous attempt is kept, so that all the
+ * islands receive the same migrants.
+ */
+public class MigrantsMailbox {
+    public static final String TEMP_FILE_EXTENSION = "tmp";
+
+    private Path mailboxFolderPath;
+    private FileSystem fileSystem;
+    private Configuration configuration;
+    private Schema individualWrapperSchema;
+
+    private int islandNumber;
+    private int totalNumberOfIslands;
+
+    private long timeout;
+
+    /**
+     * Constructs a mailbox for an island.
+     *
+     * @param mailboxFolderPath       the folder shared by the islands
+     * @param fileSystem              the file system of the folder
+     * @param configuration           the configuration
+     * @param individualWrapperSchema the schema of the migrants
+     * @param islandNumber            the number of the island owning the mailbox
+     * @param totalNumberOfIslands    the total number of islands
+     */
+    public MigrantsMailbox(
+            Path mailboxFolderPath, FileSystem fileSystem, Configuration configuration,
+            Schema individualWrapperSchema, int islandNumber, int totalNumberOfIslands
+    ) {
+        this.mailboxFolderPath = mailboxFolderPath;
+        this.fileSystem = fileSystem;
+        this.configuration = configuration;
+        this.individualWrapperSchema = individualWrapperSchema;
+
+        this.islandNumber = islandNumber;
+        this.totalNumberOfIslands = totalNumberOfIslands;
+
+        this.timeout = configuration.getLong(Constants.CONFIGURATION_MIGRANTS_MAILBOX_TIMEOUT,
+                Constants.DEFAULT_MIGRANTS_MAILBOX_TIMEOUT);
+    }
+
+    /**
+     * Sends the migrants of a generations block to a destination island.
+     *
+     * @param generationsBlockNumber the generations block number
+     * @param destination            the destination island
+     * @param migrants               the migrants, possibly empty
+     * @throws IOException if the file cannot be published
+     */
+    public void send(long generationsBlockNumber, int destination,
+                     List<IndividualWrapper<Individual, FitnessValue>> migrants) throws IOException {
+        Path migrantsFilePath = this.getMigrantsFilePath(generationsBlockNumber, this.islandNumber, destination);
+        Path tempMigrantsFilePath = new Path(migrantsFilePath.toString() + "." + TEMP_FILE_EXTENSION);
+
+        // Writes the temporary file and publishes it.
+        Driver.writeIndividualsToFile(tempMigrantsFilePath, this.configuration, migrants, 0, migrants.size(),
+                this.individualWrapperSchema);
+        if (this.fileSystem.rename(tempMigrantsFilePath, migrantsFilePath))
+            return;
+
+        // Keeps the file published by a previous attempt, that the destination may have already read.
+        if (this.fileSystem.exists(migrantsFilePath)) {
+            this.fileSystem.delete(tempMigrantsFilePath, false);
+            return;
+        }
+
+        throw new IOException("Cannot publish the migrants file " + migrantsFilePath + ".");
+    }
+
+    /**
+     * Receives the migrants of a generations block sent by all the islands, waiting for them up to the timeout.
+     *
+     * @param generationsBlockNumber the generations block number
+     * @param progressable           the object to notify while waiting, it can be null
+     * @return the migrants
+     * @throws IOException if the migrants of an island do not arrive before the timeout
+     * @throws InterruptedException
+     */
+    public List<IndividualWrapper<Individual, FitnessValue>> receive(long generationsBlockNumber,
+                                                                     Progressable progressable)
+            throws IOException, InterruptedException {
+        List<IndividualWrapper<Individual, FitnessValue>> migrants =
+                new ArrayList<IndividualWrapper<Individual, FitnessValue>>();
+
+        long deadline = System.currentTimeMillis() + this.timeout;
+
+        for (int source = 0; source < this.totalNumberOfIslands; source++) {
+            Path migrantsFilePath = this.getMigrantsFilePath(generationsBlockNumber, source, this.islandNumber);
+
+            // Waits for the file of the current source island.
+            while (!this.fileSystem.exists(migrantsFilePath)) {
+                if (System.currentTimeMillis() > deadline)
+                    throw new IOException("The migrants of the generations block " + generationsBlockNumber +
+                            " from the island " + source + " did not arrive within " + this.timeout +
+                            " milliseconds.");
+
+                if (progressable != null)
+                    progressable.progress();
+                Thread.sleep(Constants.LOCK_TIME_TO_WAIT);
+            }
+
+            // Reads the file, left in the mailbox for a retried attempt.
+            migrants.addAll(Driver.readIndividualsFromFile(migrantsFilePath, this.configuration));
+        }
+
+        return migrants;
+    }
+
+    /**
+     * Deletes the migrants files of a generations block, once all the islands have received them.
+     *
+     * @param mailboxFolderPath      the folder shared by the islands
+     * @param fileSystem             the file system of the folder
+     * @param generationsBlockNumber the generations block number
+     * @param totalNumberOfIslands   the total number of islands
+     * @throws IOException
+     */
+    public static void deleteMigrantsFiles(Path mailboxFolderPath, FileSystem fileSystem,
+                                           long generationsBlockNumber, int totalNumberOfIslands) throws IOException {
+        for (int source = 0; source < totalNumberOfIslands; source++)
+            for (int destination = 0; destination < totalNumberOfIslands; destination++)
+                fileSystem.delete(getMigrantsFilePath(mailboxFolderPath, generationsBlockNumber, source, destination),
+                        false);
+    }
+
+    private Path getMigrantsFilePath(long generationsBlockNumber, int source, int destination) {
+        return getMigrantsFilePath(this.mailboxFolderPath, generationsBlockNumber, source, destination);
+    }
+
+    private static Path getMigrantsFilePath(Path mailboxFolderPath, long generationsBlockNumber, int source,
+                                            int destination) {
+        return new Path(mailboxFolderPath,
+                String.format(Constants.MIGRANTS_FILE_NAME_FORMAT, generationsBlockNumber, source, destination));
+    }
+}
@@ -94,5 +94,8 @@ public class RandomGenerationsBlockExecutor extends GenerationsBlockExecutor {
 
         // Sets the last executed generation number.
         this.lastExecutedGenerationNumber = this.currentGenerationNumber;
+
+        // Releases the fitness evaluation threads.
+        this.shutdownFitnessEvaluationThreadPool();
     }
 }
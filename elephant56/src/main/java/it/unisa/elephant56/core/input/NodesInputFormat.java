@@ -6,6 +6,7 @@ import java.util.List;
 
 import it.unisa.elephant56.core.Constants;
 import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
 import it.unisa.elephant56.user.common.FitnessValue;
 import it.unisa.elephant56.user.common.Individual;
 import it.unisa.elephant56.util.hadoop.FilesPathFilter;
@@ -24,8 +25,6 @@ import org.apache.avro.io.DatumReader;
 import org.apache.avro.mapred.AvroKey;
 import org.apache.avro.mapred.FsInput;
 import org.apache.avro.mapreduce.AvroJob;
-import org.apache.avro.reflect.ReflectData;
-import org.apache.avro.reflect.ReflectDatumReader;
 
 /**
  * Defines an input format for Avro object that associates a file to a specific node,
@@ -250,7 +249,8 @@ public class NodesInputFormat<Type> extends InputFormat<AvroKey<Type>, IntWritab
     }
 
     /**
-     * Reads the number of individuals into a file from meta-data.
+     * Reads the number of individuals into a file from meta-data, if present, otherwise counts them from the headers
+     * of the file blocks, without deserialising the individuals.
      *
      * @param filePath      the file path
      * @param configuration the configuration
@@ -259,13 +259,21 @@ public class NodesInputFormat<Type> extends InputFormat<AvroKey<Type>, IntWritab
      */
     public static int readNumberOfIndividuals(Path filePath, Configuration configuration) throws IOException {
         SeekableInput seekableFileInput = new FsInput(filePath, configuration);
-        ReflectData reflectData = new ReflectData(configuration.getClassLoader());
         DatumReader<IndividualWrapper<Individual, FitnessValue>> datumReader =
-                new ReflectDatumReader<IndividualWrapper<Individual, FitnessValue>>(reflectData);
+                IndividualWrapperSerialization.createDatumReader(configuration);
         DataFileReader<IndividualWrapper<Individual, FitnessValue>> avroFileReader =
                 new DataFileReader<IndividualWrapper<Individual, FitnessValue>>(seekableFileInput, datumReader);
 
-        int result = (int) avroFileReader.getMetaLong(Constants.AVRO_NUMBER_OF_RECORDS);
+        int result = 0;
+        if (avroFileReader.getMeta(Constants.AVRO_NUMBER_OF_RECORDS) != null) {
+            result = (int) avroFileReader.getMetaLong(Constants.AVRO_NUMBER_OF_RECORDS);
+        } else {
+            // Sums the number of records of each block, skipping the block content.
+            while (avroFileReader.hasNext()) {
+                result += avroFileReader.getBlockCount();
+                avroFileReader.nextBlock();
+            }
+        }
 
         avroFileReader.close();
 
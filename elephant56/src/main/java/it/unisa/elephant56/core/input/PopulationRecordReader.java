@@ -3,6 +3,7 @@ package it.unisa.elephant56.core.input;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.IntWritable;
@@ -15,12 +16,17 @@ import org.apache.avro.file.SeekableInput;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.mapred.AvroKey;
 import org.apache.avro.mapred.FsInput;
-import org.apache.avro.reflect.ReflectData;
-import org.apache.avro.reflect.ReflectDatumReader;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
+import it.unisa.elephant56.core.common.ParallelPopulationReader;
 
 /**
  * Defines the reader of Avro input splits, that transforms these splits
  * in Avro objects.
+ * <p>
+ * Every key holds a new datum, never reused for the next records, so that the mappers can keep it without cloning it.
+ * If the population I/O uses more than one thread, the Avro data blocks are decoded ahead on a pool of threads.
  *
  * @param <Type> the type of Avro object to serialise
  */
@@ -32,6 +38,9 @@ public class PopulationRecordReader<Type> extends RecordReader<AvroKey<Type>, In
 
     private DataFileReader<Type> avroFileReader;
 
+    private ExecutorService decodingThreadPool;
+    private ParallelPopulationReader parallelPopulationReader;
+
     private List<Integer> partitionerNodesDestinations;
 
     private int currentRecordNumber;
@@ -50,6 +59,9 @@ public class PopulationRecordReader<Type> extends RecordReader<AvroKey<Type>, In
 
         this.avroFileReader = null;
 
+        this.decodingThreadPool = null;
+        this.parallelPopulationReader = null;
+
         this.currentRecordNumber = 0;
         this.currentDatum = null;
         this.currentKey = null;
@@ -59,6 +71,7 @@ public class PopulationRecordReader<Type> extends RecordReader<AvroKey<Type>, In
     /**
      * Initialises the reader.
      */
+    @SuppressWarnings("unchecked")
     @Override
     public void initialize(InputSplit split, TaskAttemptContext context)
             throws IOException, InterruptedException {
@@ -77,11 +90,19 @@ public class PopulationRecordReader<Type> extends RecordReader<AvroKey<Type>, In
         this.currentKey = new AvroKey<Type>(null);
         this.currentValue = new IntWritable();
 
-        // Initialises the file reader.
-        if (!populationSplit.isInitialisationActive()) {
+        int numberOfThreads =
+                this.configuration.getInt(Constants.CONFIGURATION_POPULATION_IO_NUMBER_OF_THREADS, 1);
+
+        // Initialises the file reader, decoding the blocks on a pool of threads if requested.
+        if (!populationSplit.isInitialisationActive() && (numberOfThreads > 1)) {
+            this.decodingThreadPool =
+                    ParallelPopulationReader.createThreadPool(numberOfThreads, "population-decoding");
+            this.parallelPopulationReader = new ParallelPopulationReader(this.currentSplit.getFilePath(),
+                    this.configuration, this.decodingThreadPool, numberOfThreads);
+        } else if (!populationSplit.isInitialisationActive()) {
             SeekableInput seekableFileInput = new FsInput(this.currentSplit.getFilePath(), this.configuration);
-            ReflectData reflectData = new ReflectData(this.configuration.getClassLoader());
-            DatumReader<Type> datumReader = new ReflectDatumReader<Type>(reflectData);
+            DatumReader<Type> datumReader =
+                    (DatumReader<Type>) IndividualWrapperSerialization.createDatumReader(this.configuration);
             this.avroFileReader = new DataFileReader<Type>(seekableFileInput, datumReader);
         }
 
@@ -92,22 +113,33 @@ public class PopulationRecordReader<Type> extends RecordReader<AvroKey<Type>, In
     /**
      * Checks if a new Avro object is available and shifts to it.
      */
+    @SuppressWarnings("unchecked")
     @Override
     public boolean nextKeyValue() throws IOException, InterruptedException {
         // Checks if there are not individuals.
         if (this.currentSplit.isInitialisationActive() && (this.partitionerNodesDestinations == null))
             return false;
 
-        // If not empty split.
-        if (!this.currentSplit.isInitialisationActive()) {
+        // If the blocks are decoded on a pool of threads.
+        if (this.parallelPopulationReader != null) {
+            // If all the objects have been read, return false.
+            if (!this.parallelPopulationReader.hasNext())
+                return false;
+
+            // Takes the next decoded Avro object, owned by the mapper.
+            this.currentDatum = (Type) this.parallelPopulationReader.next();
+
+            // Stores the Avro object in a AvroKey container.
+            this.currentKey.datum(this.currentDatum);
+        } else if (!this.currentSplit.isInitialisationActive()) {
             assert this.avroFileReader != null;
 
             // If all the objects have been read, return false.
             if (!this.avroFileReader.hasNext())
                 return false;
 
-            // Reads the next Avro object.
-            this.currentDatum = avroFileReader.next();
+            // Reads the next Avro object into a new datum, owned by the mapper.
+            this.currentDatum = this.avroFileReader.next(null);
 
             // Stores the Avro object in a AvroKey container and returns true.
             this.currentKey.datum(this.currentDatum);
@@ -152,7 +184,7 @@ public class PopulationRecordReader<Type> extends RecordReader<AvroKey<Type>, In
         if (this.currentSplit.isInitialisationActive())
             return 1.0f;
 
-        assert this.avroFileReader != null;
+        assert (this.avroFileReader != null) || (this.parallelPopulationReader != null);
 
         if (this.currentSplit.getLength() == 0)
             return 0.0f;
@@ -165,6 +197,16 @@ public class PopulationRecordReader<Type> extends RecordReader<AvroKey<Type>, In
      */
     @Override
     public void close() throws IOException {
+        if (this.parallelPopulationReader != null) {
+            try {
+                this.parallelPopulationReader.close();
+            } finally {
+                this.parallelPopulationReader = null;
+                this.decodingThreadPool.shutdownNow();
+                this.decodingThreadPool = null;
+            }
+        }
+
         if (this.avroFileReader != null) {
             try {
                 this.avroFileReader.close();
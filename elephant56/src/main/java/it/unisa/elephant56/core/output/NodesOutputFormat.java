@@ -3,16 +3,19 @@ package it.unisa.elephant56.core.output;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import it.unisa.elephant56.core.common.IndividualWrapperSerialization;
 import org.apache.avro.Schema;
 import org.apache.avro.file.CodecFactory;
+import org.apache.avro.io.DatumWriter;
 import org.apache.avro.mapred.AvroKey;
 import org.apache.avro.mapreduce.AvroJob;
 import org.apache.avro.mapreduce.AvroOutputFormatBase;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.mapreduce.RecordWriter;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 
 /**
- * FileOutputFormat for writing Avro container files with a metadata of number of records.
+ * FileOutputFormat for writing Avro container files.
  * <p>
  * Since Avro container files only contain records (not key/value pairs), this output format ignores the value.
  *
@@ -52,12 +55,17 @@ public class NodesOutputFormat<K, V> extends
          * Creates a new record writer instance.
          *
          * @param writerSchema     The writer schema for the records to write.
+         * @param configuration    The configuration, defining how to serialise the records.
          * @param compressionCodec The compression type for the writer file.
          * @param outputStream     The target output stream for the records.
          */
-        protected RecordWriter<AvroKey<K>, V> create(Schema writerSchema, CodecFactory compressionCodec, OutputStream outputStream)
+        @SuppressWarnings("unchecked")
+        protected RecordWriter<AvroKey<K>, V> create(Schema writerSchema, Configuration configuration,
+                                                     CodecFactory compressionCodec, OutputStream outputStream)
                 throws IOException {
-            return new PopulationRecordWriter<K, V>(writerSchema, compressionCodec, outputStream);
+            DatumWriter<K> datumWriter =
+                    (DatumWriter<K>) IndividualWrapperSerialization.createDatumWriter(configuration, writerSchema);
+            return new PopulationRecordWriter<K, V>(writerSchema, datumWriter, compressionCodec, outputStream);
         }
 
     }
@@ -72,7 +80,7 @@ public class NodesOutputFormat<K, V> extends
         if (null == writerSchema)
             throw new IOException(NodesOutputFormat.class.getName() + " requires an output schema. Use AvroJob.setOutputKeySchema().");
 
-        return this.recordWriterFactory.create(writerSchema, getCompressionCodec(context),
+        return this.recordWriterFactory.create(writerSchema, context.getConfiguration(), getCompressionCodec(context),
                 getAvroFileOutputStream(context));
     }
 
@@ -24,6 +24,15 @@ public class GeneticOperatorsTimeReporter extends TimeReporter {
         MAX_FITNESS_EVALUATION,
         AVERAGE_FITNESS_EVALUATION,
         TOTAL_FITNESS_EVALUATION,
+        MIN_FITNESS_EVALUATION_BATCH,
+        MAX_FITNESS_EVALUATION_BATCH,
+        AVERAGE_FITNESS_EVALUATION_BATCH,
+        TOTAL_FITNESS_EVALUATION_BATCH,
+        FITNESS_EVALUATION_BATCHES,
+        FITNESS_EVALUATION_CUT_OFFS,
+        FITNESS_EVALUATION_ABORTS,
+        FITNESS_CACHE_HITS,
+        FITNESS_CACHE_MISSES,
         AVERAGE_INDIVIDUAL_TERMINATION_CONDITION_CHECK,
         TOTAL_INDIVIDUAL_TERMINATION_CONDITION_CHECK,
         TOTAL_ISLAND_TERMINATION_CONDITION_CHECK,
@@ -38,8 +47,11 @@ public class GeneticOperatorsTimeReporter extends TimeReporter {
         MAX_FITNESS_EVALUATION_DURING_SURVIVAL_SELECTION,
         AVERAGE_FITNESS_EVALUATION_DURING_SURVIVAL_SELECTION,
         TOTAL_FITNESS_EVALUATION_DURING_SURVIVAL_SELECTION,
+        FITNESS_CACHE_HITS_DURING_SURVIVAL_SELECTION,
+        FITNESS_CACHE_MISSES_DURING_SURVIVAL_SELECTION,
         TOTAL_SURVIVAL_SELECTION,
-        TOTAL_MIGRATION
+        TOTAL_MIGRATION,
+        FITNESS_EVALUATIONS_PER_SECOND
     }
 
     ;
@@ -172,7 +172,7 @@ public class MapReduceTimeReporter extends TimeReporter {
                     new PartialTimeKey(islandNumber, generationsBlockNumber, phaseType, PartialTimeKey.Type.FINISH);
 
             if (this.partialTimesMap.containsKey(startPartialTime) &&
-                    this.partialTimesMap.containsKey(startPartialTime)) {
+                    this.partialTimesMap.containsKey(finishPartialTime)) {
                 long startTime = this.partialTimesMap.get(startPartialTime);
                 long finishTime = this.partialTimesMap.get(finishPartialTime);
                 writeTime(islandNumber, generationsBlockNumber, phaseType, startTime, finishTime);
@@ -0,0 +1,46 @@
+package it.unisa.elephant56.user.common;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+/**
+ * <p>
+ * Defines a hand-written serialisation of individuals or fitness values, used in place of the Avro reflection to read
+ * and write the population files and the shuffle.
+ * </p>
+ * <p>
+ * The objects are written to Avro encoders, so they must follow the schema returned by {@link #getSchema()}.
+ * </p>
+ *
+ * @param <Type> the type of the objects to serialise
+ */
+public abstract class Serialiser<Type> {
+
+    public Serialiser() {
+    }
+
+    /**
+     * <p>
+     * Returns the Avro schema of the serialised objects.
+     * </p>
+     */
+    public abstract Schema getSchema();
+
+    /**
+     * <p>
+     * Writes an object, never null, to the encoder.
+     * </p>
+     */
+    public abstract void serialise(Type object, Encoder encoder) throws IOException;
+
+    /**
+     * <p>
+     * Reads a new object from the decoder.
+     * </p>
+     */
+    public abstract Type deserialise(Decoder decoder) throws IOException;
+
+}
@@ -39,6 +39,9 @@ public class Elitism<IndividualType extends Individual, FitnessValueType extends
      * Selects the individuals among those of the current generation.
      * <p>
      * If not overridden, it returns an empty elite.
+     * <p>
+     * The elite should contain the same references of the population, since they are subtracted from it by identity;
+     * the copies are subtracted by equality, with a linear scan of the population for each of them.
      *
      * @param population the list of individuals
      * @return the list of chosen individuals
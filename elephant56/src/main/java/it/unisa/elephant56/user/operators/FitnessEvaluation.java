@@ -1,7 +1,15 @@
 package it.unisa.elephant56.user.operators;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
 import org.apache.hadoop.conf.Configuration;
 
+import it.unisa.elephant56.core.common.FitnessRace;
 import it.unisa.elephant56.core.common.IndividualWrapper;
 import it.unisa.elephant56.core.common.Properties;
 import it.unisa.elephant56.user.common.FitnessValue;
@@ -43,4 +51,143 @@ public class FitnessEvaluation<IndividualType extends Individual, FitnessValueTy
     public FitnessValueType evaluate(IndividualWrapper<IndividualType, FitnessValueType> individualWrapper) {
         return null;
     }
+
+    /**
+     * Evaluates the individual in input incrementally, such as over many test cases, reporting to the race the best
+     * fitness value it can still reach and stopping as soon as the race is lost. The value returned for a lost race
+     * must not be better than the last reported bound.
+     * <p>
+     * If not overridden, it calls "evaluate" ignoring the race.
+     *
+     * @param individualWrapper the individual to evaluate
+     * @param fitnessRace       the race against the threshold
+     * @return the computed value
+     */
+    public FitnessValueType evaluate(
+            IndividualWrapper<IndividualType, FitnessValueType> individualWrapper, FitnessRace fitnessRace
+    ) {
+        return this.evaluate(individualWrapper);
+    }
+
+    /**
+     * Checks whether the class overrides the incremental "evaluate", so that the individuals race against the
+     * threshold.
+     *
+     * @return "true" if overridden, "false" otherwise
+     */
+    public boolean isIncrementalEvaluationOverridden() {
+        try {
+            return this.getClass().getMethod("evaluate", IndividualWrapper.class, FitnessRace.class)
+                    .getDeclaringClass() != FitnessEvaluation.class;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the penalty fitness value of an individual whose evaluation exceeded the time budget and was cut off.
+     * It must be overridden to use the time budget.
+     * <p>
+     * If not overridden, it returns null.
+     *
+     * @param individualWrapper the individual cut off
+     * @return the penalty value
+     */
+    public FitnessValueType getTimeBudgetExceededFitnessValue(
+            IndividualWrapper<IndividualType, FitnessValueType> individualWrapper
+    ) {
+        return null;
+    }
+
+    /**
+     * Evaluates a batch of individuals at once, for the fitness functions that amortise a setup or call an external
+     * evaluator over many individuals.
+     * <p>
+     * If not overridden, it calls "evaluate" for every individual.
+     *
+     * @param individualWrappers the individuals to evaluate
+     * @return the computed values, in the same order of the individuals
+     */
+    public List<FitnessValueType> evaluateBatch(
+            List<IndividualWrapper<IndividualType, FitnessValueType>> individualWrappers
+    ) {
+        List<FitnessValueType> fitnessValues = new ArrayList<FitnessValueType>(individualWrappers.size());
+
+        for (IndividualWrapper<IndividualType, FitnessValueType> individualWrapper : individualWrappers)
+            fitnessValues.add(this.evaluate(individualWrapper));
+
+        return fitnessValues;
+    }
+
+    /**
+     * Checks whether the class overrides "evaluateBatch", so that the individuals are evaluated in batches.
+     *
+     * @return "true" if overridden, "false" otherwise
+     */
+    public boolean isBatchEvaluationOverridden() {
+        try {
+            return this.getClass().getMethod("evaluateBatch", List.class).getDeclaringClass() !=
+                    FitnessEvaluation.class;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts the evaluation of the individual in input without waiting for it, for the fitness functions that spend
+     * their time waiting for a service. The executor keeps a bounded number of these evaluations in flight, so the
+     * operator must be thread-safe.
+     * <p>
+     * If not overridden, it calls "evaluate" and returns its value as already computed.
+     *
+     * @param individualWrapper the individual to evaluate
+     * @return the future computed value
+     */
+    public Future<FitnessValueType> evaluateAsync(
+            final IndividualWrapper<IndividualType, FitnessValueType> individualWrapper
+    ) {
+        FutureTask<FitnessValueType> fitnessValue = new FutureTask<FitnessValueType>(new Callable<FitnessValueType>() {
+            @Override
+            public FitnessValueType call() {
+                return evaluate(individualWrapper);
+            }
+        });
+        fitnessValue.run();
+        return fitnessValue;
+    }
+
+    /**
+     * Checks whether the class overrides "evaluateAsync", so that the individuals are evaluated asynchronously.
+     *
+     * @return "true" if overridden, "false" otherwise
+     */
+    public boolean isAsynchronousEvaluationOverridden() {
+        try {
+            return this.getClass().getMethod("evaluateAsync", IndividualWrapper.class).getDeclaringClass() !=
+                    FitnessEvaluation.class;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the times measured by the operator since the previous call, written by the time reporter after every
+     * evaluation with their names as phases.
+     * <p>
+     * If not overridden, it returns null.
+     *
+     * @return the times by name
+     */
+    public Map<String, Long> getReportedTimes() {
+        return null;
+    }
+
+    /**
+     * Releases the resources kept between the evaluations, such as external processes, at the end of the generations
+     * block. The operator can be used again afterwards.
+     * <p>
+     * If not overridden, it does nothing.
+     */
+    public void close() {
+    }
 }
\ No newline at end of file
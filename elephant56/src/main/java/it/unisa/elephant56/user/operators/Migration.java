@@ -44,6 +44,9 @@ public class Migration<IndividualType extends Individual, FitnessValueType exten
      * is not to migrate the missing individuals.
      * <p>
      * If not overridden, it returns an empty map.
+     * <p>
+     * The assignments should contain the same references of the population, since the migrants are removed from it by
+     * identity; the copies are removed by equality, with a linear scan of the population for each of them.
      *
      * @param population the list of individuals
      * @return the map of assignments
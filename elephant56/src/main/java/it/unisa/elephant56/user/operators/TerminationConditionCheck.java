@@ -47,6 +47,21 @@ public class TerminationConditionCheck<IndividualType extends Individual, Fitnes
         return false;
     }
 
+    /**
+     * Checks if "checkIndividualTerminationCondition" is overridden, so that the executor knows that every fitness
+     * value is needed after the fitness phase.
+     *
+     * @return "true" if it is overridden, "false" otherwise
+     */
+    public boolean isIndividualTerminationConditionCheckOverridden() {
+        try {
+            return this.getClass().getMethod("checkIndividualTerminationCondition", IndividualWrapper.class)
+                    .getDeclaringClass() != TerminationConditionCheck.class;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
     /**
      * Checks if all island individuals satisfy the termination condition for the problem.
      * <p>
@@ -65,6 +80,21 @@ public class TerminationConditionCheck<IndividualType extends Individual, Fitnes
         return false;
     }
 
+    /**
+     * Checks if "checkIslandTerminationCondition" is overridden, so that the executor knows that every fitness value
+     * is needed after the fitness phase.
+     *
+     * @return "true" if it is overridden, "false" otherwise
+     */
+    public boolean isIslandTerminationConditionCheckOverridden() {
+        try {
+            return this.getClass().getMethod("checkIslandTerminationCondition", List.class, Properties.class)
+                    .getDeclaringClass() != TerminationConditionCheck.class;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
     /**
      * It check the termination condition with the proprerties by all the islands for the same generation. A previous
      * property change could be stored in one of the island properties.
@@ -77,4 +77,12 @@ public class BooleanSequentialIndividual
     public int hashCode() {
         return this.arrayList.hashCode();
     }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof BooleanSequentialIndividual))
+            return false;
+
+        return this.arrayList.equals(((BooleanSequentialIndividual) object).arrayList);
+    }
 }
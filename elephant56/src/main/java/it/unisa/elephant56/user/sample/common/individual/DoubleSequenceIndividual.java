@@ -77,4 +77,12 @@ public class DoubleSequenceIndividual
     public int hashCode() {
         return this.arrayList.hashCode();
     }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof DoubleSequenceIndividual))
+            return false;
+
+        return this.arrayList.equals(((DoubleSequenceIndividual) object).arrayList);
+    }
 }
@@ -77,4 +77,12 @@ public class IntegerSequenceIndividual
     public int hashCode() {
         return this.arrayList.hashCode();
     }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof IntegerSequenceIndividual))
+            return false;
+
+        return this.arrayList.equals(((IntegerSequenceIndividual) object).arrayList);
+    }
 }
@@ -0,0 +1,309 @@
+package it.unisa.elephant56.user.sample.common.individual;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Defines a sequence individual of {@link Boolean}, packed as bits in an array of words.
+ * <p>
+ * Differently from {@link BooleanSequentialIndividual}, the elements are not boxed: clone, split and join copy whole
+ * words and the Avro reflect schema stores the sequence as an array of longs.
+ */
+public class PackedBooleanSequenceIndividual
+        extends SequenceIndividual<Boolean, PackedBooleanSequenceIndividual, PackedBooleanSequenceIndividual> {
+
+    private static final int WORD_SIZE = 64;
+
+    private long[] words;
+    private int size;
+
+    /**
+     * Constructs an empty sequence.
+     */
+    public PackedBooleanSequenceIndividual() {
+        this(0);
+    }
+
+    /**
+     * Constructs a sequence specifying the size, incrementable adding more elements.
+     *
+     * @param size the initial capacity of the sequence
+     */
+    public PackedBooleanSequenceIndividual(int size) {
+        this.words = new long[getNumberOfWords(size)];
+        this.size = 0;
+    }
+
+    /**
+     * Constructs a sequence specifying copying the one in input.
+     *
+     * @param original the sequence to copy
+     */
+    private PackedBooleanSequenceIndividual(PackedBooleanSequenceIndividual original) {
+        this.words = Arrays.copyOf(original.words, getNumberOfWords(original.size));
+        this.size = original.size;
+    }
+
+    @Override
+    protected Class<PackedBooleanSequenceIndividual> getSequenceIndividualClass() {
+        return PackedBooleanSequenceIndividual.class;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Boolean get(int index) {
+        return this.getBoolean(index);
+    }
+
+    @Override
+    public void set(int index, Boolean element) {
+        if (index < this.size) {
+            this.setBoolean(index, element);
+        } else if (index == this.size) {
+            this.ensureCapacity(this.size + 1);
+            this.size++;
+            this.setBoolean(index, element);
+        }
+    }
+
+    /**
+     * Returns the element in the "index" position, without boxing.
+     *
+     * @param index the index of the element
+     * @return the element
+     */
+    public boolean getBoolean(int index) {
+        this.checkIndex(index);
+        return (this.words[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Sets the element in the "index" position, without boxing.
+     *
+     * @param index   the index of the element
+     * @param element the element to set
+     */
+    public void setBoolean(int index, boolean element) {
+        this.checkIndex(index);
+        if (element)
+            this.words[index >>> 6] |= (1L << index);
+        else
+            this.words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Negates the element in the "index" position.
+     *
+     * @param index the index of the element
+     */
+    public void flip(int index) {
+        this.checkIndex(index);
+        this.words[index >>> 6] ^= (1L << index);
+    }
+
+    /**
+     * Returns the number of "true" elements.
+     *
+     * @return the number of "true" elements
+     */
+    public int cardinality() {
+        int result = 0;
+        for (int i = 0; i < getNumberOfWords(this.size); i++)
+            result += Long.bitCount(this.words[i]);
+        return result;
+    }
+
+    /**
+     * Returns a copy of the words containing the elements, the first element in the lowest bit of the first word.
+     *
+     * @return the words
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(this.words, getNumberOfWords(this.size));
+    }
+
+    /**
+     * Constructs a sequence from the words containing the elements, as returned by {@link #toLongArray()}.
+     *
+     * @param words the words, not copied
+     * @param size  the number of elements
+     * @return the sequence
+     */
+    public static PackedBooleanSequenceIndividual valueOf(long[] words, int size) {
+        if (words.length < getNumberOfWords(size))
+            throw new IllegalArgumentException("Words: " + words.length + ", Size: " + size);
+
+        // Clears the bits after the last element.
+        int remainingBits = size % WORD_SIZE;
+        if (remainingBits > 0)
+            words[size / WORD_SIZE] &= (1L << remainingBits) - 1L;
+
+        PackedBooleanSequenceIndividual result = new PackedBooleanSequenceIndividual();
+        result.words = words;
+        result.size = size;
+
+        return result;
+    }
+
+    @Override
+    public PackedBooleanSequenceIndividual[] split(Integer... splitPoints) {
+        // Computes the two parts size.
+        int size1 = splitPoints[0];
+        int size2 = this.size - splitPoints[0];
+
+        // Copies the two parts.
+        PackedBooleanSequenceIndividual part1 = new PackedBooleanSequenceIndividual(size1);
+        copyBits(this.words, 0, part1.words, 0, size1);
+        part1.size = size1;
+
+        PackedBooleanSequenceIndividual part2 = new PackedBooleanSequenceIndividual(size2);
+        copyBits(this.words, size1, part2.words, 0, size2);
+        part2.size = size2;
+
+        return new PackedBooleanSequenceIndividual[]{part1, part2};
+    }
+
+    @Override
+    public PackedBooleanSequenceIndividual join(PackedBooleanSequenceIndividual other) {
+        PackedBooleanSequenceIndividual result = new PackedBooleanSequenceIndividual(this.size + other.size);
+
+        copyBits(this.words, 0, result.words, 0, this.size);
+        copyBits(other.words, 0, result.words, this.size, other.size);
+        result.size = this.size + other.size;
+
+        return result;
+    }
+
+    @Override
+    public Iterator<Boolean> iterator() {
+        return new Iterator<Boolean>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < PackedBooleanSequenceIndividual.this.size;
+            }
+
+            @Override
+            public Boolean next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                return PackedBooleanSequenceIndividual.this.getBoolean(this.index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return new PackedBooleanSequenceIndividual(this);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.size;
+        for (int i = 0; i < getNumberOfWords(this.size); i++)
+            result = 31 * result + (int) (this.words[i] ^ (this.words[i] >>> 32));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof PackedBooleanSequenceIndividual))
+            return false;
+
+        PackedBooleanSequenceIndividual other = (PackedBooleanSequenceIndividual) object;
+        if (this.size != other.size)
+            return false;
+
+        for (int i = 0; i < getNumberOfWords(this.size); i++)
+            if (this.words[i] != other.words[i])
+                return false;
+
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= this.size))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        int numberOfWords = getNumberOfWords(capacity);
+        if (numberOfWords > this.words.length)
+            this.words = Arrays.copyOf(this.words, Math.max(numberOfWords, this.words.length * 2));
+    }
+
+    private static int getNumberOfWords(int numberOfBits) {
+        return (numberOfBits + WORD_SIZE - 1) / WORD_SIZE;
+    }
+
+    /**
+     * Copies a range of bits, a word at a time.
+     *
+     * @param source              the source words
+     * @param sourcePosition      the first bit to copy
+     * @param destination         the destination words
+     * @param destinationPosition the first bit to write
+     * @param length              the number of bits
+     */
+    private static void copyBits(long[] source, int sourcePosition, long[] destination, int destinationPosition,
+                                 int length) {
+        // Copies the whole words if both the ranges are aligned.
+        if (((sourcePosition % WORD_SIZE) == 0) && ((destinationPosition % WORD_SIZE) == 0)) {
+            int numberOfWholeWords = length / WORD_SIZE;
+            System.arraycopy(source, sourcePosition / WORD_SIZE, destination, destinationPosition / WORD_SIZE,
+                    numberOfWholeWords);
+
+            int remainingBits = length % WORD_SIZE;
+            if (remainingBits > 0)
+                writeBits(destination, destinationPosition + (numberOfWholeWords * WORD_SIZE),
+                        source[(sourcePosition / WORD_SIZE) + numberOfWholeWords], remainingBits);
+            return;
+        }
+
+        for (int copiedBits = 0; copiedBits < length; copiedBits += WORD_SIZE)
+            writeBits(destination, destinationPosition + copiedBits, readBits(source, sourcePosition + copiedBits),
+                    Math.min(WORD_SIZE, length - copiedBits));
+    }
+
+    /**
+     * Reads the 64 bits starting from a position.
+     */
+    private static long readBits(long[] words, int position) {
+        int wordIndex = position / WORD_SIZE;
+        int offset = position % WORD_SIZE;
+
+        long bits = words[wordIndex] >>> offset;
+        if ((offset != 0) && ((wordIndex + 1) < words.length))
+            bits |= words[wordIndex + 1] << (WORD_SIZE - offset);
+
+        return bits;
+    }
+
+    /**
+     * Writes the lowest "count" bits starting from a position.
+     */
+    private static void writeBits(long[] words, int position, long bits, int count) {
+        long mask = (count == WORD_SIZE) ? -1L : ((1L << count) - 1L);
+        bits &= mask;
+
+        int wordIndex = position / WORD_SIZE;
+        int offset = position % WORD_SIZE;
+
+        words[wordIndex] = (words[wordIndex] & ~(mask << offset)) | (bits << offset);
+        if ((offset != 0) && ((offset + count) > WORD_SIZE)) {
+            int shift = WORD_SIZE - offset;
+            words[wordIndex + 1] = (words[wordIndex + 1] & ~(mask >>> shift)) | (bits >>> shift);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package it.unisa.elephant56.user.sample.common.individual;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Defines a sequence individual of {@link Double}, backed by an array of primitives.
+ * <p>
+ * Differently from {@link DoubleSequenceIndividual}, the elements are not boxed: clone, split and join are array
+ * copies and the Avro reflect schema stores the sequence as an array of doubles.
+ */
+public class PackedDoubleSequenceIndividual
+        extends SequenceIndividual<Double, PackedDoubleSequenceIndividual, PackedDoubleSequenceIndividual> {
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty sequence.
+     */
+    public PackedDoubleSequenceIndividual() {
+        this(0);
+    }
+
+    /**
+     * Constructs a sequence specifying the size, incrementable adding more elements.
+     *
+     * @param size the initial capacity of the sequence
+     */
+    public PackedDoubleSequenceIndividual(int size) {
+        this.elements = new double[size];
+        this.size = 0;
+    }
+
+    /**
+     * Constructs a sequence specifying copying the one in input.
+     *
+     * @param original the sequence to copy
+     */
+    private PackedDoubleSequenceIndividual(PackedDoubleSequenceIndividual original) {
+        this.elements = Arrays.copyOf(original.elements, original.size);
+        this.size = original.size;
+    }
+
+    @Override
+    protected Class<PackedDoubleSequenceIndividual> getSequenceIndividualClass() {
+        return PackedDoubleSequenceIndividual.class;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Double get(int index) {
+        return this.getDouble(index);
+    }
+
+    @Override
+    public void set(int index, Double element) {
+        if (index < this.size) {
+            this.setDouble(index, element);
+        } else if (index == this.size) {
+            this.addDouble(element);
+        }
+    }
+
+    /**
+     * Appends an element to the sequence, without boxing.
+     *
+     * @param element the element to append
+     */
+    public void addDouble(double element) {
+        if (this.size == this.elements.length)
+            this.elements = Arrays.copyOf(this.elements, Math.max(this.size + 1, this.elements.length * 2));
+        this.elements[this.size++] = element;
+    }
+
+    /**
+     * Returns the element in the "index" position, without boxing.
+     *
+     * @param index the index of the element
+     * @return the element
+     */
+    public double getDouble(int index) {
+        this.checkIndex(index);
+        return this.elements[index];
+    }
+
+    /**
+     * Sets the element in the "index" position, without boxing.
+     *
+     * @param index   the index of the element
+     * @param element the element to set
+     */
+    public void setDouble(int index, double element) {
+        this.checkIndex(index);
+        this.elements[index] = element;
+    }
+
+    @Override
+    public PackedDoubleSequenceIndividual[] split(Integer... splitPoints) {
+        // Computes the two parts size.
+        int size1 = splitPoints[0];
+        int size2 = this.size - splitPoints[0];
+
+        // Copies the two parts.
+        PackedDoubleSequenceIndividual part1 = new PackedDoubleSequenceIndividual(size1);
+        System.arraycopy(this.elements, 0, part1.elements, 0, size1);
+        part1.size = size1;
+
+        PackedDoubleSequenceIndividual part2 = new PackedDoubleSequenceIndividual(size2);
+        System.arraycopy(this.elements, size1, part2.elements, 0, size2);
+        part2.size = size2;
+
+        return new PackedDoubleSequenceIndividual[]{part1, part2};
+    }
+
+    @Override
+    public PackedDoubleSequenceIndividual join(PackedDoubleSequenceIndividual other) {
+        PackedDoubleSequenceIndividual result = new PackedDoubleSequenceIndividual(this.size + other.size);
+
+        System.arraycopy(this.elements, 0, result.elements, 0, this.size);
+        System.arraycopy(other.elements, 0, result.elements, this.size, other.size);
+        result.size = this.size + other.size;
+
+        return result;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new Iterator<Double>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < PackedDoubleSequenceIndividual.this.size;
+            }
+
+            @Override
+            public Double next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                return PackedDoubleSequenceIndividual.this.elements[this.index++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return new PackedDoubleSequenceIndividual(this);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < this.size; i++) {
+            long bits = Double.doubleToLongBits(this.elements[i]);
+            result = 31 * result + (int) (bits ^ (bits >>> 32));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof PackedDoubleSequenceIndividual))
+            return false;
+
+        PackedDoubleSequenceIndividual other = (PackedDoubleSequenceIndividual) object;
+        if (this.size != other.size)
+            return false;
+
+        for (int i = 0; i < this.size; i++)
+            if (Double.doubleToLongBits(this.elements[i]) != Double.doubleToLongBits(other.elements[i]))
+                return false;
+
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= this.size))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    }
+}
@@ -0,0 +1,189 @@
+package it.unisa.elephant56.user.sample.common.individual;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Defines a sequence individual of {@link Integer}, backed by an array of primitives.
+ * <p>
+ * Differently from {@link IntegerSequenceIndividual}, the elements are not boxed: clone, split and join are array
+ * copies and the Avro reflect schema stores the sequence as an array of ints.
+ */
+public class PackedIntegerSequenceIndividual
+        extends SequenceIndividual<Integer, PackedIntegerSequenceIndividual, PackedIntegerSequenceIndividual> {
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty sequence.
+     */
+    public PackedIntegerSequenceIndividual() {
+        this(0);
+    }
+
+    /**
+     * Constructs a sequence specifying the size, incrementable adding more elements.
+     *
+     * @param size the initial capacity of the sequence
+     */
+    public PackedIntegerSequenceIndividual(int size) {
+        this.elements = new int[size];
+        this.size = 0;
+    }
+
+    /**
+     * Constructs a sequence specifying copying the one in input.
+     *
+     * @param original the sequence to copy
+     */
+    private PackedIntegerSequenceIndividual(PackedIntegerSequenceIndividual original) {
+        this.elements = Arrays.copyOf(original.elements, original.size);
+        this.size = original.size;
+    }
+
+    @Override
+    protected Class<PackedIntegerSequenceIndividual> getSequenceIndividualClass() {
+        return PackedIntegerSequenceIndividual.class;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return this.getInt(index);
+    }
+
+    @Override
+    public void set(int index, Integer element) {
+        if (index < this.size) {
+            this.setInt(index, element);
+        } else if (index == this.size) {
+            this.addInt(element);
+        }
+    }
+
+    /**
+     * Appends an element to the sequence, without boxing.
+     *
+     * @param element the element to append
+     */
+    public void addInt(int element) {
+        if (this.size == this.elements.length)
+            this.elements = Arrays.copyOf(this.elements, Math.max(this.size + 1, this.elements.length * 2));
+        this.elements[this.size++] = element;
+    }
+
+    /**
+     * Returns the element in the "index" position, without boxing.
+     *
+     * @param index the index of the element
+     * @return the element
+     */
+    public int getInt(int index) {
+        this.checkIndex(index);
+        return this.elements[index];
+    }
+
+    /**
+     * Sets the element in the "index" position, without boxing.
+     *
+     * @param index   the index of the element
+     * @param element the element to set
+     */
+    public void setInt(int index, int element) {
+        this.checkIndex(index);
+        this.elements[index] = element;
+    }
+
+    @Override
+    public PackedIntegerSequenceIndividual[] split(Integer... splitPoints) {
+        // Computes the two parts size.
+        int size1 = splitPoints[0];
+        int size2 = this.size - splitPoints[0];
+
+        // Copies the two parts.
+        PackedIntegerSequenceIndividual part1 = new PackedIntegerSequenceIndividual(size1);
+        System.arraycopy(this.elements, 0, part1.elements, 0, size1);
+        part1.size = size1;
+
+        PackedIntegerSequenceIndividual part2 = new PackedIntegerSequenceIndividual(size2);
+        System.arraycopy(this.elements, size1, part2.elements, 0, size2);
+        part2.size = size2;
+
+        return new PackedIntegerSequenceIndividual[]{part1, part2};
+    }
+
+    @Override
+    public PackedIntegerSequenceIndividual join(PackedIntegerSequenceIndividual other) {
+        PackedIntegerSequenceIndividual result = new PackedIntegerSequenceIndividual(this.size + other.size);
+
+        System.arraycopy(this.elements, 0, result.elements, 0, this.size);
+        System.arraycopy(other.elements, 0, result.elements, this.size, other.size);
+        result.size = this.size + other.size;
+
+        return result;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < PackedIntegerSequenceIndividual.this.size;
+            }
+
+            @Override
+            public Integer next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                return PackedIntegerSequenceIndividual.this.elements[this.index++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return new PackedIntegerSequenceIndividual(this);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < this.size; i++)
+            result = 31 * result + this.elements[i];
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof PackedIntegerSequenceIndividual))
+            return false;
+
+        PackedIntegerSequenceIndividual other = (PackedIntegerSequenceIndividual) object;
+        if (this.size != other.size)
+            return false;
+
+        for (int i = 0; i < this.size; i++)
+            if (this.elements[i] != other.elements[i])
+                return false;
+
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if ((index < 0) || (index >= this.size))
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+    }
+}
@@ -0,0 +1,36 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.sample.common.individual.BooleanSequentialIndividual;
+
+/**
+ * Serialises a {@link BooleanSequentialIndividual} as an Avro array of booleans.
+ */
+public class BooleanSequentialIndividualSerialiser
+        extends SequenceIndividualSerialiser<Boolean, BooleanSequentialIndividual> {
+
+    @Override
+    protected Schema getElementSchema() {
+        return Schema.create(Schema.Type.BOOLEAN);
+    }
+
+    @Override
+    protected BooleanSequentialIndividual createIndividual(int size) {
+        return new BooleanSequentialIndividual(size);
+    }
+
+    @Override
+    protected void writeElement(Boolean element, Encoder encoder) throws IOException {
+        encoder.writeBoolean(element);
+    }
+
+    @Override
+    protected Boolean readElement(Decoder decoder) throws IOException {
+        return decoder.readBoolean();
+    }
+}
@@ -0,0 +1,33 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.common.Serialiser;
+import it.unisa.elephant56.user.sample.common.fitness_value.DoubleFitnessValue;
+
+/**
+ * Serialises a {@link DoubleFitnessValue} as an Avro double.
+ */
+public class DoubleFitnessValueSerialiser extends Serialiser<DoubleFitnessValue> {
+
+    private static final Schema SCHEMA = Schema.create(Schema.Type.DOUBLE);
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public void serialise(DoubleFitnessValue fitnessValue, Encoder encoder) throws IOException {
+        encoder.writeDouble(fitnessValue.getNumber());
+    }
+
+    @Override
+    public DoubleFitnessValue deserialise(Decoder decoder) throws IOException {
+        return new DoubleFitnessValue(decoder.readDouble());
+    }
+}
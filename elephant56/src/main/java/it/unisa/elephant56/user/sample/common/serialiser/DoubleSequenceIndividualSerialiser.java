@@ -0,0 +1,36 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.sample.common.individual.DoubleSequenceIndividual;
+
+/**
+ * Serialises a {@link DoubleSequenceIndividual} as an Avro array of doubles.
+ */
+public class DoubleSequenceIndividualSerialiser
+        extends SequenceIndividualSerialiser<Double, DoubleSequenceIndividual> {
+
+    @Override
+    protected Schema getElementSchema() {
+        return Schema.create(Schema.Type.DOUBLE);
+    }
+
+    @Override
+    protected DoubleSequenceIndividual createIndividual(int size) {
+        return new DoubleSequenceIndividual(size);
+    }
+
+    @Override
+    protected void writeElement(Double element, Encoder encoder) throws IOException {
+        encoder.writeDouble(element);
+    }
+
+    @Override
+    protected Double readElement(Decoder decoder) throws IOException {
+        return decoder.readDouble();
+    }
+}
@@ -0,0 +1,33 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.common.Serialiser;
+import it.unisa.elephant56.user.sample.common.fitness_value.IntegerFitnessValue;
+
+/**
+ * Serialises a {@link IntegerFitnessValue} as an Avro int.
+ */
+public class IntegerFitnessValueSerialiser extends Serialiser<IntegerFitnessValue> {
+
+    private static final Schema SCHEMA = Schema.create(Schema.Type.INT);
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public void serialise(IntegerFitnessValue fitnessValue, Encoder encoder) throws IOException {
+        encoder.writeInt(fitnessValue.getNumber());
+    }
+
+    @Override
+    public IntegerFitnessValue deserialise(Decoder decoder) throws IOException {
+        return new IntegerFitnessValue(decoder.readInt());
+    }
+}
@@ -0,0 +1,36 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.sample.common.individual.IntegerSequenceIndividual;
+
+/**
+ * Serialises a {@link IntegerSequenceIndividual} as an Avro array of ints.
+ */
+public class IntegerSequenceIndividualSerialiser
+        extends SequenceIndividualSerialiser<Integer, IntegerSequenceIndividual> {
+
+    @Override
+    protected Schema getElementSchema() {
+        return Schema.create(Schema.Type.INT);
+    }
+
+    @Override
+    protected IntegerSequenceIndividual createIndividual(int size) {
+        return new IntegerSequenceIndividual(size);
+    }
+
+    @Override
+    protected void writeElement(Integer element, Encoder encoder) throws IOException {
+        encoder.writeInt(element);
+    }
+
+    @Override
+    protected Integer readElement(Decoder decoder) throws IOException {
+        return decoder.readInt();
+    }
+}
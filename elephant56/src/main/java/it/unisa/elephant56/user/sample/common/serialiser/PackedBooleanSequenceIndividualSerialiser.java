@@ -0,0 +1,67 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.common.Serialiser;
+import it.unisa.elephant56.user.sample.common.individual.PackedBooleanSequenceIndividual;
+
+/**
+ * Serialises a {@link PackedBooleanSequenceIndividual} as an Avro record of the number of elements and the array of
+ * the words containing them.
+ */
+public class PackedBooleanSequenceIndividualSerialiser extends Serialiser<PackedBooleanSequenceIndividual> {
+
+    private static final Schema SCHEMA;
+
+    static {
+        SCHEMA = Schema.createRecord("PackedBooleanSequence", null,
+                PackedBooleanSequenceIndividualSerialiser.class.getPackage().getName(), false);
+        SCHEMA.setFields(Arrays.asList(
+                new Schema.Field("size", Schema.create(Schema.Type.INT), null, null),
+                new Schema.Field("words", Schema.createArray(Schema.create(Schema.Type.LONG)), null, null)));
+    }
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public void serialise(PackedBooleanSequenceIndividual individual, Encoder encoder) throws IOException {
+        long[] words = individual.toLongArray();
+
+        encoder.writeInt(individual.size());
+
+        encoder.writeArrayStart();
+        encoder.setItemCount(words.length);
+        for (long word : words) {
+            encoder.startItem();
+            encoder.writeLong(word);
+        }
+        encoder.writeArrayEnd();
+    }
+
+    @Override
+    public PackedBooleanSequenceIndividual deserialise(Decoder decoder) throws IOException {
+        int size = decoder.readInt();
+
+        long numberOfWords = decoder.readArrayStart();
+        long[] words = new long[(int) numberOfWords];
+
+        int index = 0;
+        while (numberOfWords > 0L) {
+            if ((index + numberOfWords) > words.length)
+                words = Arrays.copyOf(words, (int) (index + numberOfWords));
+            for (long i = 0L; i < numberOfWords; i++)
+                words[index++] = decoder.readLong();
+            numberOfWords = decoder.arrayNext();
+        }
+
+        return PackedBooleanSequenceIndividual.valueOf(words, size);
+    }
+}
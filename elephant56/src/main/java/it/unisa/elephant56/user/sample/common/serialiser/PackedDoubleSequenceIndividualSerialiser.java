@@ -0,0 +1,50 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.common.Serialiser;
+import it.unisa.elephant56.user.sample.common.individual.PackedDoubleSequenceIndividual;
+
+/**
+ * Serialises a {@link PackedDoubleSequenceIndividual} as an Avro array of doubles, without boxing the elements.
+ */
+public class PackedDoubleSequenceIndividualSerialiser extends Serialiser<PackedDoubleSequenceIndividual> {
+
+    private static final Schema SCHEMA = Schema.createArray(Schema.create(Schema.Type.DOUBLE));
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public void serialise(PackedDoubleSequenceIndividual individual, Encoder encoder) throws IOException {
+        int size = individual.size();
+
+        encoder.writeArrayStart();
+        encoder.setItemCount(size);
+        for (int i = 0; i < size; i++) {
+            encoder.startItem();
+            encoder.writeDouble(individual.getDouble(i));
+        }
+        encoder.writeArrayEnd();
+    }
+
+    @Override
+    public PackedDoubleSequenceIndividual deserialise(Decoder decoder) throws IOException {
+        long numberOfElements = decoder.readArrayStart();
+        PackedDoubleSequenceIndividual individual = new PackedDoubleSequenceIndividual((int) numberOfElements);
+
+        while (numberOfElements > 0L) {
+            for (long i = 0L; i < numberOfElements; i++)
+                individual.addDouble(decoder.readDouble());
+            numberOfElements = decoder.arrayNext();
+        }
+
+        return individual;
+    }
+}
@@ -0,0 +1,50 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.common.Serialiser;
+import it.unisa.elephant56.user.sample.common.individual.PackedIntegerSequenceIndividual;
+
+/**
+ * Serialises a {@link PackedIntegerSequenceIndividual} as an Avro array of ints, without boxing the elements.
+ */
+public class PackedIntegerSequenceIndividualSerialiser extends Serialiser<PackedIntegerSequenceIndividual> {
+
+    private static final Schema SCHEMA = Schema.createArray(Schema.create(Schema.Type.INT));
+
+    @Override
+    public Schema getSchema() {
+        return SCHEMA;
+    }
+
+    @Override
+    public void serialise(PackedIntegerSequenceIndividual individual, Encoder encoder) throws IOException {
+        int size = individual.size();
+
+        encoder.writeArrayStart();
+        encoder.setItemCount(size);
+        for (int i = 0; i < size; i++) {
+            encoder.startItem();
+            encoder.writeInt(individual.getInt(i));
+        }
+        encoder.writeArrayEnd();
+    }
+
+    @Override
+    public PackedIntegerSequenceIndividual deserialise(Decoder decoder) throws IOException {
+        long numberOfElements = decoder.readArrayStart();
+        PackedIntegerSequenceIndividual individual = new PackedIntegerSequenceIndividual((int) numberOfElements);
+
+        while (numberOfElements > 0L) {
+            for (long i = 0L; i < numberOfElements; i++)
+                individual.addInt(decoder.readInt());
+            numberOfElements = decoder.arrayNext();
+        }
+
+        return individual;
+    }
+}
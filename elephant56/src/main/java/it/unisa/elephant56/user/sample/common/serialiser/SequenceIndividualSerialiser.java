@@ -0,0 +1,94 @@
+package it.unisa.elephant56.user.sample.common.serialiser;
+
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import it.unisa.elephant56.user.common.Serialiser;
+import it.unisa.elephant56.user.sample.common.individual.SequenceIndividual;
+
+/**
+ * Defines a serialiser of sequence individuals, written as an Avro array of elements.
+ *
+ * @param <ElementType>    the type of the elements
+ * @param <IndividualType> the type of the sequence individual
+ */
+public abstract class SequenceIndividualSerialiser<ElementType,
+        IndividualType extends SequenceIndividual<ElementType, ?, ?>>
+        extends Serialiser<IndividualType> {
+
+    private Schema schema;
+
+    /**
+     * Constructs the serialiser.
+     */
+    public SequenceIndividualSerialiser() {
+        this.schema = Schema.createArray(this.getElementSchema());
+    }
+
+    /**
+     * Returns the schema of the single elements.
+     *
+     * @return the schema
+     */
+    protected abstract Schema getElementSchema();
+
+    /**
+     * Creates an empty sequence individual.
+     *
+     * @param size the expected number of elements
+     * @return the individual
+     */
+    protected abstract IndividualType createIndividual(int size);
+
+    /**
+     * Writes a single element.
+     *
+     * @param element the element
+     * @param encoder the encoder
+     * @throws IOException
+     */
+    protected abstract void writeElement(ElementType element, Encoder encoder) throws IOException;
+
+    /**
+     * Reads a single element.
+     *
+     * @param decoder the decoder
+     * @return the element
+     * @throws IOException
+     */
+    protected abstract ElementType readElement(Decoder decoder) throws IOException;
+
+    @Override
+    public Schema getSchema() {
+        return this.schema;
+    }
+
+    @Override
+    public void serialise(IndividualType individual, Encoder encoder) throws IOException {
+        encoder.writeArrayStart();
+        encoder.setItemCount(individual.size());
+        for (ElementType element : individual) {
+            encoder.startItem();
+            this.writeElement(element, encoder);
+        }
+        encoder.writeArrayEnd();
+    }
+
+    @Override
+    public IndividualType deserialise(Decoder decoder) throws IOException {
+        long numberOfElements = decoder.readArrayStart();
+        IndividualType individual = this.createIndividual((int) numberOfElements);
+
+        int index = 0;
+        while (numberOfElements > 0L) {
+            for (long i = 0L; i < numberOfElements; i++)
+                individual.set(index++, this.readElement(decoder));
+            numberOfElements = decoder.arrayNext();
+        }
+
+        return individual;
+    }
+}
@@ -0,0 +1,378 @@
+package it.unisa.elephant56.user.sample.operators.fitness_evaluation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+
+import it.unisa.elephant56.core.Constants;
+import it.unisa.elephant56.core.common.IndividualWrapper;
+import it.unisa.elephant56.core.common.Properties;
+import it.unisa.elephant56.user.common.FitnessValue;
+import it.unisa.elephant56.user.common.Individual;
+import it.unisa.elephant56.user.operators.FitnessEvaluation;
+
+/**
+ * Defines a fitness function computed by an external program, such as a compiler, a test suite or a simulator, kept
+ * running in a pool of worker processes for the whole task instead of being launched for every individual.
+ * <p>
+ * The workers read the requests from the standard input and write the replies to the standard output. A request is
+ * the number of individuals followed by a frame for each of them; the reply is a frame for each fitness value, in the
+ * same order. A frame is the length of the data followed by the data, the numbers are big-endian 32-bit integers. The
+ * workers must stop when the standard input is closed; the standard error is inherited.
+ * <p>
+ * A worker that crashes or exceeds the timeout is killed and started again, and its batch is evaluated again by the
+ * next free worker, up to the number of attempts. The busy time, the utilisation and the restarts of every worker are
+ * written by the time reporter.
+ * <p>
+ * It needs some properties to be set in the properties object.
+ *
+ * @param <IndividualType>
+ * @param <FitnessValueType>
+ */
+public abstract class ExternalProcessFitnessEvaluation<IndividualType extends Individual,
+        FitnessValueType extends FitnessValue>
+        extends FitnessEvaluation<IndividualType, FitnessValueType> {
+
+    /**
+     * Defines the command line of the workers, as comma-separated arguments.
+     */
+    public final static String STRINGS_COMMAND =
+            "external_process_fitness_evaluation.configuration.command.strings";
+
+    /**
+     * Defines the number of workers (default: the number of fitness evaluation threads).
+     */
+    public final static String INT_NUMBER_OF_WORKERS =
+            "external_process_fitness_evaluation.configuration.number_of_workers.int";
+
+    /**
+     * Defines the milliseconds a worker can take for a batch, 0 to wait indefinitely (default: 0).
+     */
+    public final static String LONG_TIMEOUT =
+            "external_process_fitness_evaluation.configuration.timeout.long";
+
+    /**
+     * Defines the number of attempts to evaluate a batch before failing (default: 2).
+     */
+    public final static String INT_NUMBER_OF_ATTEMPTS =
+            "external_process_fitness_evaluation.configuration.number_of_attempts.int";
+
+    private static final int DEFAULT_NUMBER_OF_ATTEMPTS = 2;
+
+    private static final Set<ExternalProcessFitnessEvaluation<?, ?>> RUNNING_INSTANCES =
+            Collections.newSetFromMap(new IdentityHashMap<ExternalProcessFitnessEvaluation<?, ?>, Boolean>());
+
+    static {
+        // Kills the workers left running when the task ends, with a single hook for all the instances.
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            @Override
+            public void run() {
+                List<ExternalProcessFitnessEvaluation<?, ?>> runningInstances;
+                synchronized (RUNNING_INSTANCES) {
+                    runningInstances = new ArrayList<ExternalProcessFitnessEvaluation<?, ?>>(RUNNING_INSTANCES);
+                }
+                for (ExternalProcessFitnessEvaluation<?, ?> runningInstance : runningInstances)
+                    runningInstance.close();
+            }
+        });
+    }
+
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "external-process-watchdog");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    private List<String> command;
+    private long timeout;
+    private int numberOfAttempts;
+
+    private List<ExternalProcessWorker> workers;
+    private BlockingQueue<ExternalProcessWorker> freeWorkers;
+
+    private long lastReportTime;
+
+    /**
+     * Constructs the instance. The workers are started at their first evaluation.
+     */
+    public ExternalProcessFitnessEvaluation(
+            Integer islandNumber, Integer totalNumberOfIslands, Properties userProperties, Configuration configuration
+    ) {
+        super(islandNumber, totalNumberOfIslands, userProperties, configuration);
+
+        this.command = Arrays.asList(userProperties.getStrings(STRINGS_COMMAND));
+        this.timeout = userProperties.getLong(LONG_TIMEOUT, 0L);
+        this.numberOfAttempts = Math.max(userProperties.getInt(INT_NUMBER_OF_ATTEMPTS, DEFAULT_NUMBER_OF_ATTEMPTS), 1);
+
+        int defaultNumberOfWorkers = (configuration != null)
+                ? configuration.getInt(Constants.CONFIGURATION_FITNESS_EVALUATION_NUMBER_OF_THREADS, 1) : 1;
+        int numberOfWorkers = Math.max(userProperties.getInt(INT_NUMBER_OF_WORKERS, defaultNumberOfWorkers), 1);
+
+        // Creates the workers.
+        this.workers = new ArrayList<ExternalProcessWorker>(numberOfWorkers);
+        this.freeWorkers = new LinkedBlockingQueue<ExternalProcessWorker>();
+        for (int i = 0; i < numberOfWorkers; i++) {
+            ExternalProcessWorker worker = new ExternalProcessWorker(i);
+            this.workers.add(worker);
+            this.freeWorkers.add(worker);
+        }
+
+        this.lastReportTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Encodes an individual in the frame sent to the workers.
+     *
+     * @param individualWrapper the individual to encode
+     * @return the data of the frame
+     */
+    protected abstract byte[] encodeIndividual(IndividualWrapper<IndividualType, FitnessValueType> individualWrapper);
+
+    /**
+     * Decodes the fitness value from the frame replied by the workers.
+     *
+     * @param data the data of the frame
+     * @return the fitness value
+     */
+    protected abstract FitnessValueType decodeFitnessValue(byte[] data);
+
+    @Override
+    public FitnessValueType evaluate(IndividualWrapper<IndividualType, FitnessValueType> individualWrapper) {
+        return this.evaluateBatch(Collections.singletonList(individualWrapper)).get(0);
+    }
+
+    @Override
+    public List<FitnessValueType> evaluateBatch(
+            List<IndividualWrapper<IndividualType, FitnessValueType>> individualWrappers
+    ) {
+        // Encodes the individuals once for all the attempts.
+        List<byte[]> frames = new ArrayList<byte[]>(individualWrappers.size());
+        for (IndividualWrapper<IndividualType, FitnessValueType> individualWrapper : individualWrappers)
+            frames.add(this.encodeIndividual(individualWrapper));
+
+        IOException lastException = null;
+
+        for (int attempt = 0; attempt < this.numberOfAttempts; attempt++) {
+            ExternalProcessWorker worker;
+            try {
+                worker = this.freeWorkers.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(exception);
+            }
+
+            try {
+                List<byte[]> replies = worker.exchange(frames);
+
+                // Decodes the fitness values.
+                List<FitnessValueType> fitnessValues = new ArrayList<FitnessValueType>(replies.size());
+                for (byte[] reply : replies)
+                    fitnessValues.add(this.decodeFitnessValue(reply));
+
+                return fitnessValues;
+            } catch (IOException exception) {
+                lastException = exception;
+
+                // Kills the worker, that is started again at its next evaluation.
+                worker.destroy(true);
+            } finally {
+                this.freeWorkers.add(worker);
+            }
+        }
+
+        throw new IllegalStateException("The external fitness evaluation failed " + this.numberOfAttempts +
+                " times.", lastException);
+    }
+
+    /**
+     * Returns the busy time, the utilisation percentage and the number of restarts of every worker since the
+     * previous call.
+     */
+    @Override
+    public Map<String, Long> getReportedTimes() {
+        long currentTime = System.currentTimeMillis();
+        long elapsedTime = Math.max(currentTime - this.lastReportTime, 1L);
+        this.lastReportTime = currentTime;
+
+        Map<String, Long> reportedTimes = new LinkedHashMap<String, Long>();
+        for (ExternalProcessWorker worker : this.workers) {
+            long[] counters = worker.resetCounters();
+
+            reportedTimes.put("EXTERNAL_WORKER_" + worker.number + "_BUSY_TIME", counters[0]);
+            reportedTimes.put("EXTERNAL_WORKER_" + worker.number + "_UTILISATION",
+                    Math.min((counters[0] * 100L) / elapsedTime, 100L));
+            reportedTimes.put("EXTERNAL_WORKER_" + worker.number + "_RESTARTS", counters[1]);
+        }
+
+        return reportedTimes;
+    }
+
+    /**
+     * Stops the workers, that are started again if the operator is used afterwards.
+     */
+    @Override
+    public void close() {
+        for (ExternalProcessWorker worker : this.workers)
+            worker.destroy(false);
+
+        // Releases the instance from the shutdown hook.
+        synchronized (RUNNING_INSTANCES) {
+            RUNNING_INSTANCES.remove(this);
+        }
+    }
+
+    /**
+     * Runs a worker process and exchanges the frames with it.
+     */
+    private class ExternalProcessWorker {
+
+        private int number;
+
+        private Process process;
+        private DataOutputStream processInput;
+        private DataInputStream processOutput;
+
+        private volatile boolean isTimedOut;
+
+        private long busyTime;
+        private long numberOfRestarts;
+        private boolean isCrashed;
+
+        public ExternalProcessWorker(int number) {
+            this.number = number;
+        }
+
+        private void start() throws IOException {
+            ProcessBuilder processBuilder = new ProcessBuilder(command);
+            processBuilder.redirectError(ProcessBuilder.Redirect.INHERIT);
+
+            this.process = processBuilder.start();
+
+            // Registers the instance to the shutdown hook while it has workers running.
+            synchronized (RUNNING_INSTANCES) {
+                RUNNING_INSTANCES.add(ExternalProcessFitnessEvaluation.this);
+            }
+            this.processInput = new DataOutputStream(new BufferedOutputStream(this.process.getOutputStream()));
+            this.processOutput = new DataInputStream(new BufferedInputStream(this.process.getInputStream()));
+
+            synchronized (this) {
+                if (this.isCrashed) {
+                    this.numberOfRestarts++;
+                    this.isCrashed = false;
+                }
+            }
+        }
+
+        public List<byte[]> exchange(List<byte[]> frames) throws IOException {
+            if (this.process == null)
+                this.start();
+
+            // Registers the exchange start time.
+            long startTime = System.currentTimeMillis();
+
+            // Kills the process if it exceeds the timeout.
+            this.isTimedOut = false;
+            ScheduledFuture<?> timeoutTask = null;
+            if (timeout > 0L) {
+                final Process currentProcess = this.process;
+                timeoutTask = WATCHDOG.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        isTimedOut = true;
+                        currentProcess.destroy();
+                    }
+                }, timeout, TimeUnit.MILLISECONDS);
+            }
+
+            try {
+                // Sends the request.
+                this.processInput.writeInt(frames.size());
+                for (byte[] frame : frames) {
+                    this.processInput.writeInt(frame.length);
+                    this.processInput.write(frame);
+                }
+                this.processInput.flush();
+
+                // Receives the reply.
+                List<byte[]> replies = new ArrayList<byte[]>(frames.size());
+                for (int i = 0; i < frames.size(); i++) {
+                    int length = this.processOutput.readInt();
+                    if (length < 0)
+                        throw new IOException("The worker " + this.number + " replied with a wrong frame.");
+
+                    byte[] reply = new byte[length];
+                    this.processOutput.readFully(reply);
+                    replies.add(reply);
+                }
+
+                return replies;
+            } catch (IOException exception) {
+                if (this.isTimedOut)
+                    throw new IOException("The worker " + this.number + " exceeded the timeout of " + timeout +
+                            " milliseconds.", exception);
+                throw exception;
+            } finally {
+                if (timeoutTask != null)
+                    timeoutTask.cancel(false);
+
+                // Registers the exchange finish time.
+                long finishTime = System.currentTimeMillis();
+
+                synchronized (this) {
+                    this.busyTime += finishTime - startTime;
+                }
+            }
+        }
+
+        public void destroy(boolean isCrashed) {
+            Process currentProcess;
+            synchronized (this) {
+                currentProcess = this.process;
+                this.process = null;
+                if (isCrashed)
+                    this.isCrashed = true;
+            }
+
+            if (currentProcess == null)
+                return;
+
+            // Closes the standard input, as the end of the requests, and kills the worker.
+            try {
+                this.processInput.close();
+            } catch (IOException exception) {
+                // The worker has already stopped.
+            }
+            currentProcess.destroy();
+        }
+
+        public synchronized long[] resetCounters() {
+            long[] counters = new long[]{this.busyTime, this.numberOfRestarts};
+            this.busyTime = 0L;
+            this.numberOfRestarts = 0L;
+            return counters;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package it.unisa.elephant56.user.sample.operators.migration;
 
 import java.util.*;
 
+import it.unisa.elephant56.util.common.IdentityIndexedList;
 import it.unisa.elephant56.util.common.Pair;
 import org.apache.hadoop.conf.Configuration;
 
@@ -75,7 +76,7 @@ public abstract class RandomIndividualsMigration
 
         // Copies the population to select individual to migrate.
         List<IndividualWrapper<IndividualType, FitnessValueType>> populationCopy =
-                new ArrayList<IndividualWrapper<IndividualType, FitnessValueType>>(population);
+                new IdentityIndexedList<IndividualWrapper<IndividualType, FitnessValueType>>(population);
 
         // Selects and assigns the individuals.
         for (int i = 0; i < this.numberOfMigrantIndividuals; i++) {
@@ -13,6 +13,7 @@ import it.unisa.elephant56.user.common.Individual;
 import it.unisa.elephant56.user.operators.ParentsSelection;
 import it.unisa.elephant56.user.sample.common.fitness_value.NumberFitnessValue;
 import it.unisa.elephant56.util.common.Pair;
+import it.unisa.elephant56.util.common.RouletteWheel;
 
 /**
  * Defines a Roulette Wheel Parents Selection that chooses the couples by random and giving to the individuals with the best
@@ -34,6 +35,7 @@ public class RouletteWheelParentsSelection<IndividualType extends Individual, Fi
     private static final long DEFAULT_RANDOM_SEED = 0;
 
     private Random random;
+    private boolean isGetNextIndividualOverridden;
 
     /**
      * Constructs the instance.
@@ -48,6 +50,8 @@ public class RouletteWheelParentsSelection<IndividualType extends Individual, Fi
         boolean addIslandNumberToRandomSeed = this.getUserProperties().getBoolean(BOOLEAN_ADD_ISLAND_NUMBER_TO_RANDOM_SEED, false);
         long finalRandomSeed = (addIslandNumberToRandomSeed) ? (randomSeed + this.getIslandNumber()) : randomSeed;
         this.random = new Random(finalRandomSeed);
+
+        this.isGetNextIndividualOverridden = this.isGetNextIndividualOverridden();
     }
 
     @Override
@@ -58,6 +62,42 @@ public class RouletteWheelParentsSelection<IndividualType extends Individual, Fi
         // Computes the number of couples.
         int numberOfCouples = (int) Math.ceil(((double) population.size() / 2.0));
 
+        // Selects through the overridden hook, on the population without the first parent.
+        if (this.isGetNextIndividualOverridden)
+            return this.selectParentsByNextIndividual(population, numberOfCouples);
+
+        // Sums all the fitness values and builds the wheel.
+        double[] fitnessValues = new double[population.size()];
+        double totalFitnessValue = 0.0;
+        for (int i = 0; i < fitnessValues.length; i++) {
+            fitnessValues[i] = population.get(i).getFitnessValue().getNumber().doubleValue();
+            totalFitnessValue += fitnessValues[i];
+        }
+        RouletteWheel wheel = new RouletteWheel(fitnessValues);
+
+        // Generates the couples.
+        List<Pair<IndividualWrapper<IndividualType, FitnessValueType>, IndividualWrapper<IndividualType, FitnessValueType>>> couples =
+                new ArrayList<Pair<IndividualWrapper<IndividualType, FitnessValueType>, IndividualWrapper<IndividualType, FitnessValueType>>>(numberOfCouples);
+        for (int i = 0; i < numberOfCouples; i++) {
+            // Selects the first parent and removes it from the wheel.
+            int index1 = wheel.selectAndRemove(this.random, totalFitnessValue);
+
+            // Selects the second parent among the others.
+            int index2 = wheel.select(this.random, totalFitnessValue - fitnessValues[index1]);
+
+            // Restores the wheel.
+            wheel.restore(index1);
+
+            couples.add(new Pair<>(population.get(index1), population.get(index2)));
+        }
+
+        return couples;
+    }
+
+    private List<Pair<IndividualWrapper<IndividualType, FitnessValueType>,
+            IndividualWrapper<IndividualType, FitnessValueType>>> selectParentsByNextIndividual(
+            List<IndividualWrapper<IndividualType, FitnessValueType>> population, int numberOfCouples
+    ) {
         // Sums all the fitness values.
         double totalFitnessValue = 0.0;
         for (IndividualWrapper<IndividualType, FitnessValueType> individual : population) {
@@ -95,6 +135,8 @@ public class RouletteWheelParentsSelection<IndividualType extends Individual, Fi
 
     /**
      * Retrieves the next individual by selecting it with the wheel.
+     * <p>
+     * It is called only if overridden, since the couples are otherwise selected on a wheel built once per generation.
      *
      * @param totalFitnessValue the sum of all fitness values
      * @param population        the population
@@ -103,21 +145,24 @@ public class RouletteWheelParentsSelection<IndividualType extends Individual, Fi
     protected IndividualWrapper<IndividualType, FitnessValueType> getNextIndividual(
             double totalFitnessValue, List<IndividualWrapper<IndividualType, FitnessValueType>> population
     ) {
-        // Flows the roulette until reached the right individual.
-        double randomNumber = this.random.nextDouble() * totalFitnessValue;
+        double[] fitnessValues = new double[population.size()];
+        for (int i = 0; i < fitnessValues.length; i++)
+            fitnessValues[i] = population.get(i).getFitnessValue().getNumber().doubleValue();
 
-        double currentSum = 0.0;
-        int index = 0;
-        int lastAddedIndex = 0;
+        return population.get(new RouletteWheel(fitnessValues).select(this.random, totalFitnessValue));
+    }
 
-        while ((currentSum < randomNumber) && (index < population.size())) {
-            IndividualWrapper<IndividualType, FitnessValueType> individual = population.get(index);
-            FitnessValueType fitnessValue = individual.getFitnessValue();
-            currentSum += fitnessValue.getNumber().doubleValue();
-            lastAddedIndex = index;
-            index++;
+    private boolean isGetNextIndividualOverridden() {
+        for (Class<?> currentClass = this.getClass(); currentClass != RouletteWheelParentsSelection.class;
+             currentClass = currentClass.getSuperclass()) {
+            try {
+                currentClass.getDeclaredMethod("getNextIndividual", double.class, List.class);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                // Looks for it in the superclass.
+            }
         }
 
-        return population.get(lastAddedIndex);
+        return false;
     }
 }
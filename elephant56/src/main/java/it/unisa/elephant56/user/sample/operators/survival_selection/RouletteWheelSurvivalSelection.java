@@ -5,6 +5,7 @@ import it.unisa.elephant56.core.common.Properties;
 import it.unisa.elephant56.user.common.Individual;
 import it.unisa.elephant56.user.operators.SurvivalSelection;
 import it.unisa.elephant56.user.sample.common.fitness_value.NumberFitnessValue;
+import it.unisa.elephant56.util.common.RouletteWheel;
 import org.apache.hadoop.conf.Configuration;
 
 import java.util.*;
@@ -29,6 +30,7 @@ public class RouletteWheelSurvivalSelection<IndividualType extends Individual, F
     private static final long DEFAULT_RANDOM_SEED = 0;
 
     private Random random;
+    private boolean isGetNextIndividualOverridden;
 
     /**
      * Constructs the instance.
@@ -43,6 +45,8 @@ public class RouletteWheelSurvivalSelection<IndividualType extends Individual, F
         boolean addIslandNumberToRandomSeed = this.getUserProperties().getBoolean(BOOLEAN_ADD_ISLAND_NUMBER_TO_RANDOM_SEED, false);
         long finalRandomSeed = (addIslandNumberToRandomSeed) ? (randomSeed + this.getIslandNumber()) : randomSeed;
         this.random = new Random(finalRandomSeed);
+
+        this.isGetNextIndividualOverridden = this.isGetNextIndividualOverridden();
     }
 
     @Override
@@ -57,25 +61,40 @@ public class RouletteWheelSurvivalSelection<IndividualType extends Individual, F
         List<IndividualWrapper<IndividualType, FitnessValueType>> population = new ArrayList<IndividualWrapper<IndividualType, FitnessValueType>>(parentsPopulation);
         population.addAll(offspringPopulation);
 
-        // Sums all the fitness values.
+        // Sums all the fitness values and builds the wheel.
+        double[] fitnessValues = new double[population.size()];
         double totalFitnessValue = 0.0;
-        for (IndividualWrapper<IndividualType, FitnessValueType> individual : population) {
-            FitnessValueType fitnessValue = individual.getFitnessValue();
-            totalFitnessValue += fitnessValue.getNumber().doubleValue();
+        for (int i = 0; i < fitnessValues.length; i++) {
+            fitnessValues[i] = population.get(i).getFitnessValue().getNumber().doubleValue();
+            totalFitnessValue += fitnessValues[i];
         }
+        RouletteWheel wheel = new RouletteWheel(fitnessValues);
 
-        // Selects the survivors.
+        // Selects the survivors, without replacement.
         List<IndividualWrapper<IndividualType, FitnessValueType>> survivors =
                 new ArrayList<>(numberOfSurvivors);
 
-        for (int i = 0; i < numberOfSurvivors; i++) {
-            IndividualWrapper<IndividualType, FitnessValueType> selectedIndividual = getNextIndividual(totalFitnessValue, population);
+        // Selects through the overridden hook, removing every survivor from the population.
+        if (this.isGetNextIndividualOverridden) {
+            for (int i = 0; i < numberOfSurvivors; i++) {
+                IndividualWrapper<IndividualType, FitnessValueType> selectedIndividual =
+                        getNextIndividual(totalFitnessValue, population);
+
+                // Removes the selected individual.
+                population.remove(selectedIndividual);
+                totalFitnessValue -= selectedIndividual.getFitnessValue().getNumber().doubleValue();
+
+                survivors.add(selectedIndividual);
+            }
+
+            return survivors;
+        }
 
-            // Removes the selected individual.
-            population.remove(selectedIndividual);
-            totalFitnessValue -= selectedIndividual.getFitnessValue().getNumber().doubleValue();
+        for (int i = 0; i < numberOfSurvivors; i++) {
+            int selectedIndex = wheel.selectAndRemove(this.random, totalFitnessValue);
+            totalFitnessValue -= fitnessValues[selectedIndex];
 
-            survivors.add(selectedIndividual);
+            survivors.add(population.get(selectedIndex));
         }
 
         return survivors;
@@ -83,6 +102,9 @@ public class RouletteWheelSurvivalSelection<IndividualType extends Individual, F
 
     /**
      * Retrieves the next individual by selecting it with the wheel.
+     * <p>
+     * It is called only if overridden, since the survivors are otherwise selected on a wheel built once per
+     * generation.
      *
      * @param totalFitnessValue the sum of all fitness values
      * @param population        the population
@@ -91,21 +113,24 @@ public class RouletteWheelSurvivalSelection<IndividualType extends Individual, F
     protected IndividualWrapper<IndividualType, FitnessValueType> getNextIndividual(
             double totalFitnessValue, List<IndividualWrapper<IndividualType, FitnessValueType>> population
     ) {
-        // Flows the roulette until reached the right individual.
-        double randomNumber = this.random.nextDouble() * totalFitnessValue;
-
-        double currentSum = 0.0;
-        int index = 0;
-        int lastAddedIndex = 0;
-
-        while ((currentSum < randomNumber) && (index < population.size())) {
-            IndividualWrapper<IndividualType, FitnessValueType> individual = population.get(index);
-            FitnessValueType fitnessValue = individual.getFitnessValue();
-            currentSum += fitnessValue.getNumber().doubleValue();
-            lastAddedIndex = index;
-            index++;
+        double[] fitnessValues = new double[population.size()];
+        for (int i = 0; i < fitnessValues.length; i++)
+            fitnessValues[i] = population.get(i).getFitnessValue().getNumber().doubleValue();
+
+        return population.get(new RouletteWheel(fitnessValues).select(this.random, totalFitnessValue));
+    }
+
+    private boolean isGetNextIndividualOverridden() {
+        for (Class<?> currentClass = this.getClass(); currentClass != RouletteWheelSurvivalSelection.class;
+             currentClass = currentClass.getSuperclass()) {
+            try {
+                currentClass.getDeclaredMethod("getNextIndividual", double.class, List.class);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                // Looks for it in the superclass.
+            }
         }
 
-        return population.get(lastAddedIndex);
+        return false;
     }
 }
@@ -0,0 +1,275 @@
+package it.unisa.elephant56.util.common;
+
+import java.util.*;
+
+/**
+ * Defines a list that indexes its elements by identity, so that removing an element by reference costs O(1) instead
+ * of a linear scan with {@link Object#equals(Object)}.
+ * <p>
+ * The removed elements leave a hole in their slot, and the holes are compacted, preserving the order, at the next
+ * positional access. A sequence of k removals followed by an iteration therefore costs O(k + n).
+ * <p>
+ * Differently from the {@link List} contract, {@link #remove(Object)}, {@link #contains(Object)} and
+ * {@link #indexOf(Object)} compare the elements by identity; {@link #removeSameOrEqual(Object)} falls back to
+ * {@link Object#equals(Object)} when the same reference is not in the list.
+ *
+ * @param <ElementType> the type of the elements
+ */
+public class IdentityIndexedList<ElementType> extends AbstractList<ElementType> implements RandomAccess {
+
+    private static final Object HOLE = new Object();
+
+    // The slots, with holes.
+    private ArrayList<Object> slots;
+    private int numberOfHoles;
+
+    // Maps every element to its first slot and number of occurrences.
+    private IdentityHashMap<Object, int[]> index;
+
+    /**
+     * Constructs an empty list.
+     */
+    public IdentityIndexedList() {
+        this.slots = new ArrayList<Object>();
+        this.numberOfHoles = 0;
+        this.index = new IdentityHashMap<Object, int[]>();
+    }
+
+    /**
+     * Constructs a list containing the elements of a collection, in the same order.
+     *
+     * @param collection the collection
+     */
+    public IdentityIndexedList(Collection<? extends ElementType> collection) {
+        this.slots = new ArrayList<Object>(collection.size());
+        this.numberOfHoles = 0;
+        this.index = new IdentityHashMap<Object, int[]>(collection.size());
+
+        for (ElementType element : collection)
+            this.append(element);
+    }
+
+    @Override
+    public int size() {
+        return this.slots.size() - this.numberOfHoles;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ElementType get(int position) {
+        this.compact();
+        return (ElementType) this.slots.get(position);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ElementType set(int position, ElementType element) {
+        this.compact();
+        ElementType oldElement = (ElementType) this.slots.set(position, element);
+
+        if (oldElement != element) {
+            this.unindex(oldElement, position);
+
+            // Indexes the new element.
+            int[] entry = this.index.get(element);
+            if (entry == null) {
+                this.index.put(element, new int[]{position, 1});
+            } else {
+                entry[0] = Math.min(entry[0], position);
+                entry[1]++;
+            }
+        }
+
+        return oldElement;
+    }
+
+    @Override
+    public boolean add(ElementType element) {
+        this.append(element);
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int position, ElementType element) {
+        if (position == this.size()) {
+            this.add(element);
+            return;
+        }
+
+        this.compact();
+        this.slots.add(position, element);
+        this.reindex();
+        this.modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ElementType remove(int position) {
+        this.compact();
+        ElementType element = (ElementType) this.slots.get(position);
+        this.removeSlot(position);
+        this.modCount++;
+        return element;
+    }
+
+    /**
+     * Removes the first occurrence of the element, compared by identity.
+     *
+     * @param element the element
+     * @return "true" if the list contained the element, "false" otherwise
+     */
+    @Override
+    public boolean remove(Object element) {
+        int[] entry = this.index.get(element);
+        if (entry == null)
+            return false;
+
+        this.removeSlot(entry[0]);
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the first occurrence of the element, compared by identity or, if the list does not contain the same
+     * reference, by {@link Object#equals(Object)} with a linear scan.
+     *
+     * @param element the element
+     * @return "true" if the list contained the element, "false" otherwise
+     */
+    public boolean removeSameOrEqual(Object element) {
+        if (this.remove(element))
+            return true;
+
+        if (element == null)
+            return false;
+
+        // Looks for an equal element, as a copy of the removed one.
+        this.compact();
+        for (int slot = 0; slot < this.slots.size(); slot++) {
+            if (element.equals(this.slots.get(slot))) {
+                this.removeSlot(slot);
+                this.modCount++;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return this.index.containsKey(element);
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        if (!this.index.containsKey(element))
+            return -1;
+
+        this.compact();
+        return this.index.get(element)[0];
+    }
+
+    @Override
+    public void clear() {
+        this.slots.clear();
+        this.numberOfHoles = 0;
+        this.index.clear();
+        this.modCount++;
+    }
+
+    /**
+     * Appends an element without compacting the holes.
+     *
+     * @param element the element
+     */
+    private void append(ElementType element) {
+        this.slots.add(element);
+
+        int[] entry = this.index.get(element);
+        if (entry == null)
+            this.index.put(element, new int[]{this.slots.size() - 1, 1});
+        else
+            entry[1]++;
+    }
+
+    /**
+     * Leaves a hole in a slot.
+     *
+     * @param slot the slot
+     */
+    private void removeSlot(int slot) {
+        Object element = this.slots.set(slot, HOLE);
+        this.numberOfHoles++;
+        this.unindex(element, slot);
+    }
+
+    /**
+     * Removes an occurrence of an element from the index.
+     *
+     * @param element the element
+     * @param slot    the slot of the removed occurrence
+     */
+    private void unindex(Object element, int slot) {
+        int[] entry = this.index.get(element);
+
+        // Checks if it was the only occurrence.
+        if (entry[1] == 1) {
+            this.index.remove(element);
+            return;
+        }
+
+        entry[1]--;
+
+        // Searches the next occurrence, only for the elements added more than once.
+        if (entry[0] == slot) {
+            for (int i = slot + 1; i < this.slots.size(); i++) {
+                if (this.slots.get(i) == element) {
+                    entry[0] = i;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the elements over the holes, preserving the order.
+     */
+    private void compact() {
+        if (this.numberOfHoles == 0)
+            return;
+
+        int destination = 0;
+        for (int source = 0; source < this.slots.size(); source++) {
+            Object element = this.slots.get(source);
+            if (element == HOLE)
+                continue;
+
+            int[] entry = this.index.get(element);
+            if (entry[0] == source)
+                entry[0] = destination;
+
+            this.slots.set(destination, element);
+            destination++;
+        }
+
+        this.slots.subList(destination, this.slots.size()).clear();
+        this.numberOfHoles = 0;
+    }
+
+    /**
+     * Rebuilds the index from the slots, without holes.
+     */
+    private void reindex() {
+        this.index.clear();
+        for (int slot = 0; slot < this.slots.size(); slot++) {
+            Object element = this.slots.get(slot);
+            int[] entry = this.index.get(element);
+            if (entry == null)
+                this.index.put(element, new int[]{slot, 1});
+            else
+                entry[1]++;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package it.unisa.elephant56.util.common;
+
+import java.util.Random;
+
+/**
+ * Defines a roulette wheel over non-negative weights, built once in O(n) on a Fenwick tree of cumulative weights.
+ * <p>
+ * Every selection costs O(log n). The selection with replacement leaves the wheel unchanged, while the selection
+ * without replacement removes the selected slot, that can be restored later.
+ * <p>
+ * A selection returns the first slot whose cumulative weight reaches the drawn number, as a linear walk over the
+ * remaining slots would do.
+ */
+public class RouletteWheel {
+
+    private int size;
+    private double[] weights;
+    private double[] tree;
+    private boolean[] removed;
+    private int numberOfRemoved;
+    private int highestStep;
+
+    /**
+     * Constructs the wheel.
+     *
+     * @param weights the non-negative weights of the slots
+     */
+    public RouletteWheel(double[] weights) {
+        this.size = weights.length;
+        this.weights = weights.clone();
+        this.removed = new boolean[this.size];
+        this.numberOfRemoved = 0;
+
+        // Builds the tree in linear time.
+        this.tree = new double[this.size + 1];
+        for (int i = 1; i <= this.size; i++) {
+            this.tree[i] += this.weights[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= this.size)
+                this.tree[parent] += this.tree[i];
+        }
+
+        this.highestStep = Integer.highestOneBit(Math.max(this.size, 1));
+    }
+
+    /**
+     * Returns the number of slots not removed.
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        return this.size - this.numberOfRemoved;
+    }
+
+    /**
+     * Selects a slot with replacement.
+     *
+     * @param random      the random object
+     * @param totalWeight the total weight of the remaining slots, as tracked by the caller
+     * @return the selected slot
+     */
+    public int select(Random random, double totalWeight) {
+        return this.search(random.nextDouble() * totalWeight);
+    }
+
+    /**
+     * Selects a slot without replacement.
+     *
+     * @param random      the random object
+     * @param totalWeight the total weight of the remaining slots, as tracked by the caller
+     * @return the selected slot
+     */
+    public int selectAndRemove(Random random, double totalWeight) {
+        int slot = this.select(random, totalWeight);
+        this.remove(slot);
+        return slot;
+    }
+
+    /**
+     * Removes a slot from the wheel.
+     *
+     * @param slot the slot
+     */
+    public void remove(int slot) {
+        if (this.removed[slot])
+            return;
+
+        this.removed[slot] = true;
+        this.numberOfRemoved++;
+        this.update(slot, -this.weights[slot]);
+    }
+
+    /**
+     * Restores a removed slot.
+     *
+     * @param slot the slot
+     */
+    public void restore(int slot) {
+        if (!this.removed[slot])
+            return;
+
+        this.removed[slot] = false;
+        this.numberOfRemoved--;
+        this.update(slot, this.weights[slot]);
+    }
+
+    /**
+     * Returns the first remaining slot whose cumulative weight reaches the value.
+     *
+     * @param value the value
+     * @return the slot
+     */
+    private int search(double value) {
+        // The walk stops on the first remaining slot when the value is not positive.
+        if (value <= 0.0)
+            return this.firstRemainingSlot();
+
+        int position = 0;
+        double remainder = value;
+        for (int step = this.highestStep; step > 0; step >>= 1) {
+            int next = position + step;
+            if ((next <= this.size) && (this.tree[next] < remainder)) {
+                position = next;
+                remainder -= this.tree[next];
+            }
+        }
+
+        // The walk stops on the last remaining slot when the value is not reached, because of the rounding.
+        if ((position >= this.size) || this.removed[position])
+            return this.lastRemainingSlot(position);
+
+        return position;
+    }
+
+    private int firstRemainingSlot() {
+        for (int slot = 0; slot < this.size; slot++)
+            if (!this.removed[slot])
+                return slot;
+        return 0;
+    }
+
+    private int lastRemainingSlot(int from) {
+        for (int slot = Math.min(from, this.size - 1); slot >= 0; slot--)
+            if (!this.removed[slot])
+                return slot;
+        return this.firstRemainingSlot();
+    }
+
+    private void update(int slot, double delta) {
+        for (int i = slot + 1; i <= this.size; i += i & -i)
+            this.tree[i] += delta;
+    }
+}